@@ -1,8 +1,21 @@
 jest.mock('react-native', () => {
   const actual = jest.requireActual('react-native');
+  const listeners: { [event: string]: Array<(payload: any) => void> } = {};
   return {
     ...actual,
     findNodeHandle: jest.fn(),
+    DeviceEventEmitter: {
+      addListener: jest.fn((event: string, listener: (payload: any) => void) => {
+        listeners[event] = [...(listeners[event] || []), listener];
+        return {
+          remove: () => {
+            listeners[event] = listeners[event].filter((other) => other !== listener);
+          },
+        };
+      }),
+      emit: (event: string, payload: any) => (listeners[event] || []).forEach((listener) => listener(payload)),
+      listenerCount: (event: string) => (listeners[event] || []).length,
+    },
   };
 });
 
@@ -12,7 +25,7 @@ jest.mock('../src/ArchitectureDetector', () => ({
 
 import { PDFDocument } from '../src/document/PDFDocument';
 import { isNewArchitectureEnabled } from '../src/ArchitectureDetector';
-import { NativeModules, findNodeHandle } from 'react-native';
+import { DeviceEventEmitter, NativeModules, Platform, findNodeHandle } from 'react-native';
 import {
   ButtonFormElement,
   ChoiceFormElement,
@@ -60,6 +73,111 @@ describe('PDFDocument JS helpers', () => {
     await expect(doc.setPageIndex(10)).rejects.toBeInstanceOf(Error);
   });
 
+  test('getTextRectsForPages requests pages in order and reports each one when there is no bulk API', async () => {
+    const doc = new PDFDocument(5);
+    const getPageTextRects = jest.fn((_ref: number, pageIndex: number) =>
+      Promise.resolve([{ text: `word${pageIndex}`, frame: { x: 0, y: 0, width: 1, height: 1 } }])
+    );
+    (NativeModules.PDFDocumentManager as any).getPageTextRects = getPageTextRects;
+    const onPage = jest.fn();
+
+    const pages = await doc.getTextRectsForPages(1, 3, { onPage });
+
+    expect(getPageTextRects.mock.calls.map((call) => call[1])).toEqual([1, 2, 3]);
+    expect(pages.map((page) => page.pageIndex)).toEqual([1, 2, 3]);
+    expect(pages[2].textRects[0].text).toBe('word3');
+    expect(onPage).toHaveBeenCalledTimes(3);
+  });
+
+  describe('getTextRectsForPages on Android', () => {
+    const emitter = DeviceEventEmitter as any;
+    const manager = NativeModules.PDFDocumentManager as any;
+    const originalOS = Platform.OS;
+
+    const emitPage = (requestId: string, pageIndex: number) =>
+      emitter.emit('PDFDocumentTextRectsForPage', {
+        requestId,
+        pageIndex,
+        textRects: [{ text: `word${pageIndex}`, frame: { x: 0, y: 0, width: 1, height: 1 } }],
+      });
+
+    beforeEach(() => {
+      (Platform as any).OS = 'android';
+    });
+
+    afterEach(() => {
+      (Platform as any).OS = originalOS;
+      delete manager.getTextRectsForPages;
+      delete manager.cancelTextRectsForPages;
+    });
+
+    test('reports the pages of its own request as they complete and resolves sorted', async () => {
+      const doc = new PDFDocument(5);
+      manager.getTextRectsForPages = jest.fn((_ref: number, _start: number, _end: number, requestId: string) => {
+        emitPage(requestId, 2);
+        emitPage('another-request', 7);
+        emitPage(requestId, 0);
+        emitPage(requestId, 1);
+        return Promise.resolve(true);
+      });
+      const onPage = jest.fn();
+
+      const pages = await doc.getTextRectsForPages(0, 2, { onPage });
+
+      expect(manager.getTextRectsForPages).toHaveBeenCalledWith(999, 0, 2, expect.any(String));
+      expect(onPage.mock.calls.map((call) => call[0].pageIndex)).toEqual([2, 0, 1]);
+      expect(pages.map((page) => page.pageIndex)).toEqual([0, 1, 2]);
+      expect(pages[1].textRects[0].text).toBe('word1');
+      expect(emitter.listenerCount('PDFDocumentTextRectsForPage')).toBe(0);
+    });
+
+    test('cancels the native job when the signal is aborted', async () => {
+      const doc = new PDFDocument(5);
+      let rejectRequest: (error: Error) => void = () => {};
+      manager.getTextRectsForPages = jest.fn(
+        () => new Promise((_resolve, reject) => {
+          rejectRequest = reject;
+        })
+      );
+      manager.cancelTextRectsForPages = jest.fn(() => rejectRequest(new Error('Text extraction was cancelled')));
+      const controller = new AbortController();
+      const onPage = jest.fn();
+
+      const result = doc.getTextRectsForPages(0, 9, { onPage, signal: controller.signal });
+      const requestId = manager.getTextRectsForPages.mock.calls[0][3];
+      emitPage(requestId, 0);
+      controller.abort();
+
+      await expect(result).rejects.toThrow('cancelled');
+      expect(manager.cancelTextRectsForPages).toHaveBeenCalledWith(requestId);
+      expect(emitter.listenerCount('PDFDocumentTextRectsForPage')).toBe(0);
+      emitPage(requestId, 1);
+      expect(onPage).toHaveBeenCalledTimes(1);
+    });
+
+    test('cleans up after the native job fails', async () => {
+      const doc = new PDFDocument(5);
+      manager.getTextRectsForPages = jest.fn(() => Promise.reject(new Error('Document released')));
+      manager.cancelTextRectsForPages = jest.fn();
+      const controller = new AbortController();
+
+      await expect(doc.getTextRectsForPages(0, 1, { signal: controller.signal })).rejects.toThrow('Document released');
+      expect(emitter.listenerCount('PDFDocumentTextRectsForPage')).toBe(0);
+      controller.abort();
+      expect(manager.cancelTextRectsForPages).not.toHaveBeenCalled();
+    });
+
+    test('rejects without starting a native job when the signal is already aborted', async () => {
+      const doc = new PDFDocument(5);
+      manager.getTextRectsForPages = jest.fn();
+      const controller = new AbortController();
+      controller.abort();
+
+      await expect(doc.getTextRectsForPages(0, 1, { signal: controller.signal })).rejects.toThrow('cancelled');
+      expect(manager.getTextRectsForPages).not.toHaveBeenCalled();
+    });
+  });
+
   describe('createAnnotationInstance - Widget annotations with form elements', () => {
     let doc: PDFDocument;
     const mockPdfViewRef = { current: {} };
@@ -0,0 +1,79 @@
+/*
+ * AnnotationSerializationBenchmark.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import com.pspdfkit.react.events.PdfViewDataReturnedEvent
+import com.pspdfkit.react.helper.AnnotationUtils
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/**
+ * Serializes every annotation of a document, the work behind `getAnnotations` and the annotation
+ * events. [processAnnotation] builds a `JSONObject` and a `Map` tree per annotation, while
+ * [annotationToWritableMap] streams the Instant JSON straight into the bridge map. Besides the
+ * timings, androidx.benchmark reports the allocations per iteration, which is where the two paths
+ * differ most.
+ */
+@RunWith(Parameterized::class)
+class AnnotationSerializationBenchmark(private val annotationCount: Int) {
+
+    companion object {
+        @JvmStatic
+        @Parameterized.Parameters(name = "annotations={0}")
+        fun sizes() = SyntheticDocuments.SIZES
+    }
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private lateinit var fixture: SyntheticDocuments.Fixture
+
+    @Before
+    fun setUp() {
+        fixture = SyntheticDocuments.withAnnotations(annotationCount)
+    }
+
+    @Test
+    fun processAnnotation() {
+        val annotations = fixture.annotations
+        benchmarkRule.measureRepeated {
+            for (annotation in annotations) {
+                AnnotationUtils.processAnnotation(annotation)
+            }
+        }
+    }
+
+    @Test
+    fun annotationToWritableMap() {
+        val annotations = fixture.annotations
+        benchmarkRule.measureRepeated {
+            for (annotation in annotations) {
+                AnnotationUtils.annotationToWritableMap(annotation)
+            }
+        }
+    }
+
+    @Test
+    fun dataReturnedEvent() {
+        val annotations = fixture.annotations
+        benchmarkRule.measureRepeated {
+            PdfViewDataReturnedEvent(1, 1, annotations)
+        }
+    }
+}
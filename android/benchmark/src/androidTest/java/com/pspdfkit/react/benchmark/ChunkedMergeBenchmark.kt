@@ -0,0 +1,141 @@
+/*
+ * ChunkedMergeBenchmark.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.benchmark
+
+import android.app.Instrumentation
+import android.net.Uri
+import android.os.Bundle
+import android.os.Debug
+import android.os.SystemClock
+import android.util.Log
+import androidx.test.platform.app.InstrumentationRegistry
+import com.facebook.react.bridge.JavaOnlyArray
+import com.facebook.react.bridge.JavaOnlyMap
+import com.pspdfkit.document.PdfDocumentLoader
+import com.pspdfkit.document.processor.NewPage
+import com.pspdfkit.document.processor.PdfProcessor
+import com.pspdfkit.document.processor.PdfProcessorTask
+import com.pspdfkit.react.helper.ChunkedDocumentMerge
+import org.junit.Assert.assertEquals
+import org.junit.Before
+import org.junit.Test
+import java.io.File
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Merges [SOURCE_COUNT] documents at once, like `generatePDFFromDocuments` without `chunkSize`, and
+ * with [ChunkedDocumentMerge] for every size of [CHUNK_SIZES]. Each merge runs once: a merge is too
+ * long for androidx.benchmark's repeated measurements, and what matters here is its peak memory,
+ * sampled every [SAMPLE_INTERVAL_MS] as Java heap plus native heap above the level before the merge.
+ *
+ * The results are logged and reported as instrumentation status, which `am instrument -r` and the
+ * Gradle test output show.
+ */
+class ChunkedMergeBenchmark {
+
+    companion object {
+        private const val TAG = "ChunkedMergeBenchmark"
+        private const val SOURCE_COUNT = 50
+        private const val ANNOTATIONS_PER_SOURCE = 1_000
+        private const val SAMPLE_INTERVAL_MS = 5L
+        private val CHUNK_SIZES = listOf(25, 100, 250)
+    }
+
+    private class Measurement(val durationMs: Long, val peakBytes: Long)
+
+    private lateinit var sources: List<File>
+
+    @Before
+    fun setUp() {
+        sources = SyntheticDocuments.sourceFiles(ANNOTATIONS_PER_SOURCE, SOURCE_COUNT)
+    }
+
+    @Test
+    fun peakMemoryPerChunkSize() {
+        val context = SyntheticDocuments.context
+        val output = File(context.cacheDir, "benchmark-merge.pdf")
+        val totalPages = sources.sumOf { PdfDocumentLoader.openDocument(context, Uri.fromFile(it)).pageCount }
+        val report = StringBuilder("Merging $SOURCE_COUNT documents with $totalPages pages:\n")
+
+        val allAtOnce = measure {
+            output.delete()
+            val task = PdfProcessorTask.empty()
+            var pageIndex = 0
+            for (source in sources) {
+                val document = PdfDocumentLoader.openDocument(context, Uri.fromFile(source))
+                for (sourcePageIndex in 0 until document.pageCount) {
+                    task.addNewPage(NewPage.fromPage(document, sourcePageIndex).build(), pageIndex++)
+                }
+            }
+            PdfProcessor.processDocument(task, output)
+        }
+        assertEquals(totalPages, pageCount(output))
+        report.append(format("all at once", allAtOnce))
+
+        for (chunkSize in CHUNK_SIZES) {
+            val documents = JavaOnlyArray()
+            sources.forEach { documents.pushMap(JavaOnlyMap.of("documentPath", Uri.fromFile(it).toString())) }
+            val chunked = measure {
+                output.delete()
+                ChunkedDocumentMerge.merge(context, documents, chunkSize, output).blockingSubscribe()
+            }
+            assertEquals(totalPages, pageCount(output))
+            report.append(format("chunkSize=$chunkSize", chunked))
+        }
+
+        output.delete()
+        Log.i(TAG, report.toString())
+        InstrumentationRegistry.getInstrumentation().sendStatus(
+            0,
+            Bundle().apply { putString(Instrumentation.REPORT_KEY_STREAMRESULT, "$report\n") }
+        )
+    }
+
+    /** Runs [block] while sampling the memory in use, starting from a collected heap. */
+    private fun measure(block: () -> Unit): Measurement {
+        Runtime.getRuntime().gc()
+        Runtime.getRuntime().runFinalization()
+        Runtime.getRuntime().gc()
+        val baseline = usedBytes()
+        val peak = AtomicLong(baseline)
+        val running = AtomicBoolean(true)
+        val sampler = Thread {
+            while (running.get()) {
+                peak.accumulateAndGet(usedBytes()) { current, sample -> maxOf(current, sample) }
+                SystemClock.sleep(SAMPLE_INTERVAL_MS)
+            }
+        }.apply { start() }
+        val start = SystemClock.elapsedRealtime()
+        try {
+            block()
+        } finally {
+            running.set(false)
+            sampler.join()
+        }
+        val durationMs = SystemClock.elapsedRealtime() - start
+        return Measurement(durationMs, maxOf(peak.get(), usedBytes()) - baseline)
+    }
+
+    private fun usedBytes(): Long {
+        val runtime = Runtime.getRuntime()
+        return runtime.totalMemory() - runtime.freeMemory() + Debug.getNativeHeapAllocatedSize()
+    }
+
+    private fun pageCount(file: File) =
+        PdfDocumentLoader.openDocument(SyntheticDocuments.context, Uri.fromFile(file)).pageCount
+
+    private fun format(name: String, measurement: Measurement) =
+        "  $name: peak ${measurement.peakBytes / (1024 * 1024)} MiB, ${measurement.durationMs} ms\n"
+}
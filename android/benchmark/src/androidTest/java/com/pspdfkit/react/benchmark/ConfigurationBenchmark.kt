@@ -0,0 +1,98 @@
+/*
+ * ConfigurationBenchmark.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import com.facebook.react.bridge.JavaOnlyArray
+import com.facebook.react.bridge.JavaOnlyMap
+import com.pspdfkit.react.ANNOTATION_FREE_TEXT
+import com.pspdfkit.react.ANNOTATION_HIGHLIGHT
+import com.pspdfkit.react.ANNOTATION_INK_PEN
+import com.pspdfkit.react.ANNOTATION_NOTE
+import com.pspdfkit.react.ANNOTATION_SQUARE
+import com.pspdfkit.react.AVAILABLE_COLORS
+import com.pspdfkit.react.AnnotationConfigurationAdaptor
+import com.pspdfkit.react.ConfigurationAdapter
+import com.pspdfkit.react.DEFAULT_ALPHA
+import com.pspdfkit.react.DEFAULT_COLOR
+import com.pspdfkit.react.DEFAULT_TEXT_SIZE
+import com.pspdfkit.react.DEFAULT_THICKNESS
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+
+/**
+ * Converts the `configuration` and `annotationPresets` props of a view, which runs on the UI thread
+ * every time a `NutrientView` is created. The maps are plain Java maps, so only the wrapper's
+ * conversion is measured and not the bridge.
+ */
+class ConfigurationBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    @Before
+    fun setUp() {
+        SyntheticDocuments.initialize()
+    }
+
+    @Test
+    fun configurationAdapter() {
+        val context = SyntheticDocuments.context
+        val configuration = JavaOnlyMap.of(
+            "pageScrollDirection", "vertical",
+            "userInterfaceViewMode", "automatic",
+            "showThumbnailBar", "scrubberBar",
+            "scrollContinuously", true,
+            "pageTransition", "scrollContinuous",
+            "spreadFitting", "fit",
+            "startPage", 0.0,
+            "signatureSavingStrategy", "saveIfSelected",
+            "showSearchAction", true,
+            "showOutlineAction", true,
+            "showBookmarksAction", true,
+            "showAnnotationListAction", true,
+            "showPageLabels", true,
+            "enableAnnotationEditing", true,
+            "enableFormEditing", true,
+            "showShareAction", true,
+            "showPrintAction", true,
+            "enableTextSelection", true,
+            "pageMode", "automatic",
+            "firstPageAlwaysSingle", true,
+            "disableAutomaticSaving", false,
+            "editableAnnotationTypes", JavaOnlyArray.of("Ink", "Highlight", "Square", "FreeText", "Note")
+        )
+        benchmarkRule.measureRepeated {
+            ConfigurationAdapter(context, configuration).build()
+        }
+    }
+
+    @Test
+    fun convertAnnotationConfigurations() {
+        val context = SyntheticDocuments.context
+        val colors = JavaOnlyArray.of("#FF0000", "#00FF00", "#0000FF", "#000000")
+        val annotationConfigurations = JavaOnlyMap.of(
+            ANNOTATION_INK_PEN, JavaOnlyMap.of(DEFAULT_COLOR, "#FF0000", DEFAULT_THICKNESS, 4.0, DEFAULT_ALPHA, 0.8, AVAILABLE_COLORS, colors),
+            ANNOTATION_SQUARE, JavaOnlyMap.of(DEFAULT_COLOR, "#0000FF", DEFAULT_THICKNESS, 2.0, AVAILABLE_COLORS, colors),
+            ANNOTATION_HIGHLIGHT, JavaOnlyMap.of(DEFAULT_COLOR, "#FFFF00", DEFAULT_ALPHA, 0.5, AVAILABLE_COLORS, colors),
+            ANNOTATION_NOTE, JavaOnlyMap.of(DEFAULT_COLOR, "#FFA500", AVAILABLE_COLORS, colors),
+            ANNOTATION_FREE_TEXT, JavaOnlyMap.of(DEFAULT_COLOR, "#000000", DEFAULT_TEXT_SIZE, 14.0, AVAILABLE_COLORS, colors)
+        )
+        benchmarkRule.measureRepeated {
+            AnnotationConfigurationAdaptor.convertAnnotationConfigurations(context, annotationConfigurations)
+        }
+    }
+}
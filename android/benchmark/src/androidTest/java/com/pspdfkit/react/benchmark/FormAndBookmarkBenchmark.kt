@@ -0,0 +1,63 @@
+/*
+ * FormAndBookmarkBenchmark.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import com.pspdfkit.react.helper.BookmarkUtils
+import com.pspdfkit.react.helper.FormUtils
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/** Serializes the form elements and bookmarks of a document, as `getFormElements` and `getBookmarks` do. */
+@RunWith(Parameterized::class)
+class FormAndBookmarkBenchmark(private val annotationCount: Int) {
+
+    companion object {
+        @JvmStatic
+        @Parameterized.Parameters(name = "annotations={0}")
+        fun sizes() = SyntheticDocuments.SIZES
+    }
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private lateinit var fixture: SyntheticDocuments.Fixture
+
+    @Before
+    fun setUp() {
+        fixture = SyntheticDocuments.withAnnotations(annotationCount)
+    }
+
+    @Test
+    fun formElementToJSON() {
+        val formElements = fixture.formElements
+        benchmarkRule.measureRepeated {
+            for (formElement in formElements) {
+                FormUtils.formElementToJSON(formElement)
+            }
+        }
+    }
+
+    @Test
+    fun bookmarksToJSON() {
+        val bookmarks = fixture.bookmarks
+        benchmarkRule.measureRepeated {
+            BookmarkUtils.bookmarksToJSON(bookmarks)
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * SyntheticDocuments.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.benchmark
+
+import android.content.Context
+import android.graphics.PointF
+import android.graphics.RectF
+import android.net.Uri
+import androidx.test.platform.app.InstrumentationRegistry
+import com.facebook.react.soloader.OpenSourceMergedSoMapping
+import com.facebook.soloader.SoLoader
+import com.pspdfkit.Nutrient
+import com.pspdfkit.annotations.Annotation
+import com.pspdfkit.annotations.FreeTextAnnotation
+import com.pspdfkit.annotations.InkAnnotation
+import com.pspdfkit.annotations.NoteAnnotation
+import com.pspdfkit.annotations.SquareAnnotation
+import com.pspdfkit.bookmarks.Bookmark
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.PdfDocumentLoader
+import com.pspdfkit.document.processor.NewPage
+import com.pspdfkit.document.processor.PagePattern
+import com.pspdfkit.document.processor.PdfProcessor
+import com.pspdfkit.document.processor.PdfProcessorTask
+import com.pspdfkit.forms.FormElement
+import com.pspdfkit.forms.TextFormConfiguration
+import com.pspdfkit.initialization.CrossPlatformTechnology
+import com.pspdfkit.initialization.InitializationOptions
+import com.pspdfkit.utils.Size
+import java.io.File
+
+/**
+ * Generates the documents the benchmarks run on. Every document is built from blank pages with a
+ * fixed number of annotations, form fields and bookmarks at fixed positions, so that runs on
+ * different devices and commits measure the same content.
+ *
+ * Annotations cycle through notes, squares, free texts and inks, [ANNOTATIONS_PER_PAGE] per page.
+ * Documents are generated once per process and size.
+ */
+object SyntheticDocuments {
+
+    /** The sizes every parameterized benchmark runs with. */
+    @JvmField
+    val SIZES = listOf(10, 1_000, 10_000)
+
+    private const val ANNOTATIONS_PER_PAGE = 100
+    private const val COLUMNS = 10
+    private const val PAGE_WIDTH = 595f
+    private const val PAGE_HEIGHT = 842f
+
+    class Fixture(
+        val document: PdfDocument,
+        val annotations: List<Annotation>,
+        val formElements: List<FormElement>,
+        val bookmarks: List<Bookmark>
+    )
+
+    private val fixtures = HashMap<Int, Fixture>()
+
+    val context: Context
+        get() = InstrumentationRegistry.getInstrumentation().targetContext
+
+    /** Loads the React Native libraries that native bridge maps need and initializes Nutrient. */
+    @Synchronized
+    fun initialize() {
+        if (!SoLoader.isInitialized()) {
+            SoLoader.init(context, OpenSourceMergedSoMapping)
+        }
+        if (!Nutrient.isInitialized()) {
+            Nutrient.initialize(context, InitializationOptions("", emptyList(), CrossPlatformTechnology.ReactNative, null))
+        }
+    }
+
+    /** Returns a document with [count] annotations, [count] text form fields and [count] bookmarks. */
+    @Synchronized
+    fun withAnnotations(count: Int): Fixture {
+        initialize()
+        return fixtures.getOrPut(count) { generate(count) }
+    }
+
+    /**
+     * Returns [copies] separate files holding the document of [withAnnotations], so that a merge
+     * has to open each of them as its own source.
+     */
+    @Synchronized
+    fun sourceFiles(annotationCount: Int, copies: Int): List<File> {
+        withAnnotations(annotationCount)
+        val document = File(context.cacheDir, "benchmark-$annotationCount.pdf")
+        return (0 until copies).map { index ->
+            File(context.cacheDir, "benchmark-$annotationCount-source$index.pdf").also { copy ->
+                if (!copy.isFile) document.copyTo(copy)
+            }
+        }
+    }
+
+    private fun generate(count: Int): Fixture {
+        val pageCount = (count + ANNOTATIONS_PER_PAGE - 1) / ANNOTATIONS_PER_PAGE
+        val file = File(context.cacheDir, "benchmark-$count.pdf")
+        val task = PdfProcessorTask.empty()
+        for (pageIndex in 0 until pageCount) {
+            task.addNewPage(NewPage.patternPage(Size(PAGE_WIDTH, PAGE_HEIGHT), PagePattern.BLANK).build(), pageIndex)
+        }
+        PdfProcessor.processDocument(task, file)
+        val document = PdfDocumentLoader.openDocument(context, Uri.fromFile(file))
+
+        val annotations = ArrayList<Annotation>(count)
+        val formElements = ArrayList<FormElement>(count)
+        for (index in 0 until count) {
+            val annotation = createAnnotation(index)
+            document.annotationProvider.addAnnotationToPageAsync(annotation).blockingAwait()
+            annotations.add(annotation)
+        }
+        for (index in 0 until count) {
+            val configuration = TextFormConfiguration.Builder(index / ANNOTATIONS_PER_PAGE, cellRect(index, 0.5f))
+                .setText("Value $index")
+                .build()
+            formElements.add(document.formProvider.addFormElementToPage("field$index", configuration))
+        }
+        val bookmarks = (0 until count).map { index ->
+            Bookmark("bookmark-$index", "Bookmark $index", index % pageCount)
+        }
+        return Fixture(document, annotations, formElements, bookmarks)
+    }
+
+    private fun createAnnotation(index: Int): Annotation {
+        val pageIndex = index / ANNOTATIONS_PER_PAGE
+        val rect = cellRect(index, 0f)
+        val annotation = when (index % 4) {
+            0 -> NoteAnnotation(pageIndex, rect, "Note $index", NoteAnnotation.NOTE)
+            1 -> SquareAnnotation(pageIndex, rect)
+            2 -> FreeTextAnnotation(pageIndex, rect, "Free text $index")
+            else -> InkAnnotation(pageIndex).apply {
+                lines = listOf(listOf(
+                    PointF(rect.left, rect.bottom),
+                    PointF(rect.centerX(), rect.top),
+                    PointF(rect.right, rect.bottom)
+                ))
+            }
+        }
+        annotation.creator = "Benchmark"
+        annotation.name = "annotation$index"
+        return annotation
+    }
+
+    /** The rect of cell [index] in a grid of [COLUMNS] columns, [offset] cells lower for form fields. */
+    private fun cellRect(index: Int, offset: Float): RectF {
+        val cellIndex = index % ANNOTATIONS_PER_PAGE
+        val cellWidth = PAGE_WIDTH / COLUMNS
+        val cellHeight = PAGE_HEIGHT / (ANNOTATIONS_PER_PAGE / COLUMNS)
+        val left = (cellIndex % COLUMNS) * cellWidth
+        // PDF coordinates, the origin is at the bottom left.
+        val top = PAGE_HEIGHT - (cellIndex / COLUMNS + offset) * cellHeight
+        return RectF(left + 2, top - 2, left + cellWidth - 2, top - cellHeight / 2 + 2)
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * JsonConversionBenchmark.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+// In the package of JsonHelpers, which is package-private.
+package com.pspdfkit.react.common
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import com.pspdfkit.react.benchmark.SyntheticDocuments
+import com.pspdfkit.react.helper.JsonUtilities
+import org.json.JSONArray
+import org.json.JSONObject
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/**
+ * Converts a `JSONObject` holding the Instant JSON of every annotation of a document into a `Map`
+ * tree, with both JSON helpers of the wrapper.
+ */
+@RunWith(Parameterized::class)
+class JsonConversionBenchmark(private val annotationCount: Int) {
+
+    companion object {
+        @JvmStatic
+        @Parameterized.Parameters(name = "annotations={0}")
+        fun sizes() = SyntheticDocuments.SIZES
+    }
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private lateinit var json: JSONObject
+
+    @Before
+    fun setUp() {
+        val annotations = JSONArray()
+        for (annotation in SyntheticDocuments.withAnnotations(annotationCount).annotations) {
+            annotations.put(JSONObject(annotation.toInstantJson()))
+        }
+        json = JSONObject().put("annotations", annotations)
+    }
+
+    @Test
+    fun jsonObjectToMap() {
+        benchmarkRule.measureRepeated {
+            JsonUtilities.jsonObjectToMap(json)
+        }
+    }
+
+    @Test
+    fun jsonHelpersToMap() {
+        benchmarkRule.measureRepeated {
+            JsonHelpers.toMap(json)
+        }
+    }
+}
@@ -106,13 +106,12 @@ class AnnotationConfigurationAdaptor {
 
     companion object {
 
-        private val configurationsList:MutableList<ReactAnnotationPresetConfiguration> = mutableListOf()
-
         @JvmStatic
         fun convertAnnotationConfigurations(
             context: Context, annotationConfigurations: ReadableMap
         ): List<ReactAnnotationPresetConfiguration> {
 
+            val configurationsList = mutableListOf<ReactAnnotationPresetConfiguration>()
             val iterator = annotationConfigurations.keySetIterator()
 
             while (iterator.hasNextKey()) {
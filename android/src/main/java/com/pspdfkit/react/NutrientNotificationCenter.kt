@@ -17,8 +17,11 @@ import com.pspdfkit.forms.EditableButtonFormElement
 import com.pspdfkit.forms.FormElement
 import com.pspdfkit.forms.FormField
 import com.pspdfkit.forms.TextFormElement
+import com.pspdfkit.react.helper.AnnotationChangeSnapshot
 import com.pspdfkit.react.helper.AnnotationUtils
 import com.pspdfkit.react.helper.BookmarkUtils
+import com.pspdfkit.views.ViewPerformanceMonitor
+import java.util.concurrent.ConcurrentHashMap
 
 class CustomAnalyticsClient: AnalyticsClient {
     override fun onEvent(name: String, data: Bundle?) {
@@ -44,13 +47,19 @@ enum class NotificationEvent(val value: String) {
     FORM_FIELD_SELECTED("formFieldSelected"),
     FORM_FIELD_DESELECTED("formFieldDeselected"),
     ANALYTICS("analytics"),
-    BOOKMARKS_CHANGED("bookmarksChanged");
+    BOOKMARKS_CHANGED("bookmarksChanged"),
+    PERFORMANCE_REPORT("performanceReport");
 }
 
 object NutrientNotificationCenter {
     private var internalReactContext: ReactContext? = null
-    private var isInUse = false
     private var isNewArchitectureEnabled: Boolean = false
+
+    /**
+     * Active JS listeners, keyed by event name and then by component ID, with a count per pair.
+     * Emitters check this before doing any work so events nobody listens to are never serialized.
+     */
+    private val subscriptions = ConcurrentHashMap<String, ConcurrentHashMap<Int, Int>>()
     interface Delegate {
         fun onEvent(eventName: String, payload: WritableMap)
     }
@@ -61,12 +70,45 @@ object NutrientNotificationCenter {
         internalReactContext = ctx
     }
 
-    fun setIsNotificationCenterInUse(inUse: Boolean) {
-        isInUse = inUse
+    fun addSubscription(event: String, componentID: Int) {
+        subscriptions
+            .computeIfAbsent(event) { ConcurrentHashMap() }
+            .merge(componentID, 1) { count, increment -> count + increment }
+        if (event == NotificationEvent.PERFORMANCE_REPORT.value) ViewPerformanceMonitor.onSubscriptionsChanged()
+    }
+
+    fun removeSubscription(event: String, componentID: Int) {
+        subscriptions.computeIfPresent(event) { _, components ->
+            components.computeIfPresent(componentID) { _, count -> if (count > 1) count - 1 else null }
+            if (components.isEmpty()) null else components
+        }
+        if (event == NotificationEvent.PERFORMANCE_REPORT.value) ViewPerformanceMonitor.onSubscriptionsChanged()
+    }
+
+    /** Returns whether JS listens to [event] on the component with [componentID]. */
+    fun isSubscribed(event: NotificationEvent, componentID: Int): Boolean {
+        return subscriptions[event.value]?.containsKey(componentID) == true
     }
 
+    /** Returns whether JS listens to [event] on any component. */
+    fun isSubscribed(event: NotificationEvent): Boolean {
+        return subscriptions[event.value]?.isNotEmpty() == true
+    }
+
+    /** Returns whether JS listens to any event on any component. */
     fun getIsNotificationCenterInUse(): Boolean {
-        return isInUse
+        return subscriptions.isNotEmpty()
+    }
+
+    /**
+     * Removes every listener. Called when the native module is invalidated, as JS doesn't remove its
+     * listeners when it is reloaded and the counts would otherwise carry over to the next instance.
+     */
+    fun clearSubscriptions() {
+        val hadAnalyticsListeners = isSubscribed(NotificationEvent.ANALYTICS)
+        subscriptions.clear()
+        if (hadAnalyticsListeners) analyticsDisabled()
+        ViewPerformanceMonitor.onSubscriptionsChanged()
     }
 
     fun setIsNewArchitectureEnabled(enabled: Boolean) {
@@ -77,10 +119,17 @@ object NutrientNotificationCenter {
         delegate = newDelegate
     }
 
+    /**
+     * Sends [params] to JS. [startNanos] is when building the payload started, the time until it
+     * was sent is recorded by the view's [ViewPerformanceMonitor]; negative values skip recording.
+     */
     private fun sendEvent(
         eventName: String,
-        params: WritableMap
+        params: WritableMap,
+        startNanos: Long = System.nanoTime()
     ) {
+        // The payload is consumed once it's sent, so the component is read before.
+        val componentID = if (startNanos >= 0 && params.hasKey("componentID")) params.getInt("componentID") else null
         if (isNewArchitectureEnabled && delegate != null) {
             delegate?.onEvent(eventName, params)
         } else {
@@ -88,6 +137,9 @@ object NutrientNotificationCenter {
                 ?.getJSModule(ReactContext.RCTDeviceEventEmitter::class.java)
                 ?.emit(eventName, params)
         }
+        if (componentID != null) {
+            ViewPerformanceMonitor.recordEvent(componentID, System.nanoTime() - startNanos)
+        }
     }
 
     private fun createEventPayload(jsonData: WritableMap, componentID: Int): WritableMap {
@@ -97,33 +149,47 @@ object NutrientNotificationCenter {
         return payload
     }
 
-    fun documentLoaded(documentID: String, componentID: Int) {
+    /** [timings] is the breakdown of the load, see [com.pspdfkit.views.DocumentLoadTimeline]. */
+    fun documentLoaded(documentID: String, timings: WritableMap?, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.DOCUMENT_LOADED, componentID)) return
+        val startNanos = System.nanoTime()
+
         val jsonData = Arguments.createMap()
         jsonData.putString("event", NotificationEvent.DOCUMENT_LOADED.value)
         jsonData.putString("documentID", documentID)
+        if (timings != null) jsonData.putMap("timings", timings)
         val payload = createEventPayload(jsonData, componentID)
-        sendEvent(NotificationEvent.DOCUMENT_LOADED.value, payload)
+        sendEvent(NotificationEvent.DOCUMENT_LOADED.value, payload, startNanos)
     }
 
     fun documentLoadFailed(code: String, message: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.DOCUMENT_LOAD_FAILED, componentID)) return
+        val startNanos = System.nanoTime()
+
         val jsonData = Arguments.createMap()
         jsonData.putString("event", NotificationEvent.DOCUMENT_LOAD_FAILED.value)
         jsonData.putString("code", code)
         jsonData.putString("message", message)
         val payload = createEventPayload(jsonData, componentID)
-        sendEvent(NotificationEvent.DOCUMENT_LOAD_FAILED.value, payload)
+        sendEvent(NotificationEvent.DOCUMENT_LOAD_FAILED.value, payload, startNanos)
     }
 
     fun documentPageChanged(pageIndex: Int, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.DOCUMENT_PAGE_CHANGED, componentID)) return
+        val startNanos = System.nanoTime()
+
         val jsonData = Arguments.createMap()
         jsonData.putString("event", NotificationEvent.DOCUMENT_PAGE_CHANGED.value)
         jsonData.putInt("pageIndex", pageIndex)
         jsonData.putString("documentID", documentID)
         val payload = createEventPayload(jsonData, componentID)
-        sendEvent(NotificationEvent.DOCUMENT_PAGE_CHANGED.value, payload)
+        sendEvent(NotificationEvent.DOCUMENT_PAGE_CHANGED.value, payload, startNanos)
     }
 
     fun documentScrolled(scrollData: Map<String, Int>, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.DOCUMENT_SCROLLED, componentID)) return
+        val startNanos = System.nanoTime()
+
         val jsonData = Arguments.createMap()
         val scrollDataMap = Arguments.createMap()
         scrollData.forEach { (key, value) ->
@@ -133,7 +199,7 @@ object NutrientNotificationCenter {
         jsonData.putMap("scrollData", scrollDataMap)
         jsonData.putString("documentID", documentID)
         val payload = createEventPayload(jsonData, componentID)
-        sendEvent(NotificationEvent.DOCUMENT_SCROLLED.value, payload)
+        sendEvent(NotificationEvent.DOCUMENT_SCROLLED.value, payload, startNanos)
     }
 
     fun documentViewportChanged(
@@ -146,6 +212,9 @@ object NutrientNotificationCenter {
         documentID: String,
         componentID: Int
     ) {
+        if (!isSubscribed(NotificationEvent.DOCUMENT_VIEWPORT_CHANGED, componentID)) return
+        val startNanos = System.nanoTime()
+
         val jsonData = Arguments.createMap()
         jsonData.putString("event", NotificationEvent.DOCUMENT_VIEWPORT_CHANGED.value)
         jsonData.putInt("pageIndex", pageIndex)
@@ -170,10 +239,13 @@ object NutrientNotificationCenter {
 
         jsonData.putString("documentID", documentID)
         val payload = createEventPayload(jsonData, componentID)
-        sendEvent(NotificationEvent.DOCUMENT_VIEWPORT_CHANGED.value, payload)
+        sendEvent(NotificationEvent.DOCUMENT_VIEWPORT_CHANGED.value, payload, startNanos)
     }
 
     fun didTapDocument(pointF: PointF, pageIndex: Int, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.DOCUMENT_TAPPED, componentID)) return
+        val startNanos = System.nanoTime()
+
         try {
             val pointMap = mapOf("x" to pointF.x, "y" to pointF.y)
             val nativePointMap = Arguments.makeNativeMap(pointMap)
@@ -184,71 +256,51 @@ object NutrientNotificationCenter {
             jsonData.putInt("pageIndex", pageIndex)
             jsonData.putString("documentID", documentID)
             val payload = createEventPayload(jsonData, componentID)
-            sendEvent(NotificationEvent.DOCUMENT_TAPPED.value, payload)
+            sendEvent(NotificationEvent.DOCUMENT_TAPPED.value, payload, startNanos)
         } catch (e: Exception) {
             // Could not decode point data
         }
     }
 
-    fun annotationsChanged(changeType: String, annotation: Annotation, documentID: String, componentID: Int) {
-        when (changeType) {
-            "changed" -> {
-                try {
-                    val annotationsList = mutableListOf<Map<String, Any>>()
-                    val annotationMap = AnnotationUtils.processAnnotation(annotation)
-                    annotationsList.add(annotationMap)
-                    val nativeAnnotationsList = Arguments.makeNativeArray(annotationsList)
-
-                    val jsonData = Arguments.createMap()
-                    jsonData.putString("event", NotificationEvent.ANNOTATION_CHANGED.value)
-                    jsonData.putArray("annotations", nativeAnnotationsList)
-                    jsonData.putString("documentID", documentID)
-                    val payload = createEventPayload(jsonData, componentID)
-                    sendEvent(NotificationEvent.ANNOTATION_CHANGED.value, payload)
-                } catch (e: Exception) {
-                    // Could not decode annotation data
-                }
-            }
-            "removed" -> {
-                // Only emit event if annotation has a name and creator
-                if (annotation.name != null && annotation.creator != null) {
-                    val annotationsList = mutableListOf<Map<String, Any>>()
-                    val annotationMap = HashMap<String, String>()
-                    annotation.name?.let { annotationMap["name"] = it }
-                    annotation.creator?.let { annotationMap["creatorName"] = it }
-                    annotationMap["uuid"] = annotation.uuid
-                    annotationsList.add(annotationMap)
-                    val nativeAnnotationsList = Arguments.makeNativeArray(annotationsList)
-
-                    val jsonData = Arguments.createMap()
-                    jsonData.putString("event", NotificationEvent.ANNOTATIONS_REMOVED.value)
-                    jsonData.putArray("annotations", nativeAnnotationsList)
-                    jsonData.putString("documentID", documentID)
-                    val payload = createEventPayload(jsonData, componentID)
-                    sendEvent(NotificationEvent.ANNOTATIONS_REMOVED.value, payload)
-                }
-            }
-            "added" -> {
-                try {
-                    val annotationsList = mutableListOf<Map<String, Any>>()
-                    val annotationMap = AnnotationUtils.processAnnotation(annotation)
-                    annotationsList.add(annotationMap)
-                    val nativeAnnotationsList = Arguments.makeNativeArray(annotationsList)
-
-                    val jsonData = Arguments.createMap()
-                    jsonData.putString("event", NotificationEvent.ANNOTATIONS_ADDED.value)
-                    jsonData.putArray("annotations", nativeAnnotationsList)
-                    jsonData.putString("documentID", documentID)
-                    val payload = createEventPayload(jsonData, componentID)
-                    sendEvent(NotificationEvent.ANNOTATIONS_ADDED.value, payload)
-                } catch (e: Exception) {
-                    // Could not decode annotation data
-                }
+    fun annotationsChanged(changeType: String, snapshots: List<AnnotationChangeSnapshot>, documentID: String, componentID: Int) {
+        val event = annotationsChangedEvent(changeType) ?: return
+        if (!isSubscribed(event, componentID)) return
+        val startNanos = System.nanoTime()
+
+        try {
+            val annotationsList = Arguments.createArray()
+            for (snapshot in snapshots) {
+                // Only emit removals if the annotation has a name and creator
+                if (snapshot.isRemoval && (snapshot.name == null || snapshot.creator == null)) continue
+                annotationsList.pushMap(snapshot.newAnnotationMap())
             }
+            if (annotationsList.size() == 0) return
+
+            val jsonData = Arguments.createMap()
+            jsonData.putString("event", event.value)
+            jsonData.putArray("annotations", annotationsList)
+            jsonData.putString("documentID", documentID)
+            val payload = createEventPayload(jsonData, componentID)
+            sendEvent(event.value, payload, startNanos)
+        } catch (e: Exception) {
+            // Could not decode annotation data
+        }
+    }
+
+    /** Maps the change types used by the annotation listeners to their Notification Center event. */
+    fun annotationsChangedEvent(changeType: String): NotificationEvent? {
+        return when (changeType) {
+            "added" -> NotificationEvent.ANNOTATIONS_ADDED
+            "changed" -> NotificationEvent.ANNOTATION_CHANGED
+            "removed" -> NotificationEvent.ANNOTATIONS_REMOVED
+            else -> null
         }
     }
 
     fun bookmarksChanged(bookmarks: List<Bookmark>, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.BOOKMARKS_CHANGED, componentID)) return
+        val startNanos = System.nanoTime()
+
         try {
             val bookmarksJSON = BookmarkUtils.bookmarksToJSON(bookmarks)
 
@@ -257,52 +309,56 @@ object NutrientNotificationCenter {
             jsonData.putArray("bookmarks", Arguments.makeNativeArray(bookmarksJSON))
             jsonData.putString("documentID", documentID)
             val payload = createEventPayload(jsonData, componentID)
-            sendEvent(NotificationEvent.BOOKMARKS_CHANGED.value, payload)
+            sendEvent(NotificationEvent.BOOKMARKS_CHANGED.value, payload, startNanos)
         } catch (e: Exception) {
             // Could not decode bookmark data
         }
     }
 
     fun didSelectAnnotations(annotation: Annotation, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.ANNOTATIONS_SELECTED, componentID)) return
+        val startNanos = System.nanoTime()
+
         try {
-            val annotationsList = mutableListOf<Map<String, Any>>()
-            val annotationMap = AnnotationUtils.processAnnotation(annotation)
-            annotationsList.add(annotationMap)
-            val nativeAnnotationsList = Arguments.makeNativeArray(annotationsList)
+            val nativeAnnotationsList = Arguments.createArray()
+            nativeAnnotationsList.pushMap(AnnotationUtils.annotationToWritableMap(annotation))
 
             val jsonData = Arguments.createMap()
             jsonData.putString("event", NotificationEvent.ANNOTATIONS_SELECTED.value)
             jsonData.putArray("annotations", nativeAnnotationsList)
             jsonData.putString("documentID", documentID)
             val payload = createEventPayload(jsonData, componentID)
-            sendEvent(NotificationEvent.ANNOTATIONS_SELECTED.value, payload)
+            sendEvent(NotificationEvent.ANNOTATIONS_SELECTED.value, payload, startNanos)
         } catch (e: Exception) {
             // Could not decode annotation data
         }
     }
 
     fun didDeselectAnnotations(annotation: Annotation, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.ANNOTATIONS_DESELECTED, componentID)) return
+        val startNanos = System.nanoTime()
+
         try {
-            val annotationsList = mutableListOf<Map<String, Any>>()
-            val annotationMap = AnnotationUtils.processAnnotation(annotation)
-            annotationsList.add(annotationMap)
-            val nativeAnnotationsList = Arguments.makeNativeArray(annotationsList)
+            val nativeAnnotationsList = Arguments.createArray()
+            nativeAnnotationsList.pushMap(AnnotationUtils.annotationToWritableMap(annotation))
 
             val jsonData = Arguments.createMap()
             jsonData.putString("event", NotificationEvent.ANNOTATIONS_DESELECTED.value)
             jsonData.putArray("annotations", nativeAnnotationsList)
             jsonData.putString("documentID", documentID)
             val payload = createEventPayload(jsonData, componentID)
-            sendEvent(NotificationEvent.ANNOTATIONS_DESELECTED.value, payload)
+            sendEvent(NotificationEvent.ANNOTATIONS_DESELECTED.value, payload, startNanos)
         } catch (e: Exception) {
             // Could not decode annotation data
         }
     }
 
     fun didTapAnnotation(annotation: Annotation, pointF: PointF, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.ANNOTATION_TAPPED, componentID)) return
+        val startNanos = System.nanoTime()
+
         try {
-            val annotationMap = AnnotationUtils.processAnnotation(annotation)
-            val nativeAnnotationMap = Arguments.makeNativeMap(annotationMap)
+            val nativeAnnotationMap = AnnotationUtils.annotationToWritableMap(annotation)
 
             val pointMap = mapOf("x" to pointF.x, "y" to pointF.y)
             val nativePointMap = Arguments.makeNativeMap(pointMap)
@@ -313,72 +369,88 @@ object NutrientNotificationCenter {
             jsonData.putMap("annotationPoint", nativePointMap)
             jsonData.putString("documentID", documentID)
             val payload = createEventPayload(jsonData, componentID)
-            sendEvent(NotificationEvent.ANNOTATION_TAPPED.value, payload)
+            sendEvent(NotificationEvent.ANNOTATION_TAPPED.value, payload, startNanos)
         } catch (e: Exception) {
             // Could not decode annotation data
         }
     }
 
     fun didSelectText(text: String, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.TEXT_SELECTED, componentID)) return
+        val startNanos = System.nanoTime()
+
         val jsonData = Arguments.createMap()
         jsonData.putString("event", NotificationEvent.TEXT_SELECTED.value)
         jsonData.putString("text", text)
         jsonData.putString("documentID", documentID)
         val payload = createEventPayload(jsonData, componentID)
-        sendEvent(NotificationEvent.TEXT_SELECTED.value, payload)
+        sendEvent(NotificationEvent.TEXT_SELECTED.value, payload, startNanos)
     }
 
     fun formFieldValuesUpdated(formField: FormField, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.FORM_FIELD_VALUES_UPDATED, componentID)) return
+        val startNanos = System.nanoTime()
+
         try {
             val annotation = formField.formElement.annotation
-            val annotationMap = AnnotationUtils.processAnnotation(annotation).toMutableMap()
-            val nativeAnnotationMap = Arguments.makeNativeMap(annotationMap)
+            val nativeAnnotationMap = AnnotationUtils.annotationToWritableMap(annotation)
 
             val jsonData = Arguments.createMap()
             jsonData.putString("event", NotificationEvent.FORM_FIELD_VALUES_UPDATED.value)
             jsonData.putMap("formField", nativeAnnotationMap)
             jsonData.putString("documentID", documentID)
             val payload = createEventPayload(jsonData, componentID)
-            sendEvent(NotificationEvent.FORM_FIELD_VALUES_UPDATED.value, payload)
+            sendEvent(NotificationEvent.FORM_FIELD_VALUES_UPDATED.value, payload, startNanos)
         } catch (e: Exception) {
             // Could not decode annotation data
         }
     }
 
     fun didSelectFormField(formElement: FormElement, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.FORM_FIELD_SELECTED, componentID)) return
+        val startNanos = System.nanoTime()
+
         try {
             val annotation = formElement.annotation
-            val annotationMap = AnnotationUtils.processAnnotation(annotation).toMutableMap()
-
-            val nativeAnnotationMap = Arguments.makeNativeMap(annotationMap)
+            val nativeAnnotationMap = AnnotationUtils.annotationToWritableMap(annotation)
             val jsonData = Arguments.createMap()
             jsonData.putString("event", NotificationEvent.FORM_FIELD_SELECTED.value)
             jsonData.putMap("annotation", nativeAnnotationMap)
             jsonData.putString("documentID", documentID)
             val payload = createEventPayload(jsonData, componentID)
-            sendEvent(NotificationEvent.FORM_FIELD_SELECTED.value, payload)
+            sendEvent(NotificationEvent.FORM_FIELD_SELECTED.value, payload, startNanos)
         } catch (e: Exception) {
             // Could not decode annotation data
         }
     }
 
     fun didDeSelectFormField(formElement: FormElement, documentID: String, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.FORM_FIELD_DESELECTED, componentID)) return
+        val startNanos = System.nanoTime()
+
         try {
             val annotation = formElement.annotation
-            val annotationMap = AnnotationUtils.processAnnotation(annotation).toMutableMap()
-
-            val nativeAnnotationMap = Arguments.makeNativeMap(annotationMap)
+            val nativeAnnotationMap = AnnotationUtils.annotationToWritableMap(annotation)
             val jsonData = Arguments.createMap()
             jsonData.putString("event", NotificationEvent.FORM_FIELD_DESELECTED.value)
             jsonData.putMap("annotation", nativeAnnotationMap)
             jsonData.putString("documentID", documentID)
             val payload = createEventPayload(jsonData, componentID)
-            sendEvent(NotificationEvent.FORM_FIELD_DESELECTED.value, payload)
+            sendEvent(NotificationEvent.FORM_FIELD_DESELECTED.value, payload, startNanos)
         } catch (e: Exception) {
             // Could not decode annotation data
         }
     }
 
+    fun performanceReport(report: WritableMap, componentID: Int) {
+        if (!isSubscribed(NotificationEvent.PERFORMANCE_REPORT, componentID)) return
+
+        report.putString("event", NotificationEvent.PERFORMANCE_REPORT.value)
+        val payload = createEventPayload(report, componentID)
+        // Not passed to the monitor, reports would count themselves.
+        sendEvent(NotificationEvent.PERFORMANCE_REPORT.value, payload, -1)
+    }
+
     fun analyticsEnabled() {
         Nutrient.addAnalyticsClient(customAnalyticsClient)
     }
@@ -388,6 +460,8 @@ object NutrientNotificationCenter {
     }
 
     fun analyticsReceived(event: String, attributes: Bundle?) {
+        if (!isSubscribed(NotificationEvent.ANALYTICS)) return
+
         val jsonData = Arguments.createMap()
         val attributesMap = Arguments.createMap()
         if (attributes != null) {
@@ -10,8 +10,10 @@ import com.facebook.react.bridge.ReactMethod
 import com.facebook.react.bridge.ReadableArray
 import com.facebook.react.bridge.ReadableMap
 import com.facebook.react.bridge.ReadableType
+import com.facebook.react.bridge.WritableArray
 import com.facebook.react.bridge.WritableMap
 import com.facebook.react.module.annotations.ReactModule
+import com.facebook.react.modules.core.DeviceEventManagerModule
 import com.pspdfkit.LicenseFeature
 import com.pspdfkit.Nutrient
 import com.pspdfkit.annotations.Annotation
@@ -31,29 +33,42 @@ import com.pspdfkit.forms.SignatureFormConfiguration
 import com.pspdfkit.forms.TextFormConfiguration
 import com.pspdfkit.internal.jni.NativeFormFlags
 import android.graphics.RectF
+import com.pspdfkit.react.helper.AnnotationIndex
 import com.pspdfkit.react.helper.AnnotationUtils
 import com.pspdfkit.react.helper.BookmarkUtils
+import com.pspdfkit.react.helper.BridgeMetrics
 import com.pspdfkit.react.helper.ConversionHelpers.getAnnotationTypes
 import com.pspdfkit.react.helper.DocumentJsonDataProvider
 import com.pspdfkit.react.helper.FormUtils
 import com.pspdfkit.react.helper.JsonUtilities
+import com.pspdfkit.react.helper.PageTextRects
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
 import io.reactivex.rxjava3.schedulers.Schedulers
 import org.json.JSONObject
+import java.io.ByteArrayInputStream
 import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.io.InputStreamReader
 import java.util.EnumSet
 import androidx.core.graphics.toColorInt
 import java.lang.ref.WeakReference
 import com.pspdfkit.views.PdfView
 import com.pspdfkit.ui.PdfFragment
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.CoroutineStart
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.SupervisorJob
 import kotlinx.coroutines.cancel
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.rx3.awaitFirst
 import kotlinx.coroutines.withContext
 import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.coroutines.CoroutineContext
+import kotlin.coroutines.EmptyCoroutineContext
 
 data class DocumentData(
     val document: PdfDocument,
@@ -74,6 +89,15 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
     }
 
     private val documents = ConcurrentHashMap<Int, DocumentData>()
+
+    /** Parent jobs of the text extractions running per document reference, cancelled on release. */
+    private val textGeometryJobs = ConcurrentHashMap<Int, Job>()
+
+    /** Running `getTextRectsForPages` requests by their JS request ID. */
+    private val textGeometryRequests = ConcurrentHashMap<String, Job>()
+
+    /** UUID and name indexes of the annotations per document reference, created on first lookup. */
+    private val annotationIndexes = ConcurrentHashMap<Int, AnnotationIndex>()
     private val documentConfigurations = ConcurrentHashMap<Int, MutableMap<String, Any>>()
 
     override fun getName(): String {
@@ -84,38 +108,21 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         return this.documents[reference]
     }
 
-    @ReactMethod fun setAnnotationFlags(reference: Int, uuid: String, flags: ReadableArray, promise: Promise) {
+    @ReactMethod fun setAnnotationFlags(reference: Int, uuid: String, flags: ReadableArray, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("setAnnotationFlags", jsPromise, flags)
         val document = this.getDocument(reference)?.document
         if (document == null) {
             promise.reject("setAnnotationFlags", "Document is nil")
             return
         }
-        scope.launch {
+        launchCall(promise) {
             try {
-                val allAnnotations = withContext(Dispatchers.Default) {
-                    document.annotationProvider.getAllAnnotationsOfType(EnumSet.allOf(AnnotationType::class.java))
-                }
-                var foundAnnotation: Annotation? = null
-                for (annotation in allAnnotations) {
-                    if (annotation.uuid == uuid || (annotation.name != null && annotation.name == uuid)) {
-                        val convertedFlags = com.pspdfkit.react.helper.ConversionHelpers.getAnnotationFlags(flags)
-                        annotation.flags = convertedFlags
-                        foundAnnotation = annotation
-                        break
-                    }
+                val foundAnnotation = withContext(Dispatchers.Default) {
+                    annotationIndex(reference, document).find(uuid, uuid)
                 }
                 if (foundAnnotation != null) {
-                    val docData = this@PDFDocumentModule.getDocument(reference)
-                    val pdfView = docData?.pdfViewRef?.get()
-                    if (pdfView != null) {
-                        pdfView.getPdfFragment()
-                            .take(1)
-                            .observeOn(AndroidSchedulers.mainThread())
-                            .subscribe(
-                                { pdfFragment -> pdfFragment.notifyAnnotationHasChanged(foundAnnotation!!) },
-                                { /* Ignore errors if fragment is not available */ }
-                            )
-                    }
+                    foundAnnotation.flags = com.pspdfkit.react.helper.ConversionHelpers.getAnnotationFlags(flags)
+                    notifyAnnotationsChanged(reference, listOf(foundAnnotation))
                 }
                 promise.resolve(foundAnnotation != null)
             } catch (e: Throwable) {
@@ -124,25 +131,21 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getAnnotationFlags(reference: Int, uuid: String, promise: Promise) {
+    @ReactMethod fun getAnnotationFlags(reference: Int, uuid: String, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getAnnotationFlags", jsPromise, null)
         val document = this.getDocument(reference)?.document
         if (document == null) {
             promise.reject("getAnnotationFlags", "Document is nil")
             return
         }
-        scope.launch {
+        launchCall(promise) {
             try {
-                val allAnnotations = withContext(Dispatchers.Default) {
-                    document.annotationProvider.getAllAnnotationsOfType(EnumSet.allOf(AnnotationType::class.java))
-                }
-                var convertedFlags = ArrayList<String>()
-                for (annotation in allAnnotations) {
-                    if (annotation.uuid == uuid || (annotation.name != null && annotation.name == uuid)) {
-                        val flags = annotation.flags
-                        convertedFlags = com.pspdfkit.react.helper.ConversionHelpers.convertAnnotationFlags(flags)
-                        break
-                    }
+                val annotation = withContext(Dispatchers.Default) {
+                    annotationIndex(reference, document).find(uuid, uuid)
                 }
+                val convertedFlags = annotation?.let {
+                    com.pspdfkit.react.helper.ConversionHelpers.convertAnnotationFlags(it.flags)
+                } ?: ArrayList<String>()
                 promise.resolve(Arguments.makeNativeArray(convertedFlags))
             } catch (e: Throwable) {
                 promise.reject("getAnnotationFlags", e)
@@ -150,6 +153,40 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
+    /**
+     * Launches [block] on [scope] for the call that settles [promise]. The time until it runs is
+     * recorded as the call's queue wait while [BridgeMetrics] is enabled.
+     */
+    private fun launchCall(
+        promise: Promise,
+        context: CoroutineContext = EmptyCoroutineContext,
+        start: CoroutineStart = CoroutineStart.DEFAULT,
+        block: suspend CoroutineScope.() -> Unit
+    ): Job {
+        return scope.launch(context, start) {
+            BridgeMetrics.markStarted(promise)
+            block()
+        }
+    }
+
+    private fun textGeometryJob(reference: Int): Job {
+        return textGeometryJobs.compute(reference) { _, existing ->
+            if (existing != null && existing.isActive) existing else SupervisorJob(job)
+        }!!
+    }
+
+    /** Returns the annotation index of the document, creating it if needed. */
+    private fun annotationIndex(reference: Int, document: PdfDocument): AnnotationIndex {
+        return annotationIndexes.compute(reference) { _, existing ->
+            if (existing != null && existing.document === document) {
+                existing
+            } else {
+                existing?.release()
+                AnnotationIndex(document)
+            }
+        }!!
+    }
+
     private fun getDocumentConfiguration(reference: Int): MutableMap<String, Any>? {
         return this.documentConfigurations[reference]
     }
@@ -162,9 +199,14 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
             if (pdfView != null) WeakReference(pdfView) else existingDocData?.pdfViewRef
         )
         this.documents[reference] = docData
+        if (existingDocData != null && existingDocData.document !== document) {
+            annotationIndexes.remove(reference)?.release()
+        }
     }
 
     fun releaseDocument(reference: Int) {
+        textGeometryJobs.remove(reference)?.cancel()
+        annotationIndexes.remove(reference)?.release()
         documents.remove(reference)
         documentConfigurations.remove(reference)
     }
@@ -178,7 +220,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         documentConfigurations[reference] = currentConfiguration
     }
 
-    @ReactMethod fun getDocumentId(reference: Int, promise: Promise) {
+    @ReactMethod fun getDocumentId(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getDocumentId", jsPromise, null)
         try {
             promise.resolve(this.getDocument(reference)?.document?.documentIdString)
         } catch (e: Throwable) {
@@ -186,7 +229,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getPageInfo(reference: Int, pageIndex: Int, promise: Promise) {
+    @ReactMethod fun getPageInfo(reference: Int, pageIndex: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getPageInfo", jsPromise, null)
         try {
             val rotation = this.getDocument(reference)?.document?.getPageRotation(pageIndex);
             val size = this.getDocument(reference)?.document?.getPageSize(pageIndex);
@@ -206,7 +250,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getPageCount(reference: Int, promise: Promise) {
+    @ReactMethod fun getPageCount(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getPageCount", jsPromise, null)
         try {
             promise.resolve(this.getDocument(reference)?.document?.pageCount)
         } catch (e: Throwable) {
@@ -214,7 +259,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun isEncrypted(reference: Int, promise: Promise) {
+    @ReactMethod fun isEncrypted(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("isEncrypted", jsPromise, null)
         try {
             promise.resolve(this.getDocument(reference)?.document?.isEncrypted)
         } catch (e: Throwable) {
@@ -222,16 +268,21 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun invalidateCacheForPage(reference: Int, pageIndex: Int, promise: Promise) {
+    @ReactMethod fun invalidateCacheForPage(reference: Int, pageIndex: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("invalidateCacheForPage", jsPromise, null)
         try {
-            this.getDocument(reference)?.document?.invalidateCacheForPage(pageIndex)
+            this.getDocument(reference)?.document?.let {
+                it.invalidateCacheForPage(pageIndex)
+                PageTextRects.invalidatePage(it, pageIndex)
+            }
             promise.resolve(true)
         } catch (e: Throwable) {
             promise.reject("invalidateCacheForPage error", e)
         }
     }
 
-    @ReactMethod fun setRotationOffset(reference: Int, pageIndex: Int, rotation: Int, promise: Promise) {
+    @ReactMethod fun setRotationOffset(reference: Int, pageIndex: Int, rotation: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("setRotationOffset", jsPromise, null)
         val documentData = this.getDocument(reference)
         val document = documentData?.document
         if (document == null) {
@@ -256,22 +307,28 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
             // Applies a temporary rotation to the specified page of the document.
             // This does not persist the change to the underlying PDF.
             document.setRotationOffset(rotationConstant, pageIndex)
+            PageTextRects.invalidatePage(document, pageIndex)
             promise.resolve(null)
         } catch (e: Throwable) {
             promise.reject("setRotationOffset", e)
         }
     }
 
-    @ReactMethod fun invalidateCache(reference: Int, promise: Promise) {
+    @ReactMethod fun invalidateCache(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("invalidateCache", jsPromise, null)
         try {
-            this.getDocument(reference)?.document?.invalidateCache()
+            this.getDocument(reference)?.document?.let {
+                it.invalidateCache()
+                PageTextRects.invalidateDocument(it)
+            }
             promise.resolve(true)
         } catch (e: Throwable) {
             promise.reject("invalidateCache error", e)
         }
     }
 
-    @ReactMethod fun save(reference: Int, promise: Promise) {
+    @ReactMethod fun save(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("save", jsPromise, null)
         try {
             this.getDocument(reference)?.imageDocument?.let {
                 val metadata = this.getDocumentConfiguration(reference)?.get("imageSaveMode")?.equals("flattenAndEmbed") == true
@@ -288,7 +345,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getAllUnsavedAnnotations(reference: Int, promise: Promise) {
+    @ReactMethod fun getAllUnsavedAnnotations(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getAllUnsavedAnnotations", jsPromise, null)
         try {
             val document = this.getDocument(reference)?.document
             if (document == null) {
@@ -296,14 +354,14 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
                 return
             }
             val outputStream = ByteArrayOutputStream()
-            scope.launch {
+            launchCall(promise) {
                 try {
                     withContext(Dispatchers.IO) {
                         DocumentJsonFormatter.exportDocumentJson(document, outputStream)
                     }
-                    val json = JSONObject(outputStream.toString())
-                    val jsonMap = JsonUtilities.jsonObjectToMap(json)
-                    val nativeMap = Arguments.makeNativeMap(jsonMap)
+                    val nativeMap = withContext(Dispatchers.Default) {
+                        JsonUtilities.readWritableMap(InputStreamReader(ByteArrayInputStream(outputStream.toByteArray()), Charsets.UTF_8))
+                    }
                     promise.resolve(nativeMap)
                 } catch (e: Throwable) {
                     promise.reject("getAllUnsavedAnnotations", RuntimeException(e))
@@ -314,7 +372,49 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getAnnotations(reference: Int, type: String?, promise: Promise) {
+    /**
+     * Streams the unsaved changes as Instant JSON into the file at [filePath] instead of returning
+     * them, so large change sets with image attachments never have to fit in memory. Resolves with
+     * the file path and the number of exported annotations, attachments and form field values.
+     */
+    @ReactMethod fun exportUnsavedAnnotations(reference: Int, filePath: String, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("exportUnsavedAnnotations", jsPromise, null)
+        val document = this.getDocument(reference)?.document
+        if (document == null) {
+            promise.reject("exportUnsavedAnnotations", "Document is nil")
+            return
+        }
+        var exportPath = filePath
+        if (Uri.parse(exportPath).scheme == null) {
+            exportPath = "file:///$filePath"
+        }
+        val exportUri = Uri.parse(exportPath)
+        val contentResolver = reactApplicationContext.contentResolver
+        launchCall(promise) {
+            try {
+                val counts = withContext(Dispatchers.IO) {
+                    val outputStream = contentResolver.openOutputStream(exportUri)
+                        ?: throw IOException("Could not write to supplied file path")
+                    outputStream.buffered().use { DocumentJsonFormatter.exportDocumentJson(document, it) }
+                    // Count the exported entries from the file rather than from an in-memory copy.
+                    val inputStream = contentResolver.openInputStream(exportUri)
+                        ?: throw IOException("Could not read the exported file")
+                    JsonUtilities.countTopLevelEntries(InputStreamReader(inputStream.buffered(), Charsets.UTF_8))
+                }
+                val result = Arguments.createMap()
+                result.putString("filePath", filePath)
+                result.putInt("annotationCount", counts["annotations"] ?: 0)
+                result.putInt("attachmentCount", counts["attachments"] ?: 0)
+                result.putInt("formFieldValueCount", counts["formFieldValues"] ?: 0)
+                promise.resolve(result)
+            } catch (e: Throwable) {
+                promise.reject("exportUnsavedAnnotations", e)
+            }
+        }
+    }
+
+    @ReactMethod fun getAnnotations(reference: Int, type: String?, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getAnnotations", jsPromise, null)
         val document = this.getDocument(reference)?.document
         if (document == null) {
             promise.reject("getAnnotations error", "Document is nil")
@@ -322,25 +422,20 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
         val types = if (type == null) EnumSet.allOf(AnnotationType::class.java)
             else getAnnotationTypes(Arguments.makeNativeArray<String>(arrayOf(type)))
-        scope.launch {
+        launchCall(promise) {
             try {
-                val annotations = withContext(Dispatchers.Default) {
-                    document.annotationProvider.getAllAnnotationsOfType(types)
-                }
-                var annotationsSerialized: ArrayList<Map<String, Any>> = ArrayList()
-                for (annotation in annotations) {
-                    if (annotation.type == AnnotationType.POPUP) continue
-                    val annotationMap = AnnotationUtils.processAnnotation(annotation)
-                    annotationsSerialized.add(annotationMap)
+                val annotationsSerialized = withContext(Dispatchers.Default) {
+                    serializeAnnotations(document.annotationProvider.getAllAnnotationsOfType(types))
                 }
-                promise.resolve(Arguments.makeNativeArray(annotationsSerialized))
+                promise.resolve(annotationsSerialized)
             } catch (e: Throwable) {
                 promise.reject("getAnnotations error", e)
             }
         }
     }
 
-    @ReactMethod fun getAnnotationsForPage(reference: Int, pageIndex: Int, type: String?, promise: Promise) {
+    @ReactMethod fun getAnnotationsForPage(reference: Int, pageIndex: Int, type: String?, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getAnnotationsForPage", jsPromise, null)
         val document = this.getDocument(reference)?.document
         if (document == null) {
             promise.reject("getAnnotationsForPage error", "Document is nil")
@@ -352,44 +447,78 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
         val types = if (type == null) EnumSet.allOf(AnnotationType::class.java)
             else getAnnotationTypes(Arguments.makeNativeArray<String>(arrayOf(type)))
-        scope.launch {
+        launchCall(promise) {
             try {
-                val annotations = withContext(Dispatchers.Default) {
-                    document.annotationProvider.getAllAnnotationsOfType(types, pageIndex, 1)
+                val annotationsSerialized = withContext(Dispatchers.Default) {
+                    serializeAnnotations(document.annotationProvider.getAllAnnotationsOfType(types, pageIndex, 1))
                 }
-                val annotationsSerialized = ArrayList<Map<String, Any>>()
-                for (annotation in annotations) {
-                    if (annotation.type == AnnotationType.POPUP) continue
-                    annotationsSerialized.add(AnnotationUtils.processAnnotation(annotation))
-                }
-                promise.resolve(Arguments.makeNativeArray(annotationsSerialized))
+                promise.resolve(annotationsSerialized)
             } catch (e: Throwable) {
                 promise.reject("getAnnotationsForPage error", e)
             }
         }
     }
 
-    @ReactMethod fun removeAnnotations(reference: Int, instantJSON: ReadableArray, promise: Promise) {
+    /** Looks up the annotations matching the `uuid` or `name` of the given Instant JSON objects. */
+    private fun findAnnotations(reference: Int, document: PdfDocument, instantJSONArray: List<Map<String, Any>>): List<Annotation> {
+        val index = annotationIndex(reference, document)
+        val result = LinkedHashSet<Annotation>()
+        for (instantJSONAnnotation in instantJSONArray) {
+            result.addAll(index.findAll(instantJSONAnnotation["uuid"] as? String, instantJSONAnnotation["name"] as? String))
+        }
+        return ArrayList(result)
+    }
+
+    /**
+     * Tells the view showing the document that the annotations changed, in a single pass instead of
+     * one fragment subscription per annotation, and returns once the view was notified. Must be
+     * called on the main thread.
+     *
+     * The fragment only takes single annotations, there is no public API to invalidate a page, so
+     * the annotations are notified page by page in one pass. If no fragment is attached yet, waits
+     * for it for a short while; a fragment attached later renders the changed annotations from the
+     * document anyway.
+     */
+    private suspend fun notifyAnnotationsChanged(reference: Int, annotations: List<Annotation>) {
+        val pdfView = getDocument(reference)?.pdfViewRef?.get() ?: return
+        val pdfFragment = pdfView.attachedPdfFragment ?: try {
+            pdfView.getPdfFragment()
+                .take(1)
+                .timeout(5, TimeUnit.SECONDS)
+                .observeOn(AndroidSchedulers.mainThread())
+                .awaitFirst()
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Throwable) {
+            return
+        }
+        for ((_, pageAnnotations) in annotations.groupBy { it.pageIndex }) {
+            pageAnnotations.forEach { pdfFragment.notifyAnnotationHasChanged(it) }
+        }
+    }
+
+    /** Serializes the annotations straight into a bridge array, skipping popups. */
+    private fun serializeAnnotations(annotations: List<Annotation>): WritableArray {
+        val annotationsSerialized = Arguments.createArray()
+        for (annotation in annotations) {
+            if (annotation.type == AnnotationType.POPUP) continue
+            annotationsSerialized.pushMap(AnnotationUtils.annotationToWritableMap(annotation))
+        }
+        return annotationsSerialized
+    }
+
+    @ReactMethod fun removeAnnotations(reference: Int, instantJSON: ReadableArray, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("removeAnnotations", jsPromise, instantJSON)
         val document = this.getDocument(reference)?.document
         if (document == null) {
             promise.reject("removeAnnotations error", "Document is nil")
             return
         }
         val instantJSONArray: List<Map<String, Any>> = instantJSON.toArrayList().filterIsInstance<Map<String, Any>>()
-        scope.launch {
+        launchCall(promise) {
             try {
-                val annotations = withContext(Dispatchers.Default) {
-                    document.annotationProvider.getAllAnnotationsOfType(EnumSet.allOf(AnnotationType::class.java))
-                }
-                val annotationsToDelete = ArrayList<Annotation>()
-                for (annotation in annotations) {
-                    for (instantJSONAnnotation in instantJSONArray) {
-                        if (annotation.name == instantJSONAnnotation["name"] ||
-                            annotation.uuid == instantJSONAnnotation["uuid"]) {
-                            annotationsToDelete.add(annotation)
-                            break
-                        }
-                    }
+                val annotationsToDelete = withContext(Dispatchers.Default) {
+                    findAnnotations(reference, document, instantJSONArray)
                 }
                 for (annotation in annotationsToDelete) {
                     document.annotationProvider.removeAnnotationFromPage(annotation)
@@ -409,7 +538,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         return result
     }
 
-    @ReactMethod fun addAnnotations(reference: Int, instantJSON: Dynamic, attachments: Dynamic, promise: Promise) {
+    @ReactMethod fun addAnnotations(reference: Int, instantJSON: Dynamic, attachments: Dynamic, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("addAnnotations", jsPromise, instantJSON)
 
         // This API is now used to add ONLY annotation objects to a document - the old functionality to apply document JSON has moved to the more aptly named applyInstantJSON.
         // For backwards compatibility, first check whether the API is being called with a full Document JSON object, and then redirect the call to applyInstantJSON.
@@ -445,7 +575,7 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
                     } else {
                         // Process non-image annotations directly
                         if (instantJSONArray != null) {
-                            scope.launch {
+                            launchCall(promise) {
                                 try {
                                     withContext(Dispatchers.Default) {
                                         for (i in 0 until instantJSONArray.size()) {
@@ -474,16 +604,19 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun applyInstantJSON(reference: Int, instantJSON: ReadableMap, promise: Promise) {
+    @ReactMethod fun applyInstantJSON(reference: Int, instantJSON: ReadableMap, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("applyInstantJSON", jsPromise, instantJSON)
         try {
             this.getDocument(reference)?.document?.let {
                 val json = (instantJSON.toHashMap() as? Map<*, *>)?.let { it1 -> JSONObject(it1) }
                 val dataProvider: DataProvider = DocumentJsonDataProvider(json)
-                scope.launch {
+                launchCall(promise) {
                     try {
                         withContext(Dispatchers.IO) {
                             DocumentJsonFormatter.importDocumentJson(it, dataProvider)
                         }
+                        // The import may not report every annotation it touched through the update callbacks.
+                        annotationIndexes[reference]?.invalidate()
                         promise.resolve(true)
                     } catch (e: Throwable) {
                         promise.reject(RuntimeException(e))
@@ -495,7 +628,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun importXFDF(reference: Int, filePath: String, promise: Promise) {
+    @ReactMethod fun importXFDF(reference: Int, filePath: String, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("importXFDF", jsPromise, null)
         try {
             this.getDocument(reference)?.document?.let {
                 var importPath = filePath;
@@ -534,7 +668,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun exportXFDF(reference: Int, filePath: String, promise: Promise) {
+    @ReactMethod fun exportXFDF(reference: Int, filePath: String, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("exportXFDF", jsPromise, null)
         val document = this.getDocument(reference)?.document
         if (document == null) {
             promise.reject("exportXFDF error", "Document is nil")
@@ -549,7 +684,7 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
                 promise.reject("exportXFDF error", RuntimeException("Could not write to supplied file path error"))
                 return
             }
-        scope.launch {
+        launchCall(promise) {
             try {
                 val allAnnotations = withContext(Dispatchers.Default) {
                     document.annotationProvider.getAllAnnotationsOfType(EnumSet.allOf(AnnotationType::class.java))
@@ -589,7 +724,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getFormElements(reference: Int, promise: Promise) {
+    @ReactMethod fun getFormElements(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getFormElements", jsPromise, null)
         try {
             this.getDocument(reference)?.document?.let {
 
@@ -608,7 +744,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun updateFormFieldValue(reference: Int, fullyQualifiedName: String, value: Dynamic, promise: Promise) {
+    @ReactMethod fun updateFormFieldValue(reference: Int, fullyQualifiedName: String, value: Dynamic, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("updateFormFieldValue", jsPromise, value)
         try {
             this.getDocument(reference)?.document?.let {
 
@@ -665,7 +802,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun setFormFieldReadOnly(reference: Int, fullyQualifiedName: String, readOnly: Boolean, promise: Promise) {
+    @ReactMethod fun setFormFieldReadOnly(reference: Int, fullyQualifiedName: String, readOnly: Boolean, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("setFormFieldReadOnly", jsPromise, null)
         try {
             this.getDocument(reference)?.document?.let { document ->
                 val formField = document.formProvider.getFormFieldWithFullyQualifiedName(fullyQualifiedName)
@@ -694,7 +832,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getBookmarks(reference: Int, promise: Promise) {
+    @ReactMethod fun getBookmarks(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getBookmarks", jsPromise, null)
         try {
             this.getDocument(reference)?.document?.let { document ->
                 val bookmarks = document.bookmarkProvider.bookmarks
@@ -708,7 +847,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun addBookmarks(reference: Int, bookmarks: ReadableArray, promise: Promise) {
+    @ReactMethod fun addBookmarks(reference: Int, bookmarks: ReadableArray, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("addBookmarks", jsPromise, bookmarks)
         try {
             val document = this.getDocument(reference)?.document
             if (document == null) {
@@ -731,7 +871,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun removeBookmarks(reference: Int, bookmarks: ReadableArray, promise: Promise) {
+    @ReactMethod fun removeBookmarks(reference: Int, bookmarks: ReadableArray, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("removeBookmarks", jsPromise, bookmarks)
         try {
             val document = this.getDocument(reference)?.document
             if (document == null) {
@@ -754,7 +895,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getOverlappingSignature(reference: Int, fullyQualifiedName: String, promise: Promise) {
+    @ReactMethod fun getOverlappingSignature(reference: Int, fullyQualifiedName: String, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getOverlappingSignature", jsPromise, null)
         try {
             this.getDocument(reference)?.document?.let { document ->
                 val formElement = document.formProvider.getFormFieldWithFullyQualifiedName(fullyQualifiedName)?.formElement
@@ -779,9 +921,7 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
                 }
 
                 // Convert annotation to map using AnnotationUtils
-                val annotationMap = AnnotationUtils.processAnnotation(overlappingAnnotation.first())
-                val nativeMap = Arguments.makeNativeMap(annotationMap)
-                promise.resolve(nativeMap)
+                promise.resolve(AnnotationUtils.annotationToWritableMap(overlappingAnnotation.first()))
             } ?: run {
                 promise.reject("getOverlappingSignature", "Document is nil")
             }
@@ -790,7 +930,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun updateAnnotations(reference: Int, instantJSON: ReadableArray, promise: Promise) {
+    @ReactMethod fun updateAnnotations(reference: Int, instantJSON: ReadableArray, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("updateAnnotations", jsPromise, instantJSON)
         val document = this.getDocument(reference)?.document
         if (document == null) {
             promise.reject("updateAnnotations", "Document is nil")
@@ -798,23 +939,14 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
         val instantJSONArray: List<ReadableMap> = (0 until instantJSON.size())
             .mapNotNull { instantJSON.getMap(it) }
-        scope.launch {
+        launchCall(promise) {
             try {
-                val annotations = withContext(Dispatchers.Default) {
-                    document.annotationProvider.getAllAnnotationsOfType(EnumSet.allOf(AnnotationType::class.java))
+                val foundAnnotations = withContext(Dispatchers.Default) {
+                    val index = annotationIndex(reference, document)
+                    instantJSONArray.map { index.find(it.getString("uuid"), it.getString("name")) }
                 }
                 val annotationsToUpdate = ArrayList<Annotation>()
-                for (updateMap in instantJSONArray) {
-                    val updateUUID = updateMap.getString("uuid")
-                    val updateName = updateMap.getString("name")
-                    var foundAnnotation: Annotation? = null
-                    for (annotation in annotations) {
-                        if ((updateUUID != null && annotation.uuid == updateUUID) ||
-                            (updateName != null && annotation.name == updateName)) {
-                            foundAnnotation = annotation
-                            break
-                        }
-                    }
+                for ((updateMap, foundAnnotation) in instantJSONArray.zip(foundAnnotations)) {
                     foundAnnotation?.let { annotation ->
                         applyPropertiesToAnnotation(annotation, updateMap, document)
                         annotationsToUpdate.add(annotation)
@@ -824,19 +956,7 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
                     promise.reject("updateAnnotations", "No annotations found to update")
                     return@launch
                 }
-                val docData = this@PDFDocumentModule.getDocument(reference)
-                val pdfView = docData?.pdfViewRef?.get()
-                if (pdfView != null) {
-                    for (annotation in annotationsToUpdate) {
-                        pdfView.getPdfFragment()
-                            .take(1)
-                            .observeOn(AndroidSchedulers.mainThread())
-                            .subscribe(
-                                { pdfFragment -> pdfFragment.notifyAnnotationHasChanged(annotation) },
-                                { /* Ignore errors if fragment is not available */ }
-                            )
-                    }
-                }
+                notifyAnnotationsChanged(reference, annotationsToUpdate)
                 promise.resolve(true)
             } catch (e: Throwable) {
                 promise.reject("updateAnnotations", e)
@@ -844,7 +964,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun selectAnnotations(reference: Int, jsonAnnotations: ReadableArray, showContextualMenu: Boolean, promise: Promise) {
+    @ReactMethod fun selectAnnotations(reference: Int, jsonAnnotations: ReadableArray, showContextualMenu: Boolean, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("selectAnnotations", jsPromise, jsonAnnotations)
         val docData = this.getDocument(reference)
         val document = docData?.document
         val pdfView = docData?.pdfViewRef?.get()
@@ -853,21 +974,10 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
             return
         }
         val instantJSONArray: List<Map<String, Any>> = jsonAnnotations.toArrayList().filterIsInstance<Map<String, Any>>()
-        scope.launch {
+        launchCall(promise) {
             try {
                 val annotationsToSelect = withContext(Dispatchers.Default) {
-                    val allAnnotations = document.annotationProvider.getAllAnnotationsOfType(EnumSet.allOf(AnnotationType::class.java))
-                    val toSelect = ArrayList<Annotation>()
-                    for (annotation in allAnnotations) {
-                        for (instantJSONAnnotation in instantJSONArray) {
-                            if ((annotation.name != null && annotation.name == instantJSONAnnotation["name"]) ||
-                                annotation.uuid == instantJSONAnnotation["uuid"]) {
-                                toSelect.add(annotation)
-                                break
-                            }
-                        }
-                    }
-                    toSelect
+                    findAnnotations(reference, document, instantJSONArray)
                 }
                 pdfView.getPdfFragment()
                     .take(1)
@@ -894,7 +1004,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun clearSelectedAnnotations(reference: Int, promise: Promise) {
+    @ReactMethod fun clearSelectedAnnotations(reference: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("clearSelectedAnnotations", jsPromise, null)
         val docData = this.getDocument(reference)
         val pdfView = docData?.pdfViewRef?.get()
         if (pdfView == null) {
@@ -1265,94 +1376,98 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun getPageTextRects(reference: Int, pageIndex: Int, promise: Promise) {
-        try {
-            this.getDocument(reference)?.document?.let { document ->
-                if (pageIndex < 0 || pageIndex >= document.pageCount) {
-                    promise.reject("getPageTextRects", "Page index out of bounds", null)
-                    return
-                }
-
-                // Get page size for coordinate conversion
-                val pageSize = document.getPageSize(pageIndex)
-                val pageHeight = pageSize?.height ?: 0f
-
-                // Get the full page text
-                val pageText = document.getPageText(pageIndex)
-                if (pageText.isEmpty()) {
-                    promise.resolve(Arguments.makeNativeArray(ArrayList<Map<String, Any>>()))
-                    return
+    @ReactMethod fun getPageTextRects(reference: Int, pageIndex: Int, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getPageTextRects", jsPromise, null)
+        val document = this.getDocument(reference)?.document
+        if (document == null) {
+            promise.reject("getPageTextRects", "Document is nil", null)
+            return
+        }
+        if (pageIndex < 0 || pageIndex >= document.pageCount) {
+            promise.reject("getPageTextRects", "Page index out of bounds", null)
+            return
+        }
+        launchCall(promise, textGeometryJob(reference)) {
+            try {
+                val wordRects = withContext(Dispatchers.Default) {
+                    PageTextRects.toWritableArray(PageTextRects.getWordRects(document, pageIndex))
                 }
+                promise.resolve(wordRects)
+            } catch (e: CancellationException) {
+                promise.reject("getPageTextRects", "Text extraction was cancelled", e)
+            } catch (e: Throwable) {
+                promise.reject("getPageTextRects", e.message ?: "Error getting text rects", e)
+            }
+        }
+    }
 
-                val wordRects = ArrayList<Map<String, Any>>()
-
-                // Split text into words using regex
-                val wordPattern = "\\S+".toRegex()
-                val matches = wordPattern.findAll(pageText)
-
-                for (match in matches) {
-                    val word = match.value
-                    val wordStart = match.range.first
-                    val wordLength = match.range.last - match.range.first + 1
-
-                    try {
-                        // Get text rects for this specific word's character range
-                        val wordRectsList: List<RectF> = document.getPageTextRects(pageIndex, wordStart, wordLength, true)
-
-                        if (wordRectsList.isNotEmpty()) {
-                            // Merge multiple rects into one bounding box for the word
-                            var minLeft = Float.MAX_VALUE
-                            var minTop = Float.MAX_VALUE
-                            var maxRight = Float.MIN_VALUE
-                            var maxBottom = Float.MIN_VALUE
-
-                            for (rect in wordRectsList) {
-                                minLeft = minOf(minLeft, rect.left)
-                                minTop = minOf(minTop, rect.top)
-                                maxRight = maxOf(maxRight, rect.right)
-                                maxBottom = maxOf(maxBottom, rect.bottom)
-                            }
-
-                            // Return PDF coordinates to match iOS (bottom-left origin, y increases upward)
-                            // Calculate height as absolute difference (always positive)
-                            val height = kotlin.math.abs(minTop - maxBottom)
-
-                            // Determine y coordinate (bottom edge in PDF coords)
-                            // If minTop > maxBottom: PDF coords, use maxBottom directly
-                            // If minTop < maxBottom: Screen coords, convert maxBottom to PDF
-                            val y = if (minTop > maxBottom) {
-                                maxBottom  // Already PDF coords, bottom edge
-                            } else {
-                                pageHeight - maxBottom  // Convert from screen to PDF coords
+    /**
+     * Extracts the word boxes of the pages in `startPage..endPage` on several cores. Each page is
+     * sent to JS as a [TEXT_RECTS_FOR_PAGE_EVENT] event as soon as it's done; the promise resolves
+     * with the number of pages once all of them were sent, or rejects if the request is cancelled
+     * through [cancelTextRectsForPages] or the document is released.
+     */
+    @ReactMethod fun getTextRectsForPages(reference: Int, startPage: Int, endPage: Int, requestId: String, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("getTextRectsForPages", jsPromise, null)
+        val document = this.getDocument(reference)?.document
+        if (document == null) {
+            promise.reject("getTextRectsForPages", "Document is nil", null)
+            return
+        }
+        if (startPage < 0 || endPage >= document.pageCount || startPage > endPage) {
+            promise.reject("getTextRectsForPages", "Page range out of bounds", null)
+            return
+        }
+        val pageCount = endPage - startPage + 1
+        // Started lazily so the request is registered before it can complete and unregister itself.
+        val request = launchCall(promise, textGeometryJob(reference), start = CoroutineStart.LAZY) {
+            try {
+                val nextPage = AtomicInteger(startPage)
+                val workerCount = minOf(Runtime.getRuntime().availableProcessors(), pageCount)
+                withContext(Dispatchers.Default) {
+                    repeat(workerCount) {
+                        launch {
+                            while (true) {
+                                val pageIndex = nextPage.getAndIncrement()
+                                if (pageIndex > endPage) break
+                                val wordRects = PageTextRects.getWordRects(document, pageIndex)
+                                emitTextRectsForPage(requestId, pageIndex, PageTextRects.toWritableArray(wordRects))
                             }
-
-                            val wordMap = mapOf(
-                                "text" to word,
-                                "frame" to mapOf(
-                                    "x" to minLeft,
-                                    "y" to y,
-                                    "width" to (maxRight - minLeft),
-                                    "height" to height
-                                )
-                            )
-                            wordRects.add(wordMap)
                         }
-                    } catch (e: Exception) {
-                        // If getting rects for this word fails, skip it and continue
-                        continue
                     }
                 }
-
-                promise.resolve(Arguments.makeNativeArray(wordRects))
-            } ?: run {
-                promise.reject("getPageTextRects", "Document is nil", null)
+                promise.resolve(pageCount)
+            } catch (e: CancellationException) {
+                promise.reject("getTextRectsForPages", "Text extraction was cancelled", e)
+            } catch (e: Throwable) {
+                promise.reject("getTextRectsForPages", e.message ?: "Error getting text rects", e)
+            } finally {
+                textGeometryRequests.remove(requestId)
             }
-        } catch (e: Throwable) {
-            promise.reject("getPageTextRects", e.message ?: "Error getting text rects", e)
         }
+        textGeometryRequests[requestId] = request
+        request.start()
+    }
+
+    @ReactMethod fun cancelTextRectsForPages(requestId: String, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("cancelTextRectsForPages", jsPromise, null)
+        val request = textGeometryRequests.remove(requestId)
+        request?.cancel()
+        promise.resolve(request != null)
+    }
+
+    private fun emitTextRectsForPage(requestId: String, pageIndex: Int, textRects: WritableArray) {
+        val payload = Arguments.createMap()
+        payload.putString("requestId", requestId)
+        payload.putInt("pageIndex", pageIndex)
+        payload.putArray("textRects", textRects)
+        reactApplicationContext
+            .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter::class.java)
+            .emit(TEXT_RECTS_FOR_PAGE_EVENT, payload)
     }
 
-    @ReactMethod fun addElectronicSignatureFormField(reference: Int, signatureData: ReadableMap, promise: Promise) {
+    @ReactMethod fun addElectronicSignatureFormField(reference: Int, signatureData: ReadableMap, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("addElectronicSignatureFormField", jsPromise, signatureData)
         try {
             this.getDocument(reference)?.document?.let { document ->
                 val pageIndex = signatureData.getInt("pageIndex")
@@ -1406,7 +1521,8 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
         }
     }
 
-    @ReactMethod fun addTextFormField(reference: Int, formData: ReadableMap, promise: Promise) {
+    @ReactMethod fun addTextFormField(reference: Int, formData: ReadableMap, jsPromise: Promise) {
+        val promise = BridgeMetrics.track("addTextFormField", jsPromise, formData)
         try {
             this.getDocument(reference)?.document?.let { document ->
                 val pageIndex = formData.getInt("pageIndex")
@@ -1462,5 +1578,6 @@ class PDFDocumentModule(reactContext: ReactApplicationContext) : ReactContextBas
 
     companion object {
         const val NAME = "PDFDocumentManager"
+        const val TEXT_RECTS_FOR_PAGE_EVENT = "PDFDocumentTextRectsForPage"
     }
 }
\ No newline at end of file
@@ -66,10 +66,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 public class PSPDFKitModule extends ReactContextBaseJavaModule implements Application.ActivityLifecycleCallbacks, ActivityEventListener {
 
@@ -86,9 +84,6 @@ public class PSPDFKitModule extends ReactContextBaseJavaModule implements Applic
     @Nullable
     private Runnable onPdfActivityOpenedTask;
 
-    private static final Set<String> activeListeners = new HashSet<>();
-    private static final Object lock = new Object();
-
     /**
      * Used to dispatch onActivityResult calls to our fragments.
      */
@@ -115,6 +110,12 @@ public class PSPDFKitModule extends ReactContextBaseJavaModule implements Applic
         // Now handled inside controller.initialize()
     }
 
+    @Override
+    public void invalidate() {
+        NutrientNotificationCenter.INSTANCE.clearSubscriptions();
+        super.invalidate();
+    }
+
     @Override
     public String getName() {
         return "Nutrient";
@@ -165,6 +166,71 @@ public class PSPDFKitModule extends ReactContextBaseJavaModule implements Applic
         return controller.getDocumentProperties(documentPath);
     }
 
+    @ReactMethod
+    public void getDocumentPropertiesBatch(@NonNull ReadableArray documentPaths, @NonNull Promise promise) {
+        controller.getDocumentPropertiesBatch(documentPaths, promise);
+    }
+
+    @ReactMethod
+    public void invalidateDocumentProperties(@Nullable String documentPath, @NonNull Promise promise) {
+        controller.invalidateDocumentProperties(documentPath, promise);
+    }
+
+    @ReactMethod
+    public void revalidateDocumentProperties(@NonNull Promise promise) {
+        controller.revalidateDocumentProperties(promise);
+    }
+
+    @ReactMethod
+    public void prefetchDocument(@NonNull String documentPath, @Nullable ReadableMap options, @NonNull Promise promise) {
+        controller.prefetchDocument(documentPath, options, promise);
+    }
+
+    @ReactMethod
+    public void getPrefetchStatistics(@NonNull Promise promise) {
+        controller.getPrefetchStatistics(promise);
+    }
+
+    @ReactMethod
+    public void setContinuousLayoutEnabled(boolean enabled, @NonNull Promise promise) {
+        controller.setContinuousLayoutEnabled(enabled, promise);
+    }
+
+    @ReactMethod
+    public void getLayoutStatistics(@NonNull Promise promise) {
+        controller.getLayoutStatistics(promise);
+    }
+
+    @ReactMethod
+    public void setPerformanceMonitoringEnabled(boolean enabled, @Nullable ReadableMap options, @NonNull Promise promise) {
+        controller.setPerformanceMonitoringEnabled(enabled, options, promise);
+    }
+
+    @ReactMethod
+    public void getPerformanceSnapshot(int reference, @NonNull Promise promise) {
+        controller.getPerformanceSnapshot(reference, promise);
+    }
+
+    @ReactMethod
+    public void getDocumentLoadHistory(int reference, @NonNull Promise promise) {
+        controller.getDocumentLoadHistory(reference, promise);
+    }
+
+    @ReactMethod
+    public void setBridgeMetricsEnabled(boolean enabled, @NonNull Promise promise) {
+        controller.setBridgeMetricsEnabled(enabled, promise);
+    }
+
+    @ReactMethod
+    public void getBridgeMetrics(@NonNull Promise promise) {
+        controller.getBridgeMetrics(promise);
+    }
+
+    @ReactMethod
+    public void dumpBridgeMetrics(@Nullable String filePath, @NonNull Promise promise) {
+        controller.dumpBridgeMetrics(filePath, promise);
+    }
+
     @ReactMethod(isBlockingSynchronousMethod = true)
     public boolean setLicenseKeys(@Nullable String androidLicenseKey, @Nullable String iOSLicenseKey) {
         // Ignore the `iOSLicenseKey` parameter since we only need the `androidLicenseKey`.
@@ -185,44 +251,12 @@ public class PSPDFKitModule extends ReactContextBaseJavaModule implements Applic
 
     @ReactMethod
     public void handleListenerAdded(String event, Integer componentId, @Nullable Promise promise) {
-        synchronized (lock) {
-            String listenerKey = event + "_" + componentId.toString();
-            activeListeners.add(listenerKey);
-
-            // Only enable if this is the first listener globally
-            if (activeListeners.size() == 1) {
-                NutrientNotificationCenter.INSTANCE.setIsNotificationCenterInUse(true);
-            }
-
-            if (event.equals("analytics")) {
-                NutrientNotificationCenter.INSTANCE.analyticsEnabled();
-            }
-        }
-
-        if (promise != null) {
-            promise.resolve(1);
-        }
+        controller.handleListenerAdded(event, componentId, promise);
     }
 
     @ReactMethod
     public void handleListenerRemoved(String event, Integer componentId, @Nullable Promise promise) {
-        synchronized (lock) {
-            String listenerKey = event + "_" + componentId.toString();
-            activeListeners.remove(listenerKey);
-
-            // Only disable if NO listeners remain globally
-            if (activeListeners.isEmpty()) {
-                NutrientNotificationCenter.INSTANCE.setIsNotificationCenterInUse(false);
-            }
-
-            if (event.equals("analytics")) {
-                NutrientNotificationCenter.INSTANCE.analyticsDisabled();
-            }
-        }
-
-        if (promise != null) {
-            promise.resolve(1);
-        }
+        controller.handleListenerRemoved(event, componentId, promise);
     }
 
 
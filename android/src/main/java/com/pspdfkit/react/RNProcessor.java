@@ -29,11 +29,14 @@ import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableMap;
+import com.pspdfkit.document.PdfDocument;
 import com.pspdfkit.document.html.HtmlToPdfConverter;
 import com.pspdfkit.document.processor.NewPage;
 import com.pspdfkit.document.processor.PagePattern;
 import com.pspdfkit.document.processor.PdfProcessor;
 import com.pspdfkit.document.processor.PdfProcessorTask;
+import com.pspdfkit.react.helper.ChunkedDocumentMerge;
+import com.pspdfkit.react.helper.ProcessingJobs;
 import com.pspdfkit.react.helper.RNConfigurationHelper;
 import com.pspdfkit.react.helper.RNFileHelper;
 import com.pspdfkit.utils.Size;
@@ -53,6 +56,38 @@ public class RNProcessor extends ReactContextBaseJavaModule {
         return "RNProcessor";
     }
 
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Required to support NativeEventEmitter
+    }
+
+    @ReactMethod
+    public void removeListeners(Integer count) {
+        // Required to support NativeEventEmitter
+    }
+
+    /**
+     * Cancels the processing job {@code jobId} started by one of the generate methods or by
+     * {@code processAnnotations}, deletes its partial output and rejects its promise.
+     */
+    @ReactMethod
+    public void cancelProcessing(@NonNull String jobId, Promise callback) {
+        callback.resolve(ProcessingJobs.cancel(jobId));
+    }
+
+    /** Returns the queued, running and recently finished processing jobs. */
+    @ReactMethod
+    public void getProcessingQueueState(Promise callback) {
+        callback.resolve(ProcessingJobs.getQueueState());
+    }
+
+    /** Sets how many processing jobs may run at the same time. */
+    @ReactMethod
+    public void setMaxConcurrentProcessingJobs(int count, Promise callback) {
+        ProcessingJobs.setMaxConcurrentJobs(count);
+        callback.resolve(Boolean.TRUE);
+    }
+
     @ReactMethod
     public void getTemporaryDirectory(Promise callback) {
         try {
@@ -78,15 +113,14 @@ public class RNProcessor extends ReactContextBaseJavaModule {
             double height = configuration.getDouble("height");
 
 
+            String jobId = ProcessingJobs.jobIdFor(configuration);
             WritableMap result = Arguments.createMap();
             result.putString("fileURL", outputFile.getAbsolutePath());
+            result.putString("jobId", jobId);
 
             final PdfProcessorTask task = PdfProcessorTask.newPage(NewPage.patternPage(new Size((float) width, (float) height), PagePattern.BLANK).build());
 
-            PdfProcessor.processDocumentAsync(task, outputFile)
-                    .doFinally(() -> callback.resolve(result))
-                    .doOnError(callback::reject)
-                    .subscribe();
+            ProcessingJobs.run(getReactApplicationContext(), jobId, ProcessingJobs.priorityFor(configuration), file -> PdfProcessor.processDocumentAsync(task, file), outputFile, callback, result);
         } catch (Exception e) {
             callback.reject(e);
         }
@@ -167,8 +201,10 @@ public class RNProcessor extends ReactContextBaseJavaModule {
                 return;
             }
 
+            String jobId = ProcessingJobs.jobIdFor(configuration);
             WritableMap result = Arguments.createMap();
             result.putString("fileURL", outputFile.toURI().toString());
+            result.putString("jobId", jobId);
             RNFileHelper.deleteExistingFileIfNeeded(outputFile, configuration, callback);
 
             RNConfigurationHelper configHelper = new RNConfigurationHelper(configuration, getReactApplicationContext());
@@ -182,10 +218,7 @@ public class RNProcessor extends ReactContextBaseJavaModule {
                     configHelper.configuration = templates.getMap(i);
                     pdfProcessorTask.addNewPage(configHelper.parseConfiguration(), i);
                 }
-                PdfProcessor.processDocumentAsync(pdfProcessorTask, outputFile)
-                        .doFinally(() -> callback.resolve(result))
-                        .doOnError((error) -> callback.reject(error))
-                        .subscribe();
+                ProcessingJobs.run(getReactApplicationContext(), jobId, ProcessingJobs.priorityFor(configuration), file -> PdfProcessor.processDocumentAsync(pdfProcessorTask, file), outputFile, callback, result);
                 return;
             }
 
@@ -200,10 +233,12 @@ public class RNProcessor extends ReactContextBaseJavaModule {
         try {
             File outputFile = RNFileHelper.getFilePath(getReactApplicationContext(), configuration, callback);
 
+            String jobId = ProcessingJobs.jobIdFor(configuration);
             WritableMap result = Arguments.createMap();
             assert outputFile != null;
 
             result.putString("fileURL", outputFile.toURI().toString());
+            result.putString("jobId", jobId);
             RNFileHelper.deleteExistingFileIfNeeded(outputFile, configuration, callback);
 
             final PdfProcessorTask pdfProcessorTask = PdfProcessorTask.empty();
@@ -223,10 +258,7 @@ public class RNProcessor extends ReactContextBaseJavaModule {
                 }
             }
 
-            PdfProcessor.processDocumentAsync(pdfProcessorTask, outputFile)
-                    .doOnError((error) -> callback.reject(error))
-                    .doFinally(() -> callback.resolve(result))
-                    .subscribe();
+            ProcessingJobs.run(getReactApplicationContext(), jobId, ProcessingJobs.priorityFor(configuration), file -> PdfProcessor.processDocumentAsync(pdfProcessorTask, file), outputFile, callback, result);
 
         } catch (Exception e) {
             callback.reject(e);
@@ -238,10 +270,12 @@ public class RNProcessor extends ReactContextBaseJavaModule {
         try {
             File outputFile = RNFileHelper.getFilePath(getReactApplicationContext(), configuration, callback);
 
+            String jobId = ProcessingJobs.jobIdFor(configuration);
             WritableMap result = Arguments.createMap();
             assert outputFile != null;
 
             result.putString("fileURL", outputFile.toURI().toString());
+            result.putString("jobId", jobId);
             RNFileHelper.deleteExistingFileIfNeeded(outputFile, configuration, callback);
 
             final PdfProcessorTask pdfProcessorTask = PdfProcessorTask.empty();
@@ -253,20 +287,33 @@ public class RNProcessor extends ReactContextBaseJavaModule {
                 return;
             }
 
-            int totalPageCount = 0;
-            for (int i = 0; i < documents.size(); i++) {
-                RNConfigurationHelper configHelper = new RNConfigurationHelper(configuration, getReactApplicationContext());
-                ArrayList<NewPage> newPages = configHelper.parseConfiguration("document", documents.getMap(i));
-                for (int j = 0; j < newPages.size(); j++) {
-                    pdfProcessorTask.addNewPage(newPages.get(j), totalPageCount);
-                    totalPageCount++;
-                }
+            if (configuration.hasKey("chunkSize")) {
+                // Merge large outputs a chunk at a time so that peak memory doesn't grow with the page count.
+                ProcessingJobs.enqueue(getReactApplicationContext(), jobId, ProcessingJobs.priorityFor(configuration), file -> ChunkedDocumentMerge.merge(getReactApplicationContext(), documents, configuration.getInt("chunkSize"), file), outputFile, callback, result);
+                return;
             }
 
-            PdfProcessor.processDocumentAsync(pdfProcessorTask, outputFile)
-                    .doOnError(callback::reject)
-                    .doFinally(() -> callback.resolve(result))
-                    .subscribe();
+            // Open all sources off the module thread, then assemble the task once every one is ready.
+            // The task is assembled inside the chain, so that an invalid document rejects the promise.
+            RNConfigurationHelper.openSourceDocuments(getReactApplicationContext(), documents)
+                    .map(sourceDocuments -> {
+                        RNConfigurationHelper configHelper = new RNConfigurationHelper(configuration, getReactApplicationContext());
+                        int totalPageCount = 0;
+                        for (int i = 0; i < documents.size(); i++) {
+                            ReadableMap document = documents.getMap(i);
+                            PdfDocument sourceDocument = document != null ? sourceDocuments.get(document.getString("documentPath")) : null;
+                            if (sourceDocument == null) {
+                                throw new IllegalArgumentException("Please provide a documentPath for the document at index " + i + ".");
+                            }
+                            ArrayList<NewPage> newPages = configHelper.newPagesFromDocument(document, sourceDocument);
+                            for (int j = 0; j < newPages.size(); j++) {
+                                pdfProcessorTask.addNewPage(newPages.get(j), totalPageCount);
+                                totalPageCount++;
+                            }
+                        }
+                        return pdfProcessorTask;
+                    })
+                    .subscribe(task -> ProcessingJobs.run(getReactApplicationContext(), jobId, ProcessingJobs.priorityFor(configuration), file -> PdfProcessor.processDocumentAsync(task, file), outputFile, callback, result), callback::reject);
 
         } catch (Exception e) {
             callback.reject(e);
@@ -207,6 +207,12 @@ public class ReactPdfViewManager extends ViewGroupManager<PdfView> {
         if (configuration.hasKey("supportedToolbarPositions")) {
             view.setSupportedToolbarPositions(configuration.getArray("supportedToolbarPositions"));
         }
+        if (configuration.hasKey("androidScrollEventMaxRate")) {
+            view.setScrollEventMaxRate(configuration.getInt("androidScrollEventMaxRate"));
+        }
+        if (configuration.hasKey("androidAnnotationEventBatchInterval")) {
+            view.setAnnotationEventBatchInterval(configuration.getInt("androidAnnotationEventBatchInterval"));
+        }
         NutrientPropsDocumentHelper.applyToolbarVisibilityFromConfiguration(view, configuration);
         NutrientPropsDocumentHelper.applyShowStylusButtonFromConfiguration(view, configuration);
     }
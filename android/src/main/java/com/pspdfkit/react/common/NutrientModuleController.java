@@ -9,6 +9,7 @@ import android.net.Uri;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
+import android.util.DisplayMetrics;
 import android.view.View;
 
 import androidx.annotation.NonNull;
@@ -22,6 +23,7 @@ import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.bridge.ActivityEventListener;
 
@@ -29,7 +31,6 @@ import com.pspdfkit.Nutrient;
 import com.pspdfkit.PSPDFKit;
 import com.pspdfkit.annotations.AnnotationType;
 import com.pspdfkit.document.PdfDocument;
-import com.pspdfkit.document.PdfDocumentLoader;
 import com.pspdfkit.document.image.CameraImagePickerFragment;
 import com.pspdfkit.document.image.GalleryImagePickerFragment;
 import com.pspdfkit.document.processor.PdfProcessor;
@@ -42,20 +43,34 @@ import com.pspdfkit.listeners.SimpleDocumentListener;
 import com.pspdfkit.react.NutrientNotificationCenter;
 import com.pspdfkit.react.R;
 import com.pspdfkit.react.helper.ConversionHelpers;
+import com.pspdfkit.react.helper.DocumentHandleCache;
+import com.pspdfkit.react.helper.DocumentMetadataIndex;
+import com.pspdfkit.react.helper.DocumentWarmPool;
+import com.pspdfkit.react.helper.ProcessingJobs;
 import com.pspdfkit.react.ConfigurationAdapter;
 import com.pspdfkit.react.helper.PSPDFKitUtils;
 import com.pspdfkit.ui.PdfActivity;
 import com.pspdfkit.ui.PdfFragment;
 import com.pspdfkit.ui.search.PdfSearchView;
 import com.pspdfkit.ui.search.PdfSearchViewInline;
+import com.pspdfkit.react.helper.BridgeMetrics;
+import com.pspdfkit.views.ChildLayoutScheduler;
+import com.pspdfkit.views.PdfView;
+import com.pspdfkit.views.ViewPerformanceMonitor;
 import com.pspdfkit.views.ReactMainToolbar;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+
 /**
  * Shared implementation for PSPDFKit React Native module APIs used by both classic and Turbo modules.
  */
@@ -92,8 +107,10 @@ public class NutrientModuleController implements Application.ActivityLifecycleCa
         return constants;
     }
 
-    public void handleListenerAdded(String event, @Nullable Promise promise) {
-        // No global state here; modules compute isLast via their own activeListeners sets
+    public void handleListenerAdded(@Nullable String event, int componentId, @Nullable Promise promise) {
+        if (event != null) {
+            NutrientNotificationCenter.INSTANCE.addSubscription(event, componentId);
+        }
         if ("analytics".equals(event)) {
             NutrientNotificationCenter.INSTANCE.analyticsEnabled();
         }
@@ -102,9 +119,9 @@ public class NutrientModuleController implements Application.ActivityLifecycleCa
         }
     }
 
-    public void handleListenerRemoved(@Nullable String event, boolean isLast, @Nullable Promise promise) {
-        if (isLast) {
-            NutrientNotificationCenter.INSTANCE.setIsNotificationCenterInUse(false);
+    public void handleListenerRemoved(@Nullable String event, int componentId, @Nullable Promise promise) {
+        if (event != null) {
+            NutrientNotificationCenter.INSTANCE.removeSubscription(event, componentId);
         }
         if ("analytics".equals(event)) {
             NutrientNotificationCenter.INSTANCE.analyticsDisabled();
@@ -231,25 +248,27 @@ public class NutrientModuleController implements Application.ActivityLifecycleCa
         }
     }
 
+    /** Returns the URI of the document at {@code documentPath}, which may be a plain file path. */
+    @NonNull
+    private static Uri toDocumentUri(@NonNull String documentPath) {
+        if (Uri.parse(documentPath).getScheme() == null) {
+            try {
+                File file = new File(documentPath);
+                documentPath = Uri.fromFile(file).toString();
+            } catch (Exception e) {
+                documentPath = FILE_SCHEME + documentPath;
+            }
+        }
+        return Uri.parse(documentPath);
+    }
+
     public WritableMap getDocumentProperties(@Nullable String documentPath) {
         WritableMap properties = Arguments.createMap();
         try {
-            if (Uri.parse(documentPath).getScheme() == null) {
-                try {
-                    File file = new File(documentPath);
-                    documentPath = Uri.fromFile(file).toString();
-                } catch (Exception e) {
-                    documentPath = FILE_SCHEME + documentPath;
-                }
-            }
-            PdfDocument document = PdfDocumentLoader.openDocument(reactContext, Uri.parse(documentPath));
-            properties.putString("documentId", document.getDocumentIdString());
-            properties.putInt("pageCount", document.getPageCount());
-            properties.putBoolean("isEncrypted", document.isEncrypted());
+            return readDocumentProperties(documentPath);
         } catch (IOException e) {
             if (e instanceof InvalidPasswordException) {
-                properties.putInt("pageCount", 0);
-                properties.putBoolean("isEncrypted", true);
+                return encryptedDocumentProperties();
             } else {
                 properties.putString("documentId", null);
                 properties.putInt("pageCount", 0);
@@ -259,6 +278,162 @@ public class NutrientModuleController implements Application.ActivityLifecycleCa
         return properties;
     }
 
+    /** Served from the persistent index while the file is unchanged, without opening it. */
+    @NonNull
+    private WritableMap readDocumentProperties(@Nullable String documentPath) throws IOException {
+        return DocumentMetadataIndex.getMetadata(reactContext, toDocumentUri(documentPath)).toWritableMap();
+    }
+
+    @NonNull
+    private static WritableMap encryptedDocumentProperties() {
+        WritableMap properties = Arguments.createMap();
+        properties.putInt("pageCount", 0);
+        properties.putBoolean("isEncrypted", true);
+        return properties;
+    }
+
+    /**
+     * Reads the properties of several documents without blocking the JS thread. Documents are
+     * opened in parallel on the IO scheduler; the results keep the order of {@code documentPaths}.
+     * A document that fails to open gets an entry with an {@code error} instead of failing the batch.
+     */
+    public void getDocumentPropertiesBatch(@NonNull ReadableArray documentPaths, @NonNull Promise promise) {
+        List<String> paths = new ArrayList<>(documentPaths.size());
+        for (int i = 0; i < documentPaths.size(); i++) {
+            String path = documentPaths.getString(i);
+            // Rx streams can't carry nulls, an empty path gets an error entry like a missing file.
+            paths.add(path != null ? path : "");
+        }
+        int maxConcurrency = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        Observable.fromIterable(paths)
+                .concatMapEager(path -> Observable.fromCallable(() -> readDocumentProperties(path))
+                        .onErrorReturn(error -> error instanceof InvalidPasswordException
+                                ? encryptedDocumentProperties()
+                                : failedDocumentProperties(error))
+                        .subscribeOn(Schedulers.io()), maxConcurrency, 1)
+                .toList()
+                .subscribe(propertiesList -> {
+                    WritableArray result = Arguments.createArray();
+                    for (WritableMap properties : propertiesList) {
+                        result.pushMap(properties);
+                    }
+                    promise.resolve(result);
+                }, promise::reject);
+    }
+
+    @NonNull
+    private static WritableMap failedDocumentProperties(@NonNull Throwable error) {
+        WritableMap properties = Arguments.createMap();
+        properties.putInt("pageCount", 0);
+        properties.putBoolean("isEncrypted", false);
+        properties.putString("error", error.getMessage() != null ? error.getMessage() : error.toString());
+        return properties;
+    }
+
+    /**
+     * Drops the indexed properties of the document at {@code documentPath}, or of all documents if
+     * it is {@code null}, so they are read from the document again on the next request.
+     */
+    public void invalidateDocumentProperties(@Nullable String documentPath, @NonNull Promise promise) {
+        DocumentMetadataIndex.invalidate(reactContext, documentPath != null ? toDocumentUri(documentPath) : null);
+        promise.resolve(Boolean.TRUE);
+    }
+
+    /**
+     * Checks all indexed documents against their files in the background, dropping deleted ones and
+     * re-reading changed ones.
+     */
+    public void revalidateDocumentProperties(@NonNull Promise promise) {
+        Single.fromCallable(() -> DocumentMetadataIndex.revalidate(reactContext))
+                .subscribeOn(Schedulers.io())
+                .subscribe(result -> promise.resolve(result.toWritableMap()), promise::reject);
+    }
+
+    /**
+     * Loads the document at {@code documentPath} into the warm pool and renders its first pages in
+     * the background, so that a view opening it next doesn't have to wait for it.
+     */
+    public void prefetchDocument(@NonNull String documentPath, @Nullable ReadableMap options, @NonNull Promise promise) {
+        DisplayMetrics metrics = reactContext.getResources().getDisplayMetrics();
+        String password = options != null && options.hasKey("password") ? options.getString("password") : null;
+        int pageCount = options != null && options.hasKey("pageCount") ? options.getInt("pageCount") : 1;
+        // The target size is given in density-independent points, like view sizes in JS.
+        int width = options != null && options.hasKey("width") ? Math.round((float) options.getDouble("width") * metrics.density) : metrics.widthPixels;
+        int height = options != null && options.hasKey("height") ? Math.round((float) options.getDouble("height") * metrics.density) : metrics.heightPixels;
+        DocumentWarmPool.prefetch(reactContext, toDocumentUri(documentPath), password, pageCount, width, height)
+                .subscribe(renderedPages -> promise.resolve(Boolean.TRUE), promise::reject);
+    }
+
+    public void getPrefetchStatistics(@NonNull Promise promise) {
+        promise.resolve(DocumentWarmPool.getStatistics());
+    }
+
+    /** Lays out the native views on every frame instead of only when needed, for debugging. */
+    public void setContinuousLayoutEnabled(boolean enabled, @NonNull Promise promise) {
+        ChildLayoutScheduler.setContinuousLayoutEnabled(enabled);
+        promise.resolve(Boolean.TRUE);
+    }
+
+    public void getLayoutStatistics(@NonNull Promise promise) {
+        promise.resolve(ChildLayoutScheduler.getStatistics());
+    }
+
+    /** Collects frame metrics of all views, see {@link ViewPerformanceMonitor}. */
+    public void setPerformanceMonitoringEnabled(boolean enabled, @Nullable ReadableMap options, @NonNull Promise promise) {
+        long reportInterval = options != null && options.hasKey("reportInterval") ? (long) options.getDouble("reportInterval") : 0;
+        ViewPerformanceMonitor.setEnabled(enabled, reportInterval);
+        promise.resolve(Boolean.TRUE);
+    }
+
+    public void getPerformanceSnapshot(int reference, @NonNull Promise promise) {
+        ViewPerformanceMonitor monitor = ViewPerformanceMonitor.forComponent(reference);
+        if (monitor == null) {
+            promise.reject("E_VIEW_NOT_FOUND", "No attached NutrientView found for reference " + reference + ".");
+            return;
+        }
+        promise.resolve(monitor.getSnapshot());
+    }
+
+    public void getDocumentLoadHistory(int reference, @NonNull Promise promise) {
+        PdfView view = PdfView.findAttachedView(reference);
+        if (view == null) {
+            promise.reject("E_VIEW_NOT_FOUND", "No attached NutrientView found for reference " + reference + ".");
+            return;
+        }
+        promise.resolve(view.getDocumentLoadTimeline().getHistory());
+    }
+
+    /** Records latency histograms of the {@code PDFDocument} methods, see {@link BridgeMetrics}. */
+    public void setBridgeMetricsEnabled(boolean enabled, @NonNull Promise promise) {
+        BridgeMetrics.setEnabled(enabled);
+        promise.resolve(Boolean.TRUE);
+    }
+
+    public void getBridgeMetrics(@NonNull Promise promise) {
+        promise.resolve(BridgeMetrics.getMetrics());
+    }
+
+    /**
+     * Writes the bridge metrics as JSON to {@code filePath}, or to a new file in the app's external
+     * files directory, and resolves with the path of the file.
+     */
+    public void dumpBridgeMetrics(@Nullable String filePath, @NonNull Promise promise) {
+        Single.fromCallable(() -> {
+                    File file;
+                    if (filePath != null) {
+                        file = new File(toDocumentUri(filePath).getPath());
+                    } else {
+                        File directory = reactContext.getExternalFilesDir(null);
+                        file = new File(directory != null ? directory : reactContext.getFilesDir(),
+                                "nutrient-bridge-metrics-" + System.currentTimeMillis() + ".json");
+                    }
+                    BridgeMetrics.writeTo(file);
+                    return file.getAbsolutePath();
+                })
+                .subscribeOn(Schedulers.io())
+                .subscribe(promise::resolve, throwable -> promise.reject("E_DUMP_FAILED", throwable));
+    }
+
     public void processAnnotations(@NonNull final String processingMode,
                                    @Nullable final ReadableArray annotationTypes,
                                    @NonNull final String sourceDocumentPath,
@@ -266,21 +441,14 @@ public class NutrientModuleController implements Application.ActivityLifecycleCa
                                    @Nullable final String password,
                                    @NonNull final Promise promise) {
         String documentPath = Uri.parse(sourceDocumentPath).getScheme() == null ? FILE_SCHEME + sourceDocumentPath : sourceDocumentPath;
-        if (password != null) {
-            PdfDocumentLoader.openDocumentAsync(reactContext, Uri.parse(documentPath), password)
-                    .flatMapCompletable(document -> {
-                        PdfProcessorTask task = setupProcessAnnotations(document, processingMode, annotationTypes);
-                        return PdfProcessor.processDocumentAsync(task, new File(targetDocumentPath)).ignoreElements();
-                    })
-                    .subscribe(() -> promise.resolve(Boolean.TRUE), promise::reject);
-        } else {
-            PdfDocumentLoader.openDocumentAsync(reactContext, Uri.parse(documentPath))
-                    .flatMapCompletable(document -> {
-                        PdfProcessorTask task = setupProcessAnnotations(document, processingMode, annotationTypes);
-                        return PdfProcessor.processDocumentAsync(task, new File(targetDocumentPath)).ignoreElements();
-                    })
-                    .subscribe(() -> promise.resolve(Boolean.TRUE), promise::reject);
-        }
+        File targetFile = new File(targetDocumentPath);
+        // Setting up the task stays inside the chain, so that its errors reject the promise.
+        Single.fromCallable(() -> DocumentHandleCache.openDocument(reactContext, Uri.parse(documentPath), password))
+                .map(document -> setupProcessAnnotations(document, processingMode, annotationTypes))
+                .subscribeOn(Schedulers.io())
+                // The job is identified by its output path, which the caller knows without the
+                // promise having settled, and which no two jobs may write at once.
+                .subscribe(task -> ProcessingJobs.run(reactContext, targetDocumentPath, 0, file -> PdfProcessor.processDocumentAsync(task, file), targetFile, promise, Boolean.TRUE), promise::reject);
     }
 
     private PdfProcessorTask setupProcessAnnotations(@NonNull final PdfDocument document,
@@ -72,6 +72,12 @@ public final class NutrientPropsDocumentHelper {
         if (configuration.hasKey("supportedToolbarPositions")) {
             view.setSupportedToolbarPositions(configuration.getArray("supportedToolbarPositions"));
         }
+        if (configuration.hasKey("androidScrollEventMaxRate")) {
+            view.setScrollEventMaxRate(configuration.getInt("androidScrollEventMaxRate"));
+        }
+        if (configuration.hasKey("androidAnnotationEventBatchInterval")) {
+            view.setAnnotationEventBatchInterval(configuration.getInt("androidAnnotationEventBatchInterval"));
+        }
         applyToolbarVisibilityFromConfiguration(view, configuration);
         applyShowStylusButtonFromConfiguration(view, configuration);
     }
@@ -17,26 +17,16 @@ import androidx.annotation.IdRes;
 import androidx.annotation.NonNull;
 
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
-import com.pspdfkit.annotations.Annotation;
-import com.pspdfkit.annotations.AnnotationType;
-import com.pspdfkit.annotations.WidgetAnnotation;
-import com.pspdfkit.forms.FormElement;
-import com.pspdfkit.react.helper.AnnotationUtils;
-import com.pspdfkit.react.helper.JsonUtilities;
+import com.pspdfkit.react.helper.AnnotationChangeSnapshot;
 
-import org.json.JSONException;
-import org.json.JSONObject;
-
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
- * Event sent by the {@link com.pspdfkit.views.PdfView} when an annotation was selected.
+ * Event sent by the {@link com.pspdfkit.views.PdfView} when an annotation was added, changed or removed.
  */
 public class PdfViewAnnotationChangedEvent extends Event<PdfViewAnnotationChangedEvent> {
 
@@ -49,12 +39,12 @@ public class PdfViewAnnotationChangedEvent extends Event<PdfViewAnnotationChange
     private final String eventType;
 
     @NonNull
-    private final Annotation annotation;
+    private final List<AnnotationChangeSnapshot> snapshots;
 
-    public PdfViewAnnotationChangedEvent(@IdRes int viewId, @NonNull String eventType, @NonNull Annotation annotation) {
+    public PdfViewAnnotationChangedEvent(@IdRes int viewId, @NonNull String eventType, @NonNull List<AnnotationChangeSnapshot> snapshots) {
         super(viewId);
         this.eventType = eventType;
-        this.annotation = annotation;
+        this.snapshots = snapshots;
     }
 
     @Override
@@ -64,36 +54,14 @@ public class PdfViewAnnotationChangedEvent extends Event<PdfViewAnnotationChange
 
     @Override
     public void dispatch(RCTEventEmitter rctEventEmitter) {
-        try {
-            Map<String, Object> map = new HashMap<>();
-            map.put("change", eventType);
-
-            Map<String, Object> annotationMap;
-            if (EVENT_TYPE_REMOVED.equalsIgnoreCase(eventType)) {
-                // For removed annotation we can't get the instant json so manually create something.
-                annotationMap = new HashMap<>();
-                annotationMap.put("name", annotation.getName());
-                annotationMap.put("creatorName", annotation.getCreator());
-                annotationMap.put("uuid", annotation.getUuid());
-            } else {
-                annotationMap = AnnotationUtils.processAnnotation(annotation);
-            }
-
-            List<Map<String, Object>> annotations = new ArrayList<>();
-            annotations.add(annotationMap);
-            map.put("annotations", annotations);
-
-            WritableMap eventData = Arguments.makeNativeMap(map);
-            rctEventEmitter.receiveEvent(getViewTag(), getEventName(), eventData);
-        } catch (Exception e) {
-            Map<String, Object> map = new HashMap<>();
-            map.put("change", eventType);
-            List<Map<String, Object>> annotations = new ArrayList<>();
-            map.put("annotations", annotations);
-            WritableMap eventData = Arguments.makeNativeMap(map);
-            rctEventEmitter.receiveEvent(getViewTag(), getEventName(), eventData);
- 
-            e.printStackTrace();
+        WritableMap eventData = Arguments.createMap();
+        eventData.putString("change", eventType);
+        // The annotations were serialized once when the change happened, reuse that result.
+        WritableArray annotations = Arguments.createArray();
+        for (AnnotationChangeSnapshot snapshot : snapshots) {
+            annotations.pushMap(snapshot.newAnnotationMap());
         }
+        eventData.putArray("annotations", annotations);
+        rctEventEmitter.receiveEvent(getViewTag(), getEventName(), eventData);
     }
-}
\ No newline at end of file
+}
@@ -16,7 +16,6 @@ package com.pspdfkit.react.events;
 import androidx.annotation.IdRes;
 import androidx.annotation.NonNull;
 
-import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
@@ -30,8 +29,6 @@ import com.pspdfkit.react.helper.JsonUtilities;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.util.Map;
-
 /**
  * Event sent by the {@link com.pspdfkit.views.PdfView} when an annotation was selected.
  */
@@ -57,8 +54,7 @@ public class PdfViewAnnotationTappedEvent extends Event<PdfViewAnnotationTappedE
         try {
             String rawInstantJson = annotation.toInstantJson();
             if (rawInstantJson != null && !rawInstantJson.equals("null")) {
-                Map<String, Object> annotationMap = AnnotationUtils.processAnnotation(annotation);
-                WritableMap eventData = Arguments.makeNativeMap(annotationMap);
+                WritableMap eventData = AnnotationUtils.annotationToWritableMap(annotation);
                 rctEventEmitter.receiveEvent(getViewTag(), getEventName(), eventData);
             }
         } catch (Exception e) {
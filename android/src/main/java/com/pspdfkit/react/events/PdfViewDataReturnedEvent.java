@@ -17,6 +17,7 @@ import androidx.annotation.IdRes;
 import androidx.annotation.NonNull;
 
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
@@ -27,6 +28,7 @@ import com.pspdfkit.react.helper.JsonUtilities;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,28 +44,26 @@ public class PdfViewDataReturnedEvent extends Event<PdfViewDataReturnedEvent> {
     public PdfViewDataReturnedEvent(@IdRes int viewId, int requestId, @NonNull List<Annotation> annotationsToSerialize) {
         super(viewId);
         this.requestId = requestId;
-        Map<String, Object> map = new HashMap<>();
-        map.put("requestId", requestId);
+        payload = Arguments.createMap();
+        payload.putInt("requestId", requestId);
         try {
-            List<Map<String, Object>> annotationsSerialized = new ArrayList<>();
+            // Stream each annotation's Instant JSON straight into the bridge payload.
+            WritableArray annotationsSerialized = Arguments.createArray();
             for (Annotation annotation : annotationsToSerialize) {
                 if (annotation.getType() == AnnotationType.POPUP) {
                     continue;
                 }
-                JSONObject instantJson = new JSONObject(annotation.toInstantJson());
-                Map<String, Object> annotationMap = JsonUtilities.jsonObjectToMap(instantJson);
-                annotationMap.put("uuid", annotation.getUuid());
-                annotationsSerialized.add(annotationMap);
+                WritableMap annotationMap = JsonUtilities.jsonToWritableMap(annotation.toInstantJson());
+                annotationMap.putString("uuid", annotation.getUuid());
+                annotationsSerialized.pushMap(annotationMap);
             }
 
-            Map<String, Object> annotations = new HashMap<>();
-            annotations.put("annotations", annotationsSerialized);
-            map.put("result", annotations);
-        } catch (JSONException e) {
-            map.put("error", e.getMessage());
+            WritableMap annotations = Arguments.createMap();
+            annotations.putArray("annotations", annotationsSerialized);
+            payload.putMap("result", annotations);
+        } catch (IOException | IllegalStateException e) {
+            payload.putString("error", e.getMessage());
         }
-
-        payload = Arguments.makeNativeMap(map);
     }
 
     public PdfViewDataReturnedEvent(@IdRes int viewId, int requestId, boolean result) {
@@ -0,0 +1,121 @@
+/*
+ * AnnotationChangeSnapshot.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import androidx.annotation.WorkerThread
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableMap
+import com.pspdfkit.annotations.Annotation
+import io.reactivex.rxjava3.core.Scheduler
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import org.json.JSONObject
+import java.util.concurrent.Executors
+
+/**
+ * An annotation change serialized once, shared by every consumer of the change: the Notification
+ * Center, the legacy `onAnnotationsChanged` event and its Fabric counterpart. Serializing an
+ * annotation goes through its Instant JSON and is expensive for large ink annotations, so it is
+ * done on a background thread via [create] rather than separately by each consumer on the UI thread.
+ *
+ * Instances are immutable and may be read from any thread.
+ */
+class AnnotationChangeSnapshot private constructor(
+    /** One of `added`, `changed` or `removed`. */
+    val changeType: String,
+    val uuid: String,
+    val name: String?,
+    val creator: String?,
+    val type: String,
+    val pageIndex: Int,
+    /**
+     * The annotation as sent to JS: the processed Instant JSON for additions and changes, or the
+     * identifying properties for removals, whose Instant JSON is no longer available. Native maps
+     * are consumed when sent, so consumers receive copies through [newAnnotationMap].
+     */
+    private val annotationMap: WritableMap
+) {
+
+    val isRemoval: Boolean
+        get() = REMOVED == changeType
+
+    /** Returns a copy of the serialized annotation that the caller may send over the bridge. */
+    fun newAnnotationMap(): WritableMap = annotationMap.copy()
+
+    /** The JSON object string used in the Fabric `onAnnotationsChanged` event, built on first use. */
+    val annotationJsonString: String by lazy {
+        val item = JSONObject()
+        for ((key, value) in annotationMap.toHashMap()) {
+            item.put(key, JSONObject.wrap(value))
+        }
+        if (isRemoval) {
+            item.put("type", type)
+            item.put("pageIndex", pageIndex)
+        }
+        item.toString()
+    }
+
+    companion object {
+        const val ADDED = "added"
+        const val CHANGED = "changed"
+        const val REMOVED = "removed"
+
+        /**
+         * Serializes all changes on a single thread so they are delivered in the order in which
+         * they happened.
+         */
+        private val serializationScheduler: Scheduler by lazy {
+            Schedulers.from(Executors.newSingleThreadExecutor { runnable ->
+                Thread(runnable, "NutrientAnnotationSerializer").apply { isDaemon = true }
+            })
+        }
+
+        /** Joins the JSON of several snapshots into the JSON array carried by the Fabric event. */
+        @JvmStatic
+        fun toJsonArrayString(snapshots: List<AnnotationChangeSnapshot>): String {
+            return snapshots.joinToString(separator = ",", prefix = "[", postfix = "]") { it.annotationJsonString }
+        }
+
+        /** Serializes the change on the shared background serializer. */
+        @JvmStatic
+        fun create(changeType: String, annotation: Annotation): Single<AnnotationChangeSnapshot> {
+            return Single.fromCallable { createBlocking(changeType, annotation) }
+                .subscribeOn(serializationScheduler)
+        }
+
+        /** Serializes the change on the calling thread. */
+        @JvmStatic
+        @WorkerThread
+        fun createBlocking(changeType: String, annotation: Annotation): AnnotationChangeSnapshot {
+            val annotationMap = if (REMOVED == changeType) {
+                Arguments.createMap().apply {
+                    putString("name", annotation.name)
+                    putString("creatorName", annotation.creator)
+                    putString("uuid", annotation.uuid)
+                }
+            } else {
+                AnnotationUtils.annotationToWritableMap(annotation)
+            }
+            return AnnotationChangeSnapshot(
+                changeType,
+                annotation.uuid,
+                annotation.name,
+                annotation.creator,
+                annotation.type.toString(),
+                annotation.pageIndex,
+                annotationMap
+            )
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * AnnotationIndex.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import androidx.annotation.WorkerThread
+import com.pspdfkit.annotations.Annotation
+import com.pspdfkit.annotations.AnnotationProvider
+import com.pspdfkit.annotations.AnnotationType
+import com.pspdfkit.document.PdfDocument
+import java.util.EnumSet
+
+/**
+ * Looks up the annotations of a document by UUID or name without scanning all of them. The index
+ * is built from a full scan on first use and then kept current through the annotation provider's
+ * update callbacks, so lookups by identity cost a map access instead of one scan per call.
+ *
+ * Entries are only hints: every lookup checks that the annotation is still attached and still
+ * carries the requested identifier, which covers changes that raced with the initial scan.
+ */
+class AnnotationIndex(val document: PdfDocument) : AnnotationProvider.OnAnnotationUpdatedListener {
+
+    private val lock = Any()
+    private val annotationsByUuid = HashMap<String, Annotation>()
+
+    /** Names aren't unique, so every name maps to the annotations carrying it, keyed by UUID. */
+    private val annotationsByName = HashMap<String, LinkedHashMap<String, Annotation>>()
+
+    /** The name under which each annotation is currently indexed, to unindex it after a rename. */
+    private val indexedNames = HashMap<String, String>()
+
+    private var isBuilt = false
+    private var isReleased = false
+
+    init {
+        document.annotationProvider.addOnAnnotationUpdatedListener(this)
+    }
+
+    /**
+     * Returns the first annotation whose UUID or name matches, preferring a UUID match. Builds the
+     * index on first use, so it must be called on a background thread.
+     */
+    @WorkerThread
+    fun find(uuid: String?, name: String?): Annotation? {
+        ensureBuilt()
+        synchronized(lock) {
+            if (uuid != null) {
+                annotationsByUuid[uuid]?.takeIf { isValid(it) && it.uuid == uuid }?.let { return it }
+            }
+            if (name != null) {
+                annotationsByName[name]?.values?.firstOrNull { isValid(it) && it.name == name }?.let { return it }
+            }
+            return null
+        }
+    }
+
+    /** Returns all annotations whose UUID or name matches, each at most once. */
+    @WorkerThread
+    fun findAll(uuid: String?, name: String?): List<Annotation> {
+        ensureBuilt()
+        synchronized(lock) {
+            val result = LinkedHashMap<String, Annotation>()
+            if (uuid != null) {
+                annotationsByUuid[uuid]?.takeIf { isValid(it) && it.uuid == uuid }?.let { result[it.uuid] = it }
+            }
+            if (name != null) {
+                annotationsByName[name]?.values?.forEach {
+                    if (isValid(it) && it.name == name) result[it.uuid] = it
+                }
+            }
+            return ArrayList(result.values)
+        }
+    }
+
+    /**
+     * Drops the index so that it is rebuilt on the next lookup. Needed after bulk imports that may
+     * not report every annotation through the update callbacks.
+     */
+    fun invalidate() {
+        synchronized(lock) {
+            isBuilt = false
+            clear()
+        }
+    }
+
+    /** Stops listening for annotation updates. The index must not be used afterwards. */
+    fun release() {
+        synchronized(lock) {
+            isReleased = true
+            clear()
+        }
+        document.annotationProvider.removeOnAnnotationUpdatedListener(this)
+    }
+
+    override fun onAnnotationCreated(annotation: Annotation) {
+        synchronized(lock) {
+            if (!isReleased) put(annotation)
+        }
+    }
+
+    override fun onAnnotationUpdated(annotation: Annotation) {
+        synchronized(lock) {
+            if (!isReleased) put(annotation)
+        }
+    }
+
+    override fun onAnnotationRemoved(annotation: Annotation) {
+        synchronized(lock) {
+            if (!isReleased) remove(annotation.uuid)
+        }
+    }
+
+    override fun onAnnotationZOrderChanged(pageIndex: Int, oldOrder: List<Annotation>, newOrder: List<Annotation>) {
+        // The order of annotations doesn't affect lookups by identity.
+    }
+
+    private fun ensureBuilt() {
+        synchronized(lock) {
+            if (isBuilt || isReleased) return
+        }
+        // Scan outside the lock so update callbacks on the UI thread never wait for it. Entries
+        // recorded by callbacks during the scan are newer than the scanned ones and are kept.
+        val annotations = document.annotationProvider.getAllAnnotationsOfType(EnumSet.allOf(AnnotationType::class.java))
+        synchronized(lock) {
+            if (isBuilt || isReleased) return
+            for (annotation in annotations) {
+                if (!annotationsByUuid.containsKey(annotation.uuid)) put(annotation)
+            }
+            isBuilt = true
+        }
+    }
+
+    private fun isValid(annotation: Annotation) = annotation.isAttached
+
+    private fun put(annotation: Annotation) {
+        val uuid = annotation.uuid
+        remove(uuid)
+        annotationsByUuid[uuid] = annotation
+        annotation.name?.let { name ->
+            annotationsByName.getOrPut(name) { LinkedHashMap() }[uuid] = annotation
+            indexedNames[uuid] = name
+        }
+    }
+
+    private fun remove(uuid: String) {
+        annotationsByUuid.remove(uuid)
+        indexedNames.remove(uuid)?.let { name ->
+            val annotations = annotationsByName[name] ?: return
+            annotations.remove(uuid)
+            if (annotations.isEmpty()) annotationsByName.remove(name)
+        }
+    }
+
+    private fun clear() {
+        annotationsByUuid.clear()
+        annotationsByName.clear()
+        indexedNames.clear()
+    }
+}
@@ -1,11 +1,38 @@
 package com.pspdfkit.react.helper
 
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableMap
 import com.pspdfkit.annotations.Annotation
 import com.pspdfkit.annotations.AnnotationType
 import com.pspdfkit.annotations.WidgetAnnotation
 import org.json.JSONObject
 
 object AnnotationUtils {
+    /**
+     * Serializes the annotation straight into a [WritableMap] by streaming its Instant JSON, with
+     * the same content as [processAnnotation]. Prefer this when the result is sent over the bridge,
+     * as it avoids building a [JSONObject] and a [Map] tree first.
+     */
+    @JvmStatic
+    fun annotationToWritableMap(annotation: Annotation): WritableMap {
+        return try {
+            val annotationMap = JsonUtilities.jsonToWritableMap(annotation.toInstantJson())
+            // Keeping the uuid and isRequired props for backwards compatibility
+            annotationMap.putString("uuid", annotation.uuid)
+            if (annotation.type == AnnotationType.WIDGET) {
+                val widgetAnnotation: WidgetAnnotation = annotation as WidgetAnnotation
+                widgetAnnotation.formElement?.let { formElement ->
+                    annotationMap.putMap("formElement", Arguments.makeNativeMap(FormUtils.formElementToJSON(formElement)))
+                    annotationMap.putBoolean("isRequired", formElement.isRequired)
+                }
+            }
+            annotationMap
+        } catch (e: Exception) {
+            e.printStackTrace()
+            Arguments.createMap()
+        }
+    }
+
     @JvmStatic
     fun processAnnotation(annotation: Annotation): Map<String, Any> {
         return try {
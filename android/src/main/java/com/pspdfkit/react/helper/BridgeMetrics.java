@@ -0,0 +1,345 @@
+/*
+ * BridgeMetrics.java
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Dynamic;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.WritableMap;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in latency metrics of the methods that JS calls on a native module. While enabled, every
+ * call that goes through {@link #track(String, Promise, Object)} records into histograms per
+ * method:
+ * <ul>
+ *     <li>the queue wait, from the call until its work started on the thread it was handed to, see
+ *     {@link #markStarted(Promise)};</li>
+ *     <li>the execution time, from then until the promise was settled;</li>
+ *     <li>the approximate size of the arguments and of the result, see {@link #estimateSize(Object)}.</li>
+ * </ul>
+ * The time a call spends in the React Native queues before the native method runs isn't visible
+ * here. While disabled, {@link #track(String, Promise, Object)} returns the promise as is and costs
+ * a volatile read.
+ */
+public final class BridgeMetrics {
+
+    private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+    private static volatile boolean isEnabled = false;
+    private static final ConcurrentHashMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    private BridgeMetrics() {
+    }
+
+    private static final class MethodMetrics {
+        final AtomicLong calls = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final LogLinearHistogram queueWait = new LogLinearHistogram();
+        final LogLinearHistogram execution = new LogLinearHistogram();
+        final LogLinearHistogram requestSize = new LogLinearHistogram();
+        final LogLinearHistogram responseSize = new LogLinearHistogram();
+    }
+
+    /** Enables recording, starting from empty histograms, or disables it. */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && !isEnabled) {
+            methods.clear();
+        }
+        isEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Starts measuring a call of {@code method}. The returned promise has to be used instead of
+     * {@code promise}, it records the call once it is settled.
+     *
+     * @param request The argument that carries the call's payload, if any. Its size is recorded.
+     */
+    @NonNull
+    public static Promise track(@NonNull String method, @NonNull Promise promise, @Nullable Object request) {
+        // Calls forwarded by another tracked call are part of that call.
+        if (!isEnabled || promise instanceof TrackedPromise) {
+            return promise;
+        }
+        MethodMetrics metrics = methods.computeIfAbsent(method, key -> new MethodMetrics());
+        metrics.calls.incrementAndGet();
+        metrics.requestSize.record(estimateSize(request));
+        return new TrackedPromise(metrics, promise);
+    }
+
+    /** Marks the work of the call settling {@code promise} as started, only the first mark counts. */
+    public static void markStarted(@NonNull Promise promise) {
+        if (promise instanceof TrackedPromise) {
+            ((TrackedPromise) promise).markStarted();
+        }
+    }
+
+    /** Returns the summaries of the recorded histograms per method, times in milliseconds and sizes in bytes. */
+    @NonNull
+    public static WritableMap getMetrics() {
+        WritableMap result = Arguments.createMap();
+        WritableMap methodMetrics = Arguments.createMap();
+        for (Map.Entry<String, MethodMetrics> entry : new TreeMap<>(methods).entrySet()) {
+            MethodMetrics metrics = entry.getValue();
+            WritableMap map = Arguments.createMap();
+            map.putDouble("calls", metrics.calls.get());
+            map.putDouble("errors", metrics.errors.get());
+            map.putMap("queueWait", metrics.queueWait.toWritableMap(NANOS_PER_MILLISECOND));
+            map.putMap("execution", metrics.execution.toWritableMap(NANOS_PER_MILLISECOND));
+            map.putMap("requestSize", metrics.requestSize.toWritableMap(1));
+            map.putMap("responseSize", metrics.responseSize.toWritableMap(1));
+            methodMetrics.putMap(entry.getKey(), map);
+        }
+        result.putBoolean("enabled", isEnabled);
+        result.putMap("methods", methodMetrics);
+        return result;
+    }
+
+    /**
+     * Writes the recorded metrics, including the histogram buckets, as JSON to {@code file}.
+     * Performs file IO, don't call it on the main thread.
+     */
+    public static void writeTo(@NonNull File file) throws IOException {
+        JSONObject json = new JSONObject();
+        try {
+            JSONObject methodMetrics = new JSONObject();
+            for (Map.Entry<String, MethodMetrics> entry : new TreeMap<>(methods).entrySet()) {
+                MethodMetrics metrics = entry.getValue();
+                JSONObject method = new JSONObject();
+                method.put("calls", metrics.calls.get());
+                method.put("errors", metrics.errors.get());
+                method.put("queueWait", metrics.queueWait.toJson(NANOS_PER_MILLISECOND));
+                method.put("execution", metrics.execution.toJson(NANOS_PER_MILLISECOND));
+                method.put("requestSize", metrics.requestSize.toJson(1));
+                method.put("responseSize", metrics.responseSize.toJson(1));
+                methodMetrics.put(entry.getKey(), method);
+            }
+            json.put("timestamp", System.currentTimeMillis());
+            json.put("enabled", isEnabled);
+            json.put("methods", methodMetrics);
+        } catch (JSONException e) {
+            throw new IOException("Could not serialize the bridge metrics", e);
+        }
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(json.toString());
+        }
+    }
+
+    /**
+     * Estimates how many bytes {@code value} takes on the bridge: strings count their length, other
+     * scalars 8 bytes and map keys their length. Walks the whole value, only used while enabled.
+     */
+    static long estimateSize(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value instanceof ReadableMap) {
+            ReadableMap map = (ReadableMap) value;
+            long size = 0;
+            ReadableMapKeySetIterator iterator = map.keySetIterator();
+            while (iterator.hasNextKey()) {
+                String key = iterator.nextKey();
+                size += key.length() + estimateMapValueSize(map, key);
+            }
+            return size;
+        } else if (value instanceof ReadableArray) {
+            ReadableArray array = (ReadableArray) value;
+            long size = 0;
+            for (int i = 0; i < array.size(); i++) {
+                size += estimateArrayValueSize(array, i);
+            }
+            return size;
+        } else if (value instanceof Dynamic) {
+            Dynamic dynamic = (Dynamic) value;
+            switch (dynamic.getType()) {
+                case Null:
+                    return 0;
+                case String:
+                    return estimateSize(dynamic.asString());
+                case Map:
+                    return estimateSize(dynamic.asMap());
+                case Array:
+                    return estimateSize(dynamic.asArray());
+                default:
+                    return 8;
+            }
+        }
+        return 8;
+    }
+
+    private static long estimateMapValueSize(@NonNull ReadableMap map, @NonNull String key) {
+        switch (map.getType(key)) {
+            case Null:
+                return 0;
+            case String:
+                return estimateSize(map.getString(key));
+            case Map:
+                return estimateSize(map.getMap(key));
+            case Array:
+                return estimateSize(map.getArray(key));
+            default:
+                return 8;
+        }
+    }
+
+    private static long estimateArrayValueSize(@NonNull ReadableArray array, int index) {
+        switch (array.getType(index)) {
+            case Null:
+                return 0;
+            case String:
+                return estimateSize(array.getString(index));
+            case Map:
+                return estimateSize(array.getMap(index));
+            case Array:
+                return estimateSize(array.getArray(index));
+            default:
+                return 8;
+        }
+    }
+
+    /** Forwards to the promise of the call and records the call when it is settled first. */
+    private static final class TrackedPromise implements Promise {
+
+        @NonNull
+        private final MethodMetrics metrics;
+        @NonNull
+        private final Promise promise;
+        private final long callNanos = System.nanoTime();
+        private final AtomicLong startNanos = new AtomicLong(-1);
+        private final AtomicBoolean isSettled = new AtomicBoolean();
+
+        TrackedPromise(@NonNull MethodMetrics metrics, @NonNull Promise promise) {
+            this.metrics = metrics;
+            this.promise = promise;
+        }
+
+        void markStarted() {
+            startNanos.compareAndSet(-1, System.nanoTime());
+        }
+
+        private void onSettled(@Nullable Object result, boolean failed) {
+            if (!isSettled.compareAndSet(false, true)) {
+                return;
+            }
+            long now = System.nanoTime();
+            // Calls that complete without handing work to another thread start right away.
+            startNanos.compareAndSet(-1, callNanos);
+            long start = startNanos.get();
+            metrics.queueWait.record(start - callNanos);
+            metrics.execution.record(now - start);
+            if (failed) {
+                metrics.errors.incrementAndGet();
+            } else {
+                // Sized before resolving, the native map or array is consumed by the bridge.
+                metrics.responseSize.record(estimateSize(result));
+            }
+        }
+
+        @Override
+        public void resolve(@Nullable Object value) {
+            onSettled(value, false);
+            promise.resolve(value);
+        }
+
+        @Override
+        public void reject(String code, String message) {
+            onSettled(null, true);
+            promise.reject(code, message);
+        }
+
+        @Override
+        public void reject(String code, Throwable throwable) {
+            onSettled(null, true);
+            promise.reject(code, throwable);
+        }
+
+        @Override
+        public void reject(String code, String message, Throwable throwable) {
+            onSettled(null, true);
+            promise.reject(code, message, throwable);
+        }
+
+        @Override
+        public void reject(Throwable throwable) {
+            onSettled(null, true);
+            promise.reject(throwable);
+        }
+
+        @Override
+        public void reject(Throwable throwable, WritableMap userInfo) {
+            onSettled(null, true);
+            promise.reject(throwable, userInfo);
+        }
+
+        @Override
+        public void reject(String code, @NonNull WritableMap userInfo) {
+            onSettled(null, true);
+            promise.reject(code, userInfo);
+        }
+
+        @Override
+        public void reject(String code, Throwable throwable, WritableMap userInfo) {
+            onSettled(null, true);
+            promise.reject(code, throwable, userInfo);
+        }
+
+        @Override
+        public void reject(String code, String message, @NonNull WritableMap userInfo) {
+            onSettled(null, true);
+            promise.reject(code, message, userInfo);
+        }
+
+        @Override
+        public void reject(String code, String message, Throwable throwable, WritableMap userInfo) {
+            onSettled(null, true);
+            promise.reject(code, message, throwable, userInfo);
+        }
+
+        @Deprecated
+        @Override
+        public void reject(String message) {
+            onSettled(null, true);
+            promise.reject(message);
+        }
+    }
+}
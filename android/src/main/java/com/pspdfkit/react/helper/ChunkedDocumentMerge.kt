@@ -0,0 +1,175 @@
+/*
+ * ChunkedDocumentMerge.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import android.content.Context
+import android.net.Uri
+import com.facebook.react.bridge.ReadableArray
+import com.facebook.react.bridge.ReadableMap
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.PdfDocumentLoader
+import com.pspdfkit.document.processor.NewPage
+import com.pspdfkit.document.processor.PdfProcessor
+import com.pspdfkit.document.processor.PdfProcessorTask
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import java.io.File
+import java.io.IOException
+
+/**
+ * Merges the pages of several documents, like `generatePDFFromDocuments`, without holding all of
+ * the sources at once. The pages are written in chunks of at most `chunkSize` pages: each chunk
+ * opens only the sources it takes pages from and is written to its own part file before the next
+ * chunk starts, after which its sources are released. The part files are then joined into the
+ * output in a single pass, so every page is written twice regardless of the chunk size.
+ *
+ * The sources held at once depend on the chunk size instead of the number of documents. The final
+ * pass still opens every part, so memory use still grows with the total page count, just more
+ * slowly than when every source is open at once; `ChunkedMergeBenchmark` records it per chunk size.
+ */
+object ChunkedDocumentMerge {
+
+    /** Pages [pages] of the source at [documentPath], laid out by the entry's [configuration]. */
+    private class PageRange(val documentPath: String, val configuration: ReadableMap, val pages: IntRange)
+
+    private class Chunk(val ranges: List<PageRange>, val firstPageIndex: Int, val pageCount: Int)
+
+    /**
+     * Merges the pages described by the [documents] configurations into [outputFile], [chunkSize]
+     * pages at a time. The sources are opened when the returned flowable is subscribed to, and the
+     * partial output is deleted if it fails or is disposed.
+     */
+    @JvmStatic
+    fun merge(context: Context, documents: ReadableArray, chunkSize: Int, outputFile: File): Flowable<ProcessingJobs.Progress> {
+        val applicationContext = context.applicationContext
+        return Flowable.defer {
+            val chunks = planChunks(applicationContext, documents, maxOf(1, chunkSize))
+            if (chunks.isEmpty()) {
+                throw IllegalArgumentException("The documents don't contain any pages to merge.")
+            }
+            val totalPages = chunks.sumOf { it.pageCount }
+            val partFiles = chunks.indices.map { index -> File(outputFile.parentFile, "${outputFile.name}.part$index") }
+            Flowable.range(0, chunks.size)
+                .concatMap { index -> processChunk(applicationContext, chunks[index], totalPages, partFiles[index]) }
+                .concatWith(joinParts(applicationContext, partFiles, totalPages, outputFile))
+                .doFinally { partFiles.forEach(File::delete) }
+        }
+    }
+
+    /**
+     * Splits the pages of [documents] into chunks. Sources that aren't limited to a single page
+     * are opened once to count their pages and released right away.
+     */
+    private fun planChunks(context: Context, documents: ReadableArray, chunkSize: Int): List<Chunk> {
+        val pageCounts = HashMap<String, Int>()
+        val chunks = ArrayList<Chunk>()
+        var ranges = ArrayList<PageRange>()
+        var chunkPageCount = 0
+        var mergedPageCount = 0
+
+        for (i in 0 until documents.size()) {
+            val configuration = documents.getMap(i) ?: continue
+            val documentPath = configuration.getString("documentPath")
+                ?: throw IllegalArgumentException("Missing documentPath of document $i.")
+            var pages = if (configuration.hasKey("pageIndex")) {
+                val pageIndex = configuration.getInt("pageIndex")
+                pageIndex..pageIndex
+            } else {
+                val pageCount = pageCounts.getOrPut(documentPath) {
+                    PdfDocumentLoader.openDocument(context, Uri.parse(documentPath)).pageCount
+                }
+                0 until pageCount
+            }
+            while (!pages.isEmpty()) {
+                val count = minOf(pages.last - pages.first + 1, chunkSize - chunkPageCount)
+                ranges.add(PageRange(documentPath, configuration, pages.first until pages.first + count))
+                chunkPageCount += count
+                pages = pages.first + count..pages.last
+                if (chunkPageCount == chunkSize) {
+                    chunks.add(Chunk(ranges, mergedPageCount, chunkPageCount))
+                    mergedPageCount += chunkPageCount
+                    ranges = ArrayList()
+                    chunkPageCount = 0
+                }
+            }
+        }
+        if (chunkPageCount > 0) {
+            chunks.add(Chunk(ranges, mergedPageCount, chunkPageCount))
+        }
+        return chunks
+    }
+
+    /**
+     * Writes the pages of [chunk] to [partFile], reporting progress across all chunks. The last page
+     * is only reported once the parts are joined.
+     */
+    private fun processChunk(
+        context: Context,
+        chunk: Chunk,
+        totalPages: Int,
+        partFile: File
+    ): Flowable<ProcessingJobs.Progress> {
+        return Flowable.defer {
+            val task = PdfProcessorTask.empty()
+            // Sources are opened directly instead of through DocumentHandleCache, so that they can
+            // be released as soon as the chunk is written.
+            val sources = HashMap<String, PdfDocument>()
+            val pageConfiguration = RNConfigurationHelper(context)
+            var pageIndex = 0
+            for (range in chunk.ranges) {
+                val source = sources.getOrPut(range.documentPath) {
+                    PdfDocumentLoader.openDocument(context, Uri.parse(range.documentPath))
+                }
+                pageConfiguration.configuration = range.configuration
+                for (sourcePageIndex in range.pages) {
+                    task.addNewPage(pageConfiguration.applyPageConfiguration(NewPage.fromPage(source, sourcePageIndex)).build(), pageIndex++)
+                }
+            }
+            partFile.delete()
+            PdfProcessor.processDocumentAsync(task, partFile)
+                .map { progress ->
+                    ProcessingJobs.Progress(minOf(chunk.firstPageIndex + progress.pagesProcessed, totalPages - 1), totalPages)
+                }
+        }
+    }
+
+    /** Writes the pages of all [partFiles] to [outputFile] in a single pass. */
+    private fun joinParts(context: Context, partFiles: List<File>, totalPages: Int, outputFile: File): Flowable<ProcessingJobs.Progress> {
+        if (partFiles.size == 1) {
+            return Completable.fromAction { moveFile(partFiles[0], outputFile) }
+                .andThen(Flowable.just(ProcessingJobs.Progress(totalPages, totalPages)))
+        }
+        return Flowable.defer {
+            // The pages of the first part are kept as they are, the others are appended to them.
+            val firstPart = PdfDocumentLoader.openDocument(context, Uri.fromFile(partFiles[0]))
+            val task = PdfProcessorTask.fromDocument(firstPart)
+            var pageIndex = firstPart.pageCount
+            for (partFile in partFiles.drop(1)) {
+                val part = PdfDocumentLoader.openDocument(context, Uri.fromFile(partFile))
+                for (partPageIndex in 0 until part.pageCount) {
+                    task.addNewPage(NewPage.fromPage(part, partPageIndex).build(), pageIndex++)
+                }
+            }
+            PdfProcessor.processDocumentAsync(task, outputFile)
+                .filter { progress -> progress.pagesProcessed >= progress.totalPages }
+                .map { ProcessingJobs.Progress(totalPages, totalPages) }
+        }
+    }
+
+    private fun moveFile(source: File, target: File) {
+        if (!source.renameTo(target)) {
+            throw IOException("Could not move ${source.path} to ${target.path}.")
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * DocumentHandleCache.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import android.content.ContentResolver
+import android.content.Context
+import android.net.Uri
+import android.provider.DocumentsContract
+import android.provider.OpenableColumns
+import androidx.annotation.WorkerThread
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.PdfDocumentLoader
+import java.io.File
+import java.io.IOException
+
+/**
+ * Keeps recently opened documents around so that APIs that open a document by path just to read it,
+ * like `getDocumentProperties`, `processAnnotations` or new pages from a document, don't parse the
+ * same file again on every call.
+ *
+ * Entries are keyed by URI, password, modification time and size, so a file that changed on disk is
+ * opened again instead of being served from the cache. Documents whose provider reports neither
+ * are never cached, as a change couldn't be detected. The cache is bounded both by the number of documents and by their
+ * estimated memory footprint, evicting the least recently used ones first.
+ */
+object DocumentHandleCache {
+
+    /** Maximum number of documents kept open. */
+    private const val MAX_DOCUMENTS = 16
+
+    /** Upper bound of the summed estimated size of the cached documents. */
+    private const val MAX_ESTIMATED_BYTES = 64L * 1024 * 1024
+
+    /** Estimate used for documents whose size can't be determined. */
+    private const val UNKNOWN_SIZE_ESTIMATE = 1024L * 1024
+
+    private class Entry(val document: PdfDocument, val estimatedBytes: Long)
+
+    private val entries = LinkedHashMap<String, Entry>(MAX_DOCUMENTS, 0.75f, true)
+    private var estimatedBytes = 0L
+
+    /**
+     * Returns the cached document for [uri], opening it if it isn't cached or changed on disk since.
+     * Throws the same exceptions as [PdfDocumentLoader.openDocument].
+     */
+    @JvmStatic
+    @JvmOverloads
+    @WorkerThread
+    @Throws(IOException::class)
+    fun openDocument(context: Context, uri: Uri, password: String? = null): PdfDocument {
+        return openDocument(context, uri, password, fileStamp(context.contentResolver, uri))
+    }
+
+    /** Like [openDocument], for callers that already read the [FileStamp] of [uri]. */
+    @WorkerThread
+    @Throws(IOException::class)
+    internal fun openDocument(context: Context, uri: Uri, password: String?, stamp: FileStamp): PdfDocument {
+        if (!stamp.isKnown) {
+            return load(context, uri, password)
+        }
+        val key = "$uri|${password ?: ""}|${stamp.lastModified}|${stamp.size}"
+        synchronized(this) {
+            entries[key]?.let { return it.document }
+        }
+        val document = load(context, uri, password)
+        synchronized(this) {
+            // Another thread may have opened the same document in the meantime, keep the first one.
+            entries[key]?.let { return it.document }
+            val entry = Entry(document, if (stamp.size > 0) stamp.size else UNKNOWN_SIZE_ESTIMATE)
+            entries[key] = entry
+            estimatedBytes += entry.estimatedBytes
+            trim()
+        }
+        return document
+    }
+
+    private fun load(context: Context, uri: Uri, password: String?): PdfDocument {
+        return if (password != null) {
+            PdfDocumentLoader.openDocument(context, uri, password)
+        } else {
+            PdfDocumentLoader.openDocument(context, uri)
+        }
+    }
+
+    /** Drops all cached documents. */
+    @JvmStatic
+    fun clear() {
+        synchronized(this) {
+            entries.clear()
+            estimatedBytes = 0
+        }
+    }
+
+    private fun trim() {
+        val iterator = entries.values.iterator()
+        // Keep at least the most recently added document, even if it alone exceeds the budget.
+        while (entries.size > 1 && (entries.size > MAX_DOCUMENTS || estimatedBytes > MAX_ESTIMATED_BYTES) && iterator.hasNext()) {
+            estimatedBytes -= iterator.next().estimatedBytes
+            iterator.remove()
+        }
+    }
+
+    /** The modification time and size of a file, both zero if unknown. */
+    internal class FileStamp(val lastModified: Long, val size: Long) {
+        val isKnown: Boolean
+            get() = lastModified != 0L || size != 0L
+
+        fun matches(lastModified: Long, size: Long) = this.lastModified == lastModified && this.size == size
+    }
+
+    /** Reads the modification time and size of the file behind [uri], or zeros if unavailable. */
+    internal fun fileStamp(contentResolver: ContentResolver, uri: Uri): FileStamp {
+        try {
+            if (uri.scheme == null || uri.scheme == ContentResolver.SCHEME_FILE) {
+                val file = File(uri.path ?: return FileStamp(0, 0))
+                return FileStamp(file.lastModified(), file.length())
+            }
+            if (uri.scheme == ContentResolver.SCHEME_CONTENT) {
+                val projection = arrayOf(OpenableColumns.SIZE, DocumentsContract.Document.COLUMN_LAST_MODIFIED)
+                contentResolver.query(uri, projection, null, null, null)?.use { cursor ->
+                    if (cursor.moveToFirst()) {
+                        val sizeColumn = cursor.getColumnIndex(OpenableColumns.SIZE)
+                        val lastModifiedColumn = cursor.getColumnIndex(DocumentsContract.Document.COLUMN_LAST_MODIFIED)
+                        return FileStamp(
+                            if (lastModifiedColumn >= 0 && !cursor.isNull(lastModifiedColumn)) cursor.getLong(lastModifiedColumn) else 0,
+                            if (sizeColumn >= 0 && !cursor.isNull(sizeColumn)) cursor.getLong(sizeColumn) else 0
+                        )
+                    }
+                }
+            }
+        } catch (_: Exception) {
+            // Providers may reject the projection, treat the file as unstamped.
+        }
+        return FileStamp(0, 0)
+    }
+}
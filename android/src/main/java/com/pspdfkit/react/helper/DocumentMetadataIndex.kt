@@ -0,0 +1,321 @@
+/*
+ * DocumentMetadataIndex.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import android.content.Context
+import android.net.Uri
+import android.util.JsonReader
+import android.util.JsonToken
+import android.util.JsonWriter
+import android.util.Log
+import androidx.annotation.WorkerThread
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableMap
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * Persists the properties returned by `getDocumentProperties` in a small index under the app's
+ * cache directory, so that a library of documents can be listed after a cold start without opening
+ * any of them. Entries are keyed by URI and only used while the file's size and modification time
+ * still match the ones it was indexed with.
+ *
+ * Documents whose size and modification time can't be determined, like some content URIs, are
+ * never indexed since a stale entry couldn't be detected. Neither are documents without a document
+ * ID, like encrypted ones, as their entries couldn't be told apart.
+ */
+object DocumentMetadataIndex {
+
+    private const val TAG = "DocumentMetadataIndex"
+    private const val INDEX_DIRECTORY = "nutrient"
+    private const val INDEX_FILE = "document-metadata-index.json"
+    private const val INDEX_VERSION = 1
+
+    /** Maximum number of indexed documents; the least recently used ones are dropped first. */
+    private const val MAX_ENTRIES = 5000
+
+    /** Delay before a change is written, so that indexing a library results in few writes. */
+    private const val WRITE_DELAY_MS = 1000L
+
+    /** The indexed properties of a document. */
+    class Metadata(
+        val documentId: String?,
+        val pageCount: Int,
+        val isEncrypted: Boolean,
+        val title: String?,
+        /** Width and height of every page in PDF points, interleaved. */
+        val pageSizes: FloatArray
+    ) {
+        /** Converts the metadata into the properties object returned to JS. */
+        fun toWritableMap(): WritableMap {
+            val properties = Arguments.createMap()
+            // Omitted rather than null for documents without an ID, like encrypted entries.
+            documentId?.let { properties.putString("documentId", it) }
+            properties.putInt("pageCount", pageCount)
+            properties.putBoolean("isEncrypted", isEncrypted)
+            properties.putString("title", title)
+            val sizes = Arguments.createArray()
+            for (i in 0 until pageSizes.size / 2) {
+                val size = Arguments.createMap()
+                size.putDouble("width", pageSizes[2 * i].toDouble())
+                size.putDouble("height", pageSizes[2 * i + 1].toDouble())
+                sizes.pushMap(size)
+            }
+            properties.putArray("pageSizes", sizes)
+            return properties
+        }
+    }
+
+    /** Outcome of [revalidate]. */
+    class SweepResult(val checked: Int, val removed: Int, val refreshed: Int) {
+        fun toWritableMap(): WritableMap {
+            val result = Arguments.createMap()
+            result.putInt("checked", checked)
+            result.putInt("removed", removed)
+            result.putInt("refreshed", refreshed)
+            return result
+        }
+    }
+
+    private class Entry(val lastModified: Long, val size: Long, val metadata: Metadata)
+
+    private val entries = LinkedHashMap<String, Entry>(16, 0.75f, true)
+    private var indexFile: File? = null
+    private var isWriteScheduled = false
+
+    private val writer = Executors.newSingleThreadScheduledExecutor { runnable ->
+        Thread(runnable, "NutrientMetadataIndex").apply { isDaemon = true }
+    }
+
+    /**
+     * Returns the properties of the document at [uri], from the index if it's current and by
+     * opening the document otherwise. Throws if the document can't be read.
+     */
+    @JvmStatic
+    @WorkerThread
+    @Throws(IOException::class)
+    fun getMetadata(context: Context, uri: Uri): Metadata {
+        ensureLoaded(context)
+        val key = uri.toString()
+        val stamp = DocumentHandleCache.fileStamp(context.contentResolver, uri)
+        if (stamp.isKnown) {
+            synchronized(this) {
+                entries[key]?.takeIf { stamp.matches(it.lastModified, it.size) }?.let { return it.metadata }
+            }
+        }
+        val metadata = readMetadata(context, uri, stamp)
+        if (stamp.isKnown && metadata.documentId != null) {
+            synchronized(this) {
+                entries[key] = Entry(stamp.lastModified, stamp.size, metadata)
+                trim()
+            }
+            scheduleWrite()
+        }
+        return metadata
+    }
+
+    /** Drops the entry of the document at [uri], or all entries if [uri] is `null`. */
+    @JvmStatic
+    fun invalidate(context: Context, uri: Uri?) {
+        ensureLoaded(context)
+        synchronized(this) {
+            if (uri == null) entries.clear() else entries.remove(uri.toString())
+        }
+        scheduleWrite()
+    }
+
+    /**
+     * Checks every indexed document against the file on disk. Entries of deleted or unreadable
+     * documents are removed, entries of changed documents are re-read.
+     */
+    @JvmStatic
+    @WorkerThread
+    fun revalidate(context: Context): SweepResult {
+        ensureLoaded(context)
+        val snapshot = synchronized(this) { HashMap(entries) }
+        var removed = 0
+        var refreshed = 0
+        for ((key, entry) in snapshot) {
+            val uri = Uri.parse(key)
+            val stamp = DocumentHandleCache.fileStamp(context.contentResolver, uri)
+            if (stamp.isKnown && stamp.matches(entry.lastModified, entry.size)) continue
+            val metadata = if (stamp.isKnown) {
+                try {
+                    readMetadata(context, uri, stamp).takeIf { it.documentId != null }
+                } catch (e: IOException) {
+                    null
+                }
+            } else {
+                null
+            }
+            synchronized(this) {
+                // Skip entries that were replaced or dropped while the sweep was running.
+                if (entries[key] !== entry) return@synchronized
+                if (metadata != null) {
+                    entries[key] = Entry(stamp.lastModified, stamp.size, metadata)
+                    refreshed++
+                } else {
+                    entries.remove(key)
+                    removed++
+                }
+            }
+        }
+        if (removed > 0 || refreshed > 0) {
+            scheduleWrite()
+        }
+        return SweepResult(snapshot.size, removed, refreshed)
+    }
+
+    /** Throws [com.pspdfkit.exceptions.InvalidPasswordException] for encrypted documents, which aren't indexed. */
+    @Throws(IOException::class)
+    private fun readMetadata(context: Context, uri: Uri, stamp: DocumentHandleCache.FileStamp): Metadata {
+        val document = DocumentHandleCache.openDocument(context, uri, null, stamp)
+        val pageCount = document.pageCount
+        val pageSizes = FloatArray(pageCount * 2)
+        for (pageIndex in 0 until pageCount) {
+            val size = document.getPageSize(pageIndex)
+            pageSizes[2 * pageIndex] = size.width
+            pageSizes[2 * pageIndex + 1] = size.height
+        }
+        return Metadata(document.documentIdString, pageCount, document.isEncrypted, document.title, pageSizes)
+    }
+
+    private fun trim() {
+        val iterator = entries.values.iterator()
+        while (entries.size > MAX_ENTRIES && iterator.hasNext()) {
+            iterator.next()
+            iterator.remove()
+        }
+    }
+
+    private fun ensureLoaded(context: Context) {
+        synchronized(this) {
+            if (indexFile != null) return
+            val file = File(File(context.cacheDir, INDEX_DIRECTORY), INDEX_FILE)
+            indexFile = file
+            if (!file.exists()) return
+            try {
+                JsonReader(file.bufferedReader()).use { readIndex(it) }
+            } catch (e: Exception) {
+                // A corrupt index is only a cache, start over.
+                Log.w(TAG, "Discarding unreadable document metadata index", e)
+                entries.clear()
+            }
+        }
+    }
+
+    private fun scheduleWrite() {
+        synchronized(this) {
+            if (isWriteScheduled) return
+            isWriteScheduled = true
+        }
+        writer.schedule(::write, WRITE_DELAY_MS, TimeUnit.MILLISECONDS)
+    }
+
+    private fun write() {
+        val (file, snapshot) = synchronized(this) {
+            isWriteScheduled = false
+            Pair(indexFile ?: return, ArrayList(entries.entries.map { it.key to it.value }))
+        }
+        try {
+            file.parentFile?.mkdirs()
+            // Write to a temporary file first so that a crash never leaves a truncated index behind.
+            val temporaryFile = File(file.parentFile, "$INDEX_FILE.tmp")
+            JsonWriter(temporaryFile.bufferedWriter()).use { writeIndex(it, snapshot) }
+            if (!temporaryFile.renameTo(file)) {
+                throw IOException("Could not replace $file")
+            }
+        } catch (e: IOException) {
+            Log.w(TAG, "Could not write the document metadata index", e)
+        }
+    }
+
+    private fun readIndex(reader: JsonReader) {
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "version" -> if (reader.nextInt() != INDEX_VERSION) return
+                "entries" -> {
+                    reader.beginObject()
+                    while (reader.hasNext()) {
+                        val key = reader.nextName()
+                        // Indexes written by earlier versions may contain entries without an ID.
+                        readEntry(reader).takeIf { it.metadata.documentId != null }?.let { entries[key] = it }
+                    }
+                    reader.endObject()
+                }
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+    }
+
+    private fun readEntry(reader: JsonReader): Entry {
+        var lastModified = 0L
+        var size = 0L
+        var documentId: String? = null
+        var pageCount = 0
+        var isEncrypted = false
+        var title: String? = null
+        val pageSizes = ArrayList<Float>()
+        reader.beginObject()
+        while (reader.hasNext()) {
+            val name = reader.nextName()
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull()
+                continue
+            }
+            when (name) {
+                "lastModified" -> lastModified = reader.nextLong()
+                "size" -> size = reader.nextLong()
+                "documentId" -> documentId = reader.nextString()
+                "pageCount" -> pageCount = reader.nextInt()
+                "isEncrypted" -> isEncrypted = reader.nextBoolean()
+                "title" -> title = reader.nextString()
+                "pageSizes" -> {
+                    reader.beginArray()
+                    while (reader.hasNext()) pageSizes.add(reader.nextDouble().toFloat())
+                    reader.endArray()
+                }
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+        return Entry(lastModified, size, Metadata(documentId, pageCount, isEncrypted, title, pageSizes.toFloatArray()))
+    }
+
+    private fun writeIndex(writer: JsonWriter, snapshot: List<Pair<String, Entry>>) {
+        writer.beginObject()
+        writer.name("version").value(INDEX_VERSION.toLong())
+        writer.name("entries").beginObject()
+        for ((key, entry) in snapshot) {
+            val metadata = entry.metadata
+            writer.name(key).beginObject()
+            writer.name("lastModified").value(entry.lastModified)
+            writer.name("size").value(entry.size)
+            writer.name("documentId").value(metadata.documentId)
+            writer.name("pageCount").value(metadata.pageCount.toLong())
+            writer.name("isEncrypted").value(metadata.isEncrypted)
+            writer.name("title").value(metadata.title)
+            writer.name("pageSizes").beginArray()
+            for (value in metadata.pageSizes) writer.value(value.toDouble())
+            writer.endArray()
+            writer.endObject()
+        }
+        writer.endObject()
+        writer.endObject()
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * DocumentWarmPool.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import android.content.ComponentCallbacks2
+import android.content.Context
+import android.content.res.Configuration
+import android.net.Uri
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableMap
+import com.pspdfkit.document.PdfDocument
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+
+/**
+ * Keeps documents that are likely to be opened next loaded, so that `PdfView` can show them without
+ * waiting for the document to be parsed. A prefetched document is held through a
+ * [SharedDocumentPool] lease, which is handed over to the first view that opens it. A prefetched
+ * document whose file changed on disk since is released instead and the open counts as a miss.
+ *
+ * The pool holds at most [MAX_DOCUMENTS] documents, evicting the least recently prefetched ones
+ * first, and is emptied when the system runs low on memory.
+ */
+object DocumentWarmPool : ComponentCallbacks2 {
+
+    private const val MAX_DOCUMENTS = 3
+
+    private val entries = LinkedHashMap<String, SharedDocumentPool.Lease>(MAX_DOCUMENTS, 0.75f, true)
+    private var isRegistered = false
+
+    private var hits = 0
+    private var misses = 0
+    private var prefetched = 0
+    private var evicted = 0
+
+    /**
+     * Loads the document at [uri] into the pool and renders its first [pageCount] pages to fit
+     * into [width] x [height] pixels, which warms the caches used when the pages are displayed.
+     * Emits the number of rendered pages.
+     */
+    @JvmStatic
+    fun prefetch(context: Context, uri: Uri, password: String?, pageCount: Int, width: Int, height: Int): Single<Int> {
+        val applicationContext = context.applicationContext
+        register(applicationContext)
+        val key = SharedDocumentPool.keyFor(uri, password)
+        val stamp = DocumentHandleCache.fileStamp(applicationContext.contentResolver, uri)
+        var staleLease: SharedDocumentPool.Lease? = null
+        val lease = synchronized(this) {
+            val existing = entries[key]
+            if (existing != null && existing.stamp.matches(stamp.lastModified, stamp.size)) {
+                existing
+            } else {
+                staleLease = existing
+                SharedDocumentPool.acquire(applicationContext, uri, password).also {
+                    entries[key] = it
+                    prefetched++
+                    trim()
+                }
+            }
+        }
+        staleLease?.release()
+        return lease.document
+            .observeOn(Schedulers.io())
+            .map { document -> renderPages(applicationContext, document, pageCount, width, height) }
+            .doOnError { discard(key, lease) }
+    }
+
+    /**
+     * Returns a lease on the document at [uri] for a view, taking over the prefetched document if
+     * there is one. Views must use this instead of [SharedDocumentPool.acquire] so that hits are
+     * counted and the pool doesn't keep documents that are already shown.
+     */
+    @JvmStatic
+    fun acquire(context: Context, uri: Uri, password: String?): SharedDocumentPool.Lease {
+        // Acquire the view's lease before releasing the prefetched one, so the document is kept.
+        val lease = SharedDocumentPool.acquire(context, uri, password)
+        val prefetchedLease = synchronized(this) {
+            entries.remove(SharedDocumentPool.keyFor(uri, password)).also {
+                // A document prefetched before the file changed is of no use to the view.
+                if (it != null && it.stamp.matches(lease.stamp.lastModified, lease.stamp.size)) hits++ else misses++
+            }
+        }
+        prefetchedLease?.release()
+        return lease
+    }
+
+    /** Releases all prefetched documents. */
+    @JvmStatic
+    fun clear() {
+        val leases = synchronized(this) {
+            evicted += entries.size
+            ArrayList(entries.values).also { entries.clear() }
+        }
+        leases.forEach { it.release() }
+    }
+
+    /** Returns the hit rate of view opens and the pool counters as the object returned to JS. */
+    @JvmStatic
+    fun getStatistics(): WritableMap {
+        synchronized(this) {
+            val statistics = Arguments.createMap()
+            statistics.putInt("hits", hits)
+            statistics.putInt("misses", misses)
+            statistics.putDouble("hitRate", if (hits + misses > 0) hits.toDouble() / (hits + misses) else 0.0)
+            statistics.putInt("prefetched", prefetched)
+            statistics.putInt("evicted", evicted)
+            statistics.putInt("size", entries.size)
+            return statistics
+        }
+    }
+
+    override fun onTrimMemory(level: Int) {
+        // Prefetched documents are only a guess, drop them before anything the user is looking at.
+        @Suppress("DEPRECATION")
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            clear()
+        }
+    }
+
+    @Deprecated("Deprecated in Java")
+    override fun onLowMemory() {
+        clear()
+    }
+
+    override fun onConfigurationChanged(newConfig: Configuration) {
+        // Prefetched pages don't depend on the configuration.
+    }
+
+    private fun renderPages(context: Context, document: PdfDocument, pageCount: Int, width: Int, height: Int): Int {
+        val count = minOf(pageCount, document.pageCount)
+        for (pageIndex in 0 until count) {
+            val pageSize = document.getPageSize(pageIndex)
+            val scale = minOf(width / pageSize.width, height / pageSize.height)
+            val bitmap = document.renderPageToBitmap(
+                context,
+                pageIndex,
+                maxOf(1, (pageSize.width * scale).toInt()),
+                maxOf(1, (pageSize.height * scale).toInt())
+            )
+            bitmap.recycle()
+        }
+        return count
+    }
+
+    private fun discard(key: String, lease: SharedDocumentPool.Lease) {
+        val removed = synchronized(this) { entries[key] === lease && entries.remove(key) != null }
+        if (removed) lease.release()
+    }
+
+    /** Must be called while holding the lock. */
+    private fun trim() {
+        val iterator = entries.values.iterator()
+        while (entries.size > MAX_DOCUMENTS && iterator.hasNext()) {
+            val lease = iterator.next()
+            iterator.remove()
+            evicted++
+            lease.release()
+        }
+    }
+
+    private fun register(context: Context) {
+        synchronized(this) {
+            if (isRegistered) return
+            isRegistered = true
+        }
+        context.registerComponentCallbacks(this)
+    }
+}
@@ -13,10 +13,21 @@
 
 package com.pspdfkit.react.helper;
 
+import android.util.JsonReader;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -63,4 +74,154 @@ public class JsonUtilities {
         }
         return list;
     }
+
+    /**
+     * Parses the given JSON object string straight into a {@link WritableMap}, without building an
+     * intermediate {@link JSONObject} and {@link Map} tree.
+     */
+    @NonNull
+    public static WritableMap jsonToWritableMap(@NonNull String json) throws IOException {
+        return readWritableMap(new StringReader(json));
+    }
+
+    /**
+     * Streams the JSON object read from {@code reader} into a {@link WritableMap}. The reader is
+     * closed when done.
+     */
+    @NonNull
+    public static WritableMap readWritableMap(@NonNull Reader reader) throws IOException {
+        try (JsonReader jsonReader = new JsonReader(reader)) {
+            return readObject(jsonReader);
+        }
+    }
+
+    /**
+     * Counts the entries of every top-level array or object member of the JSON object read from
+     * {@code reader}, skipping over their contents without materializing them. Scalar members are
+     * not included. The reader is closed when done.
+     */
+    @NonNull
+    public static Map<String, Integer> countTopLevelEntries(@NonNull Reader reader) throws IOException {
+        Map<String, Integer> counts = new HashMap<>();
+        try (JsonReader jsonReader = new JsonReader(reader)) {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String key = jsonReader.nextName();
+                int count = 0;
+                switch (jsonReader.peek()) {
+                    case BEGIN_OBJECT:
+                        jsonReader.beginObject();
+                        while (jsonReader.hasNext()) {
+                            jsonReader.nextName();
+                            jsonReader.skipValue();
+                            count++;
+                        }
+                        jsonReader.endObject();
+                        counts.put(key, count);
+                        break;
+                    case BEGIN_ARRAY:
+                        jsonReader.beginArray();
+                        while (jsonReader.hasNext()) {
+                            jsonReader.skipValue();
+                            count++;
+                        }
+                        jsonReader.endArray();
+                        counts.put(key, count);
+                        break;
+                    default:
+                        jsonReader.skipValue();
+                        break;
+                }
+            }
+            jsonReader.endObject();
+        }
+        return counts;
+    }
+
+    private static WritableMap readObject(JsonReader reader) throws IOException {
+        WritableMap map = Arguments.createMap();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            switch (reader.peek()) {
+                case BEGIN_OBJECT:
+                    map.putMap(key, readObject(reader));
+                    break;
+                case BEGIN_ARRAY:
+                    map.putArray(key, readArray(reader));
+                    break;
+                case STRING:
+                    map.putString(key, reader.nextString());
+                    break;
+                case NUMBER:
+                    String number = reader.nextString();
+                    if (isInteger(number)) {
+                        map.putInt(key, Integer.parseInt(number));
+                    } else {
+                        map.putDouble(key, Double.parseDouble(number));
+                    }
+                    break;
+                case BOOLEAN:
+                    map.putBoolean(key, reader.nextBoolean());
+                    break;
+                default:
+                    reader.nextNull();
+                    map.putNull(key);
+                    break;
+            }
+        }
+        reader.endObject();
+        return map;
+    }
+
+    private static WritableArray readArray(JsonReader reader) throws IOException {
+        WritableArray array = Arguments.createArray();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            switch (reader.peek()) {
+                case BEGIN_OBJECT:
+                    array.pushMap(readObject(reader));
+                    break;
+                case BEGIN_ARRAY:
+                    array.pushArray(readArray(reader));
+                    break;
+                case STRING:
+                    array.pushString(reader.nextString());
+                    break;
+                case NUMBER:
+                    String number = reader.nextString();
+                    if (isInteger(number)) {
+                        array.pushInt(Integer.parseInt(number));
+                    } else {
+                        array.pushDouble(Double.parseDouble(number));
+                    }
+                    break;
+                case BOOLEAN:
+                    array.pushBoolean(reader.nextBoolean());
+                    break;
+                default:
+                    reader.nextNull();
+                    array.pushNull();
+                    break;
+            }
+        }
+        reader.endArray();
+        return array;
+    }
+
+    /** Returns whether the JSON number literal fits into an {@code int} without losing precision. */
+    private static boolean isInteger(String number) {
+        int length = number.length();
+        if (length == 0 || length > 10) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = number.charAt(i);
+            if ((c < '0' || c > '9') && !(i == 0 && c == '-' && length > 1)) {
+                return false;
+            }
+        }
+        long value = Long.parseLong(number);
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
 }
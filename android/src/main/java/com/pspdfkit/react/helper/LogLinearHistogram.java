@@ -0,0 +1,141 @@
+/*
+ * LogLinearHistogram.java
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of non-negative values with a fixed relative precision, in the spirit of
+ * HdrHistogram: values below {@value #SUB_BUCKET_COUNT} are counted exactly, larger values in
+ * buckets that are 1/{@value #SUB_BUCKET_COUNT} of their power of two wide, so every percentile is
+ * accurate to about 3% over the whole {@code long} range with a fixed number of buckets.
+ *
+ * Recording is lock-free and can be called from any thread. Reads don't stop writers, so a summary
+ * taken while values are recorded may be off by the values recorded meanwhile.
+ */
+public final class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(clamped));
+        totalCount.incrementAndGet();
+        sum.addAndGet(clamped);
+        long currentMax;
+        do {
+            currentMax = max.get();
+        } while (clamped > currentMax && !max.compareAndSet(currentMax, clamped));
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /** Returns the largest value that falls into the same bucket as the value at {@code percentile}. */
+    public long getValueAtPercentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += counts.get(index);
+            if (seen >= rank) {
+                return Math.min(highestValueInBucket(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /** Returns count, mean, p50, p90, p99, p99.9 and max, each value divided by {@code unit}. */
+    @NonNull
+    public WritableMap toWritableMap(double unit) {
+        long count = totalCount.get();
+        WritableMap summary = Arguments.createMap();
+        summary.putDouble("count", count);
+        summary.putDouble("mean", count > 0 ? sum.get() / unit / count : 0);
+        summary.putDouble("p50", getValueAtPercentile(50) / unit);
+        summary.putDouble("p90", getValueAtPercentile(90) / unit);
+        summary.putDouble("p99", getValueAtPercentile(99) / unit);
+        summary.putDouble("p999", getValueAtPercentile(99.9) / unit);
+        summary.putDouble("max", max.get() / unit);
+        return summary;
+    }
+
+    /**
+     * Returns the summary of {@link #toWritableMap(double)} together with the non-empty
+     * buckets as {@code [highestValue, count]} pairs, so that histograms of several runs can be
+     * merged and compared later.
+     */
+    @NonNull
+    public JSONObject toJson(double unit) throws JSONException {
+        long count = totalCount.get();
+        JSONObject json = new JSONObject();
+        json.put("count", count);
+        json.put("mean", count > 0 ? sum.get() / unit / count : 0);
+        json.put("p50", getValueAtPercentile(50) / unit);
+        json.put("p90", getValueAtPercentile(90) / unit);
+        json.put("p99", getValueAtPercentile(99) / unit);
+        json.put("p999", getValueAtPercentile(99.9) / unit);
+        json.put("max", max.get() / unit);
+        JSONArray buckets = new JSONArray();
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            long bucketCount = counts.get(index);
+            if (bucketCount > 0) {
+                buckets.put(new JSONArray().put(highestValueInBucket(index) / unit).put(bucketCount));
+            }
+        }
+        json.put("buckets", buckets);
+        return json;
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowest = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,141 @@
+package com.pspdfkit.react.helper
+
+import android.util.LruCache
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableArray
+import com.pspdfkit.document.PdfDocument
+import kotlinx.coroutines.ensureActive
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.coroutines.coroutineContext
+
+/**
+ * Extracts the bounding boxes of the words on a page and caches them per document UID and page
+ * index, so repeated hit-testing of the same page doesn't query the text geometry again.
+ */
+object PageTextRects {
+
+    /** A word and its bounding box in PDF coordinates (bottom-left origin). */
+    class WordRect(
+        val text: String,
+        val x: Float,
+        val y: Float,
+        val width: Float,
+        val height: Float
+    )
+
+    /** Number of pages whose word boxes are kept in memory. */
+    private const val MAX_CACHED_PAGES = 64
+
+    private val cache = LruCache<String, List<WordRect>>(MAX_CACHED_PAGES)
+
+    /** Bumped on every invalidation so extractions that raced with it don't cache stale results. */
+    private val generation = AtomicInteger()
+
+    private fun cacheKey(documentUid: String, pageIndex: Int) = "$documentUid:$pageIndex"
+
+    /**
+     * Returns the word boxes of the page, from the cache if possible. Must be called from a
+     * background coroutine; cancelling it stops the extraction between two words.
+     */
+    suspend fun getWordRects(document: PdfDocument, pageIndex: Int): List<WordRect> {
+        val key = cacheKey(document.uid, pageIndex)
+        cache.get(key)?.let { return it }
+        val startGeneration = generation.get()
+        val wordRects = extractWordRects(document, pageIndex)
+        if (generation.get() == startGeneration) {
+            cache.put(key, wordRects)
+        }
+        return wordRects
+    }
+
+    /** Drops the cached word boxes of a page, e.g. after its content or rotation changed. */
+    fun invalidatePage(document: PdfDocument, pageIndex: Int) {
+        generation.incrementAndGet()
+        cache.remove(cacheKey(document.uid, pageIndex))
+    }
+
+    /** Drops the cached word boxes of all pages of the document. */
+    fun invalidateDocument(document: PdfDocument) {
+        generation.incrementAndGet()
+        val prefix = "${document.uid}:"
+        for (key in cache.snapshot().keys) {
+            if (key.startsWith(prefix)) {
+                cache.remove(key)
+            }
+        }
+    }
+
+    /** Converts word boxes into the `{ text, frame }` array returned to JS. */
+    fun toWritableArray(wordRects: List<WordRect>): WritableArray {
+        val result = Arguments.createArray()
+        for (wordRect in wordRects) {
+            val frame = Arguments.createMap()
+            frame.putDouble("x", wordRect.x.toDouble())
+            frame.putDouble("y", wordRect.y.toDouble())
+            frame.putDouble("width", wordRect.width.toDouble())
+            frame.putDouble("height", wordRect.height.toDouble())
+            val word = Arguments.createMap()
+            word.putString("text", wordRect.text)
+            word.putMap("frame", frame)
+            result.pushMap(word)
+        }
+        return result
+    }
+
+    /** Matches the `\s` regex class, which separates words. */
+    private fun isSpace(c: Char) = c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\u000C' || c == '\r'
+
+    private suspend fun extractWordRects(document: PdfDocument, pageIndex: Int): List<WordRect> {
+        val pageText = document.getPageText(pageIndex)
+        if (pageText.isEmpty()) {
+            return emptyList()
+        }
+        val pageHeight = document.getPageSize(pageIndex).height
+        val wordRects = ArrayList<WordRect>()
+
+        // Walk the page text once, splitting on whitespace without allocating regex matches.
+        var index = 0
+        val length = pageText.length
+        while (index < length) {
+            while (index < length && isSpace(pageText[index])) index++
+            if (index >= length) break
+            val wordStart = index
+            while (index < length && !isSpace(pageText[index])) index++
+            coroutineContext.ensureActive()
+
+            val rects = try {
+                document.getPageTextRects(pageIndex, wordStart, index - wordStart, true)
+            } catch (e: Exception) {
+                // If getting rects for this word fails, skip it and continue
+                continue
+            }
+            if (rects.isEmpty()) continue
+
+            // Merge multiple rects into one bounding box for the word
+            var minLeft = Float.MAX_VALUE
+            var minTop = Float.MAX_VALUE
+            var maxRight = -Float.MAX_VALUE
+            var maxBottom = -Float.MAX_VALUE
+            for (rect in rects) {
+                minLeft = minOf(minLeft, rect.left)
+                minTop = minOf(minTop, rect.top)
+                maxRight = maxOf(maxRight, rect.right)
+                maxBottom = maxOf(maxBottom, rect.bottom)
+            }
+
+            // Return PDF coordinates to match iOS (bottom-left origin, y increases upward).
+            // If minTop > maxBottom the rects are already in PDF coordinates, otherwise convert.
+            val y = if (minTop > maxBottom) maxBottom else pageHeight - maxBottom
+            wordRects.add(
+                WordRect(
+                    pageText.substring(wordStart, index),
+                    minLeft,
+                    y,
+                    maxRight - minLeft,
+                    kotlin.math.abs(minTop - maxBottom)
+                )
+            )
+        }
+        return wordRects
+    }
+}
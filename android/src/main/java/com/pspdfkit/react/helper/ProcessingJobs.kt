@@ -0,0 +1,335 @@
+/*
+ * ProcessingJobs.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import android.os.SystemClock
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.Promise
+import com.facebook.react.bridge.ReactApplicationContext
+import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableArray
+import com.facebook.react.bridge.WritableMap
+import com.facebook.react.modules.core.DeviceEventManagerModule
+import com.pspdfkit.document.processor.PdfProcessor
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.disposables.Disposable
+import io.reactivex.rxjava3.functions.Function
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
+import java.io.IOException
+import java.util.PriorityQueue
+import java.util.UUID
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Runs document processing jobs, reports their progress to JS as [PROGRESS_EVENT] events and lets
+ * them be cancelled by ID. Shared by `RNProcessor` and `processAnnotations`, so `cancelProcessing`
+ * reaches every job.
+ *
+ * Jobs don't start right away: they wait in a queue ordered by priority, then submission order,
+ * and at most [getMaxConcurrentJobs] of them run at once on a dedicated scheduler. The queue is
+ * bounded too, jobs submitted while it's full are rejected so that callers back off instead of
+ * piling up work.
+ *
+ * Every job settles its promise exactly once: whichever of completion, failure and cancellation
+ * moves the job out of the queue or the running set first settles it.
+ *
+ * A job writes a temporary file next to its output file and only moves it over the output once it
+ * completed, so a failed or cancelled job never touches a file that already was at that path.
+ */
+object ProcessingJobs {
+
+    /** Name of the progress event emitted through `DeviceEventEmitter`. */
+    const val PROGRESS_EVENT = "RNProcessorProgress"
+
+    /** Minimum time between two progress events of a job; the last page is always reported. */
+    private const val PROGRESS_INTERVAL_MS = 100L
+
+    /** Maximum number of jobs waiting to run. */
+    private const val MAX_QUEUED_JOBS = 64
+
+    /** Number of finished jobs reported by [getQueueState]. */
+    private const val MAX_FINISHED_JOBS = 20
+
+    private const val WORKER_KEEP_ALIVE_SECONDS = 30L
+
+    /** Progress of a job that isn't a single [PdfProcessor] run, like a chunked merge. */
+    class Progress(val processedPages: Int, val totalPages: Int)
+
+    private class Job(
+        val id: String,
+        val context: ReactApplicationContext,
+        val processing: Function<File, Flowable<Progress>>,
+        val outputFile: File,
+        val promise: Promise,
+        val result: Any?,
+        val priority: Int,
+        val sequence: Long
+    ) {
+        @Volatile
+        var disposable: Disposable? = null
+        var lastProgressTime = 0L
+
+        @Volatile
+        var processedPages = 0
+
+        @Volatile
+        var totalPages = 0
+
+        /** `completed`, `failed` or `cancelled` once the job is finished. */
+        var outcome: String? = null
+
+        /** The file the job writes, in the same directory so that it can be renamed to [outputFile]. */
+        val temporaryFile = File(outputFile.absoluteFile.parentFile, ".${outputFile.name}.${UUID.randomUUID()}.tmp")
+    }
+
+    private val lock = Any()
+    private val queueOrder = compareByDescending<Job> { it.priority }.thenBy { it.sequence }
+    private val queue = PriorityQueue(MAX_QUEUED_JOBS, queueOrder)
+    private val running = LinkedHashMap<String, Job>()
+    private val finished = ArrayDeque<Job>()
+    private var nextSequence = 0L
+    private var maxConcurrentJobs = maxOf(1, Runtime.getRuntime().availableProcessors() - 1)
+
+    private val workers = ThreadPoolExecutor(
+        maxConcurrentJobs,
+        maxConcurrentJobs,
+        WORKER_KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        LinkedBlockingQueue(),
+        object : ThreadFactory {
+            private val count = AtomicInteger()
+            override fun newThread(runnable: Runnable) =
+                Thread(runnable, "NutrientProcessing-${count.incrementAndGet()}").apply { isDaemon = true }
+        }
+    ).apply { allowCoreThreadTimeOut(true) }
+
+    private val scheduler = Schedulers.from(workers)
+
+    /** Returns the `jobId` of [configuration], or a new ID if the caller didn't choose one. */
+    @JvmStatic
+    fun jobIdFor(configuration: ReadableMap?): String {
+        if (configuration != null && configuration.hasKey("jobId")) {
+            configuration.getString("jobId")?.let { return it }
+        }
+        return UUID.randomUUID().toString()
+    }
+
+    /** Returns the `priority` of [configuration]; jobs with a higher priority run first. */
+    @JvmStatic
+    fun priorityFor(configuration: ReadableMap?): Int {
+        return if (configuration != null && configuration.hasKey("priority")) configuration.getInt("priority") else 0
+    }
+
+    @JvmStatic
+    fun getMaxConcurrentJobs(): Int = synchronized(lock) { maxConcurrentJobs }
+
+    /**
+     * Sets how many jobs may run at once, which defaults to the number of cores minus one. Running
+     * jobs keep running when the limit is lowered.
+     */
+    @JvmStatic
+    fun setMaxConcurrentJobs(count: Int) {
+        val limit = maxOf(1, count)
+        synchronized(lock) {
+            maxConcurrentJobs = limit
+            // The maximum pool size may never be lower than the core size.
+            if (limit > workers.maximumPoolSize) {
+                workers.maximumPoolSize = limit
+                workers.corePoolSize = limit
+            } else {
+                workers.corePoolSize = limit
+                workers.maximumPoolSize = limit
+            }
+        }
+        dispatch()
+    }
+
+    /**
+     * Queues job [jobId] with the given [priority], which writes [outputFile]. Once the job starts,
+     * [processing] is called with the temporary file to write. Resolves [promise] with [result] once
+     * done; on failure or cancellation the temporary file is deleted and [promise] is rejected.
+     * Rejects right away if a job with the same ID is queued or running, or if the queue is full.
+     */
+    @JvmStatic
+    fun run(
+        context: ReactApplicationContext,
+        jobId: String,
+        priority: Int,
+        processing: Function<File, Flowable<PdfProcessor.ProcessorProgress>>,
+        outputFile: File,
+        promise: Promise,
+        result: Any?
+    ) {
+        val progress = Function<File, Flowable<Progress>> { file ->
+            processing.apply(file).map { Progress(it.pagesProcessed, it.totalPages) }
+        }
+        enqueue(context, jobId, priority, progress, outputFile, promise, result)
+    }
+
+    /** Like [run], for jobs that report their progress themselves. */
+    @JvmStatic
+    fun enqueue(
+        context: ReactApplicationContext,
+        jobId: String,
+        priority: Int,
+        processing: Function<File, Flowable<Progress>>,
+        outputFile: File,
+        promise: Promise,
+        result: Any?
+    ) {
+        synchronized(lock) {
+            if (running.containsKey(jobId) || queue.any { it.id == jobId }) {
+                promise.reject("E_PROCESSING_JOB_EXISTS", "A processing job with the ID $jobId is already queued or running.")
+                return
+            }
+            if (queue.size >= MAX_QUEUED_JOBS) {
+                promise.reject("E_PROCESSING_QUEUE_FULL", "The processing queue is full, try again once some jobs have finished.")
+                return
+            }
+            queue.add(Job(jobId, context, processing, outputFile, promise, result, priority, nextSequence++))
+        }
+        dispatch()
+    }
+
+    /**
+     * Removes job [jobId] from the queue or stops it if it's running, deletes its temporary file
+     * and rejects its promise. Returns `false` if no such job is queued or running.
+     */
+    @JvmStatic
+    fun cancel(jobId: String): Boolean {
+        val job = synchronized(lock) {
+            val job = running.remove(jobId)
+                ?: queue.firstOrNull { it.id == jobId }?.also { queue.remove(it) }
+                ?: return false
+            markFinished(job, "cancelled")
+            job
+        }
+        job.disposable?.dispose()
+        job.temporaryFile.delete()
+        job.promise.reject("E_PROCESSING_CANCELLED", "The processing job $jobId was cancelled.")
+        dispatch()
+        return true
+    }
+
+    /** Returns the queued, running and recently finished jobs as the object returned to JS. */
+    @JvmStatic
+    fun getQueueState(): WritableMap {
+        synchronized(lock) {
+            val state = Arguments.createMap()
+            state.putInt("maxConcurrentJobs", maxConcurrentJobs)
+            state.putArray("queued", toWritableArray(queue.sortedWith(queueOrder)))
+            state.putArray("running", toWritableArray(running.values))
+            state.putArray("finished", toWritableArray(finished))
+            return state
+        }
+    }
+
+    /** Starts queued jobs while there are free workers. */
+    private fun dispatch() {
+        val started = ArrayList<Job>()
+        synchronized(lock) {
+            while (running.size < maxConcurrentJobs) {
+                val job = queue.poll() ?: break
+                running[job.id] = job
+                started.add(job)
+            }
+        }
+        started.forEach(::start)
+    }
+
+    private fun start(job: Job) {
+        val disposable = Flowable.defer { job.processing.apply(job.temporaryFile) }
+            .concatWith(Completable.fromAction {
+                if (!job.temporaryFile.renameTo(job.outputFile)) {
+                    throw IOException("Could not move the output of ${job.id} to ${job.outputFile.path}.")
+                }
+            })
+            .subscribeOn(scheduler)
+            .subscribe(
+                { progress -> emitProgress(job, progress) },
+                { error ->
+                    job.temporaryFile.delete()
+                    if (finish(job, "failed")) {
+                        job.promise.reject(error)
+                    }
+                },
+                {
+                    if (finish(job, "completed")) {
+                        job.promise.resolve(job.result)
+                    }
+                }
+            )
+        job.disposable = disposable
+        // The job may have been cancelled before its disposable was known.
+        if (synchronized(lock) { job.outcome == "cancelled" }) disposable.dispose()
+    }
+
+    /** Moves a running [job] to the finished jobs. Returns `false` if it was cancelled meanwhile. */
+    private fun finish(job: Job, outcome: String): Boolean {
+        synchronized(lock) {
+            if (running[job.id] !== job) return false
+            running.remove(job.id)
+            markFinished(job, outcome)
+        }
+        dispatch()
+        return true
+    }
+
+    /** Must be called while holding [lock]. */
+    private fun markFinished(job: Job, outcome: String) {
+        job.outcome = outcome
+        finished.addFirst(job)
+        while (finished.size > MAX_FINISHED_JOBS) finished.removeLast()
+    }
+
+    private fun toWritableArray(jobs: Collection<Job>): WritableArray {
+        val array = Arguments.createArray()
+        jobs.forEach { array.pushMap(toWritableMap(it)) }
+        return array
+    }
+
+    private fun toWritableMap(job: Job): WritableMap {
+        val map = Arguments.createMap()
+        map.putString("jobId", job.id)
+        map.putString("outputPath", job.outputFile.absolutePath)
+        map.putInt("priority", job.priority)
+        map.putInt("processedPages", job.processedPages)
+        map.putInt("totalPages", job.totalPages)
+        job.outcome?.let { map.putString("outcome", it) }
+        return map
+    }
+
+    private fun emitProgress(job: Job, progress: Progress) {
+        job.processedPages = progress.processedPages
+        job.totalPages = progress.totalPages
+        val now = SystemClock.elapsedRealtime()
+        val isLastPage = progress.processedPages >= progress.totalPages
+        if (!isLastPage && now - job.lastProgressTime < PROGRESS_INTERVAL_MS) return
+        job.lastProgressTime = now
+        val payload = Arguments.createMap()
+        payload.putString("jobId", job.id)
+        payload.putString("outputPath", job.outputFile.absolutePath)
+        payload.putInt("processedPages", progress.processedPages)
+        payload.putInt("totalPages", progress.totalPages)
+        job.context
+            .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter::class.java)
+            .emit(PROGRESS_EVENT, payload)
+    }
+}
@@ -19,13 +19,14 @@ import android.content.Context;
 import android.graphics.Color;
 import android.graphics.RectF;
 import android.net.Uri;
+import android.util.Pair;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.Nullable;
 
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.pspdfkit.document.PdfDocument;
-import com.pspdfkit.document.PdfDocumentLoader;
 import com.pspdfkit.document.processor.NewPage;
 import com.pspdfkit.document.processor.PageImage;
 import com.pspdfkit.document.processor.PagePattern;
@@ -35,7 +36,14 @@ import com.pspdfkit.utils.Size;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 
 public class RNConfigurationHelper {
     public ReadableMap configuration = null;
@@ -80,32 +88,58 @@ public class RNConfigurationHelper {
 
     private ArrayList<NewPage> newPageFromDocument(ReadableMap configuration) {
         String documentPath = configuration.getString("documentPath");
+        try {
+            PdfDocument sourceDocument = DocumentHandleCache.openDocument(context, Uri.parse(documentPath));
+            return newPagesFromDocument(configuration, sourceDocument);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates the pages described by a document configuration from its already opened
+     * {@code sourceDocument}: the page at {@code pageIndex}, or all pages if it isn't set.
+     */
+    public ArrayList<NewPage> newPagesFromDocument(ReadableMap configuration, PdfDocument sourceDocument) {
+        this.configuration = configuration;
         ArrayList<NewPage> newPages = new ArrayList<>();
 
         if (configuration.hasKey("pageIndex")) {
             // Specific page specified
             int pageIndex = configuration.getInt("pageIndex");
-            try {
-                PdfDocument sourceDocument = PdfDocumentLoader.openDocument(context, Uri.parse(documentPath));
-                assert (pageIndex >= 0 && pageIndex <= sourceDocument.getPageCount() - 1);
-                newPages.add(applyPageConfiguration(NewPage.fromPage(sourceDocument, pageIndex)).build());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            assert (pageIndex >= 0 && pageIndex <= sourceDocument.getPageCount() - 1);
+            newPages.add(applyPageConfiguration(NewPage.fromPage(sourceDocument, pageIndex)).build());
         } else {
             // Add the entire document
-            try {
-                PdfDocument sourceDocument = PdfDocumentLoader.openDocument(context, Uri.parse(documentPath));
-                for (int i = 0; i < sourceDocument.getPageCount(); i++) {
-                    newPages.add(applyPageConfiguration(NewPage.fromPage(sourceDocument, i)).build());
-                }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+            for (int i = 0; i < sourceDocument.getPageCount(); i++) {
+                newPages.add(applyPageConfiguration(NewPage.fromPage(sourceDocument, i)).build());
             }
         }
         return newPages;
     }
 
+    /**
+     * Opens the source documents of the {@code documents} configurations in parallel on the IO
+     * scheduler. A document listed several times, e.g. for different pages, is only opened once.
+     * Emits the opened documents keyed by their {@code documentPath} once all of them are ready.
+     */
+    public static Single<Map<String, PdfDocument>> openSourceDocuments(Context context, ReadableArray documents) {
+        Set<String> documentPaths = new LinkedHashSet<>();
+        for (int i = 0; i < documents.size(); i++) {
+            ReadableMap document = documents.getMap(i);
+            String documentPath = document != null ? document.getString("documentPath") : null;
+            if (documentPath != null) {
+                documentPaths.add(documentPath);
+            }
+        }
+        int maxConcurrency = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        return Observable.fromIterable(documentPaths)
+                .flatMap(documentPath -> Observable.fromCallable(() ->
+                        new Pair<>(documentPath, DocumentHandleCache.openDocument(context, Uri.parse(documentPath))))
+                        .subscribeOn(Schedulers.io()), maxConcurrency)
+                .toMap(pair -> pair.first, pair -> pair.second);
+    }
+
     public NewPage parseConfiguration() {
 
         ArrayList<NewPage> pages = newPageFromTemplate(configuration);
@@ -0,0 +1,469 @@
+/*
+ * RangeDataProvider.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import android.net.Uri
+import android.os.Process
+import android.util.Log
+import androidx.annotation.WorkerThread
+import com.pspdfkit.document.providers.DataProvider
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.io.InputStream
+import java.io.RandomAccessFile
+import java.net.HttpURLConnection
+import java.net.URL
+import java.security.MessageDigest
+import java.util.BitSet
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * A [DataProvider] that reads a remote PDF through HTTP range requests instead of downloading it
+ * up front. The document is split into fixed-size blocks that are fetched on demand and kept in a
+ * sparse file on disk, so the first pages of a large linearized PDF render after fetching only the
+ * blocks they need. Once the document is being read, the remaining blocks are fetched in the
+ * background, and blocks fetched in an earlier session are reused as long as the server reports the
+ * same `ETag` / `Last-Modified` validator and size.
+ *
+ * Call [supportsRangeRequests] on a background thread before opening the document; if it returns
+ * `false` the server can't serve ranges and the document has to be downloaded instead.
+ */
+class RangeDataProvider @JvmOverloads constructor(
+    private val url: String,
+    cacheDirectory: File,
+    blockSize: Int = DEFAULT_BLOCK_SIZE
+) : DataProvider {
+
+    // Views showing the same URL share the blocks on disk, so they share the store writing them.
+    private val store = acquireStore(url, cacheDirectory, blockSize)
+    private val isReleased = AtomicBoolean(false)
+
+    /**
+     * Asks the server for the first byte of the document to learn its size and whether it supports
+     * range requests, and restores the blocks cached in an earlier session.
+     */
+    @WorkerThread
+    fun supportsRangeRequests(): Boolean = store.supportsRangeRequests()
+
+    override fun read(size: Long, offset: Long): ByteArray {
+        if (isReleased.get()) return DataProvider.NO_DATA_AVAILABLE
+        return store.read(size, offset)
+    }
+
+    override fun getSize(): Long = store.getSize()
+
+    override fun getUid(): String = "range-${store.key}"
+
+    override fun getTitle(): String? = Uri.parse(url).lastPathSegment
+
+    /** Releases this provider's use of the blocks; may be called several times. */
+    override fun release() {
+        if (isReleased.compareAndSet(false, true)) {
+            releaseStore(store)
+        }
+    }
+
+    /**
+     * The blocks of one URL: the sparse block file, its index and the prefetch thread. There is at
+     * most one store per URL at a time, as two writers of the same files would corrupt them.
+     */
+    private class BlockStore(
+        private val url: String,
+        private val cacheDirectory: File,
+        private val blockSize: Int
+    ) {
+
+        val key = sha256(url)
+        private val dataFile = File(cacheDirectory, "$key.blocks")
+        private val indexFile = File(cacheDirectory, "$key.index")
+
+        private val lock = Any()
+        private var size = -1L
+        private var validator: String? = null
+        private var blockCount = 0
+        private var presentBlocks = BitSet()
+        private var file: RandomAccessFile? = null
+        private var blocksSinceIndexWrite = 0
+        private var prefetchThread: Thread? = null
+
+        /** Incremented when the document changed on the server, so fetches of the old version are dropped. */
+        private var generation = 0
+
+        /** Number of providers using the store, guarded by [stores]. */
+        var references = 0
+
+        @Volatile
+        private var isClosed = false
+
+        /** See [RangeDataProvider.supportsRangeRequests]. */
+        @WorkerThread
+        fun supportsRangeRequests(): Boolean {
+            return try {
+                probe()
+            } catch (e: IOException) {
+                Log.w(TAG, "Range request probe failed for $url", e)
+                false
+            }
+        }
+
+        fun read(size: Long, offset: Long): ByteArray {
+            try {
+                return try {
+                    readBlocks(size, offset)
+                } catch (e: DocumentChangedException) {
+                    // The blocks were dropped and the next read probes the new version of the document.
+                    Log.w(TAG, "Remote document $url changed, fetching it again", e)
+                    readBlocks(size, offset)
+                }
+            } catch (e: IOException) {
+                Log.w(TAG, "Could not read $size bytes at $offset from $url", e)
+                return DataProvider.NO_DATA_AVAILABLE
+            }
+        }
+
+        private fun readBlocks(size: Long, offset: Long): ByteArray {
+            val totalSize = getSize()
+            if (size <= 0 || offset < 0 || offset >= totalSize) {
+                return DataProvider.NO_DATA_AVAILABLE
+            }
+            val readGeneration = synchronized(lock) {
+                if (this.size != totalSize) throw DocumentChangedException("Remote document $url changed")
+                generation
+            }
+            val end = minOf(offset + size, totalSize)
+            ensureBlocks((offset / blockSize).toInt(), ((end - 1) / blockSize).toInt(), readGeneration)
+            val result = ByteArray((end - offset).toInt())
+            synchronized(lock) {
+                checkCurrent(readGeneration)
+                val file = openFile()
+                file.seek(offset)
+                file.readFully(result)
+            }
+            startPrefetch()
+            return result
+        }
+
+        fun getSize(): Long {
+            synchronized(lock) {
+                if (size >= 0) return size
+            }
+            return try {
+                if (probe()) size else 0
+            } catch (e: IOException) {
+                0
+            }
+        }
+
+        /** Stops fetching and closes the block file; called once the last provider is released. */
+        fun close() {
+            isClosed = true
+            prefetchThread?.interrupt()
+            synchronized(lock) {
+                prefetchThread = null
+                writeIndex()
+                try {
+                    file?.close()
+                } catch (_: IOException) { /* ignore */ }
+                file = null
+            }
+        }
+
+        private fun probe(): Boolean {
+            synchronized(lock) {
+                if (size >= 0) return true
+            }
+            // The request runs without holding the lock, so reads of blocks on disk aren't blocked by it.
+            val totalSize: Long
+            val probedValidator: String?
+            val connection = openConnection()
+            try {
+                connection.setRequestProperty("Range", "bytes=0-0")
+                if (connection.responseCode != HttpURLConnection.HTTP_PARTIAL) {
+                    return false
+                }
+                // Content-Range: bytes 0-0/<total>, the total may be "*" if the size is unknown.
+                totalSize = connection.getHeaderField("Content-Range")
+                    ?.substringAfterLast('/')
+                    ?.toLongOrNull()
+                    ?: return false
+                connection.inputStream.use { it.readBytes() }
+                probedValidator = connection.getHeaderField("ETag") ?: connection.getHeaderField("Last-Modified")
+            } finally {
+                connection.disconnect()
+            }
+            synchronized(lock) {
+                // Another thread may have probed meanwhile.
+                if (size >= 0) return true
+                if (isClosed) throw IOException("Blocks of $url were closed")
+                size = totalSize
+                validator = probedValidator
+                blockCount = ((totalSize + blockSize - 1) / blockSize).toInt()
+                cacheDirectory.mkdirs()
+                trimCache(cacheDirectory, MAX_CACHE_BYTES, key)
+                if (!loadIndex()) {
+                    presentBlocks = BitSet(blockCount)
+                    dataFile.delete()
+                    indexFile.delete()
+                }
+                openFile().setLength(size)
+                return true
+            }
+        }
+
+        /**
+         * Fetches the missing blocks between [firstBlock] and [lastBlock], inclusive, of the document
+         * version [fetchGeneration].
+         */
+        private fun ensureBlocks(firstBlock: Int, lastBlock: Int, fetchGeneration: Int) {
+            var block = firstBlock
+            while (block <= lastBlock) {
+                // Coalesce each run of missing blocks into a single request.
+                val (runStart, runEnd) = synchronized(lock) {
+                    checkCurrent(fetchGeneration)
+                    val start = presentBlocks.nextClearBit(block)
+                    val nextPresent = presentBlocks.nextSetBit(start)
+                    Pair(start, minOf(if (nextPresent < 0) blockCount - 1 else nextPresent - 1, lastBlock))
+                }
+                if (runStart > lastBlock) return
+                fetchBlocks(runStart, runEnd, fetchGeneration)
+                block = runEnd + 1
+            }
+        }
+
+        /** Downloads the blocks between [firstBlock] and [lastBlock] with a single range request. */
+        private fun fetchBlocks(firstBlock: Int, lastBlock: Int, fetchGeneration: Int) {
+            // The fields are only stable while holding the lock, which isn't held during the request.
+            val (documentSize, documentValidator) = synchronized(lock) {
+                checkCurrent(fetchGeneration)
+                Pair(size, validator)
+            }
+            val from = firstBlock.toLong() * blockSize
+            val to = minOf((lastBlock + 1).toLong() * blockSize, documentSize) - 1
+            val connection = openConnection()
+            try {
+                connection.setRequestProperty("Range", "bytes=$from-$to")
+                documentValidator?.let { connection.setRequestProperty("If-Range", it) }
+                if (connection.responseCode != HttpURLConnection.HTTP_PARTIAL) {
+                    // The document changed on the server, the cached blocks no longer fit together.
+                    synchronized(lock) {
+                        if (generation == fetchGeneration) invalidate()
+                    }
+                    throw DocumentChangedException("Remote document $url changed or stopped serving ranges")
+                }
+                connection.inputStream.use { stream ->
+                    val buffer = ByteArray(blockSize)
+                    for (block in firstBlock..lastBlock) {
+                        val blockLength = minOf(blockSize.toLong(), documentSize - block.toLong() * blockSize).toInt()
+                        readFully(stream, buffer, blockLength)
+                        synchronized(lock) {
+                            checkCurrent(fetchGeneration)
+                            val file = openFile()
+                            file.seek(block.toLong() * blockSize)
+                            file.write(buffer, 0, blockLength)
+                            presentBlocks.set(block)
+                            if (++blocksSinceIndexWrite >= INDEX_WRITE_INTERVAL_BLOCKS) {
+                                writeIndex()
+                            }
+                        }
+                    }
+                }
+            } finally {
+                connection.disconnect()
+            }
+        }
+
+        /**
+         * Throws if the store was closed, which closed the file that must not be opened again, or
+         * if the document changed since [fetchGeneration]. Must be called while holding [lock].
+         */
+        private fun checkCurrent(fetchGeneration: Int) {
+            if (isClosed) throw IOException("Blocks of $url were closed")
+            if (generation != fetchGeneration) throw DocumentChangedException("Remote document $url changed")
+        }
+
+        /**
+         * Drops all blocks of a document that changed on the server, so that the next [getSize] probes
+         * the new version. Must be called while holding [lock].
+         */
+        private fun invalidate() {
+            generation++
+            size = -1
+            validator = null
+            blockCount = 0
+            presentBlocks = BitSet()
+            try {
+                file?.close()
+            } catch (_: IOException) { /* ignore */ }
+            file = null
+            dataFile.delete()
+            indexFile.delete()
+        }
+
+        /** Starts fetching the blocks that weren't requested yet on a low priority thread. */
+        private fun startPrefetch() {
+            synchronized(lock) {
+                if (prefetchThread != null || isClosed || presentBlocks.cardinality() == blockCount) return
+                prefetchThread = Thread({
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND)
+                    try {
+                        while (!isClosed && !Thread.currentThread().isInterrupted) {
+                            val (firstMissing, lastBlock, prefetchGeneration) = synchronized(lock) {
+                                val first = presentBlocks.nextClearBit(0)
+                                Triple(first, minOf(first + PREFETCH_BLOCKS_PER_REQUEST, blockCount) - 1, generation)
+                            }
+                            if (firstMissing > lastBlock) break
+                            ensureBlocks(firstMissing, lastBlock, prefetchGeneration)
+                        }
+                        synchronized(lock) {
+                            if (!isClosed) writeIndex()
+                        }
+                    } catch (e: IOException) {
+                        // Blocks are still fetched on demand, a failed prefetch only costs latency.
+                        Log.w(TAG, "Background fetch of $url stopped", e)
+                    } finally {
+                        synchronized(lock) {
+                            // Lets the next read start over, e.g. for the new version of a changed document.
+                            if (prefetchThread === Thread.currentThread()) prefetchThread = null
+                        }
+                    }
+                }, "NutrientRangePrefetch").apply {
+                    isDaemon = true
+                    start()
+                }
+            }
+        }
+
+        /** Must be called while holding [lock]. */
+        private fun openFile(): RandomAccessFile {
+            if (isClosed) throw IOException("Blocks of $url were closed")
+            return file ?: RandomAccessFile(dataFile, "rw").also { file = it }
+        }
+
+        private fun openConnection(): HttpURLConnection {
+            val connection = URL(url).openConnection() as HttpURLConnection
+            connection.connectTimeout = CONNECT_TIMEOUT_MS
+            connection.readTimeout = READ_TIMEOUT_MS
+            return connection
+        }
+
+        /** Restores the blocks of an earlier session, if they belong to the same document version. */
+        private fun loadIndex(): Boolean {
+            if (!indexFile.isFile || !dataFile.isFile) return false
+            return try {
+                DataInputStream(indexFile.inputStream().buffered()).use { input ->
+                    if (input.readInt() != INDEX_VERSION) return false
+                    if (input.readLong() != size || input.readInt() != blockSize) return false
+                    val storedValidator = input.readUTF()
+                    if (validator == null || storedValidator != validator) return false
+                    val bytes = ByteArray(input.readInt())
+                    input.readFully(bytes)
+                    presentBlocks = BitSet.valueOf(bytes)
+                    true
+                }
+            } catch (e: IOException) {
+                false
+            }
+        }
+
+        /** Persists which blocks are on disk. Must be called while holding [lock]. */
+        private fun writeIndex() {
+            blocksSinceIndexWrite = 0
+            if (size < 0 || validator == null) return
+            try {
+                // The blocks must be on disk before the index claims they are.
+                file?.fd?.sync()
+                DataOutputStream(indexFile.outputStream().buffered()).use { output ->
+                    output.writeInt(INDEX_VERSION)
+                    output.writeLong(size)
+                    output.writeInt(blockSize)
+                    output.writeUTF(validator!!)
+                    val bytes = presentBlocks.toByteArray()
+                    output.writeInt(bytes.size)
+                    output.write(bytes)
+                }
+            } catch (e: IOException) {
+                indexFile.delete()
+            }
+        }
+    }
+
+    /** The document on the server no longer matches the cached blocks. */
+    private class DocumentChangedException(message: String) : IOException(message)
+
+    companion object {
+        private const val TAG = "RangeDataProvider"
+
+        /** The stores in use, by the key of their URL. */
+        private val stores = HashMap<String, BlockStore>()
+
+        private fun acquireStore(url: String, cacheDirectory: File, blockSize: Int): BlockStore {
+            synchronized(stores) {
+                // A store that is in use keeps its block size, the block files only fit one.
+                val store = stores.getOrPut(sha256(url)) { BlockStore(url, cacheDirectory, blockSize) }
+                store.references++
+                return store
+            }
+        }
+
+        private fun releaseStore(store: BlockStore) {
+            synchronized(stores) {
+                if (--store.references > 0) return
+                stores.remove(store.key)
+                // Closed while holding the registry lock, so that a new store for the same URL only
+                // reads the files once the index was written.
+                store.close()
+            }
+        }
+
+        /** Default block size; large enough to keep the number of requests low. */
+        const val DEFAULT_BLOCK_SIZE = 64 * 1024
+
+        private const val PREFETCH_BLOCKS_PER_REQUEST = 32
+        private const val INDEX_WRITE_INTERVAL_BLOCKS = 64
+        private const val INDEX_VERSION = 1
+        private const val MAX_CACHE_BYTES = 512L * 1024 * 1024
+        private const val CONNECT_TIMEOUT_MS = 15_000
+        private const val READ_TIMEOUT_MS = 30_000
+
+        private fun readFully(stream: InputStream, buffer: ByteArray, length: Int) {
+            var read = 0
+            while (read < length) {
+                val count = stream.read(buffer, read, length - read)
+                if (count < 0) throw IOException("Unexpected end of range response")
+                read += count
+            }
+        }
+
+        /** Drops the least recently modified block files until the directory fits into [maxBytes]. */
+        private fun trimCache(directory: File, maxBytes: Long, keepKey: String) {
+            val dataFiles = directory.listFiles { file -> file.name.endsWith(".blocks") } ?: return
+            var totalSize = dataFiles.sumOf { it.length() }
+            for (dataFile in dataFiles.sortedBy { it.lastModified() }) {
+                if (totalSize <= maxBytes) break
+                val fileKey = dataFile.name.removeSuffix(".blocks")
+                if (fileKey == keepKey) continue
+                totalSize -= dataFile.length()
+                dataFile.delete()
+                File(directory, "$fileKey.index").delete()
+            }
+        }
+
+        private fun sha256(value: String): String {
+            val digest = MessageDigest.getInstance("SHA-256").digest(value.toByteArray(Charsets.UTF_8))
+            return digest.joinToString("") { "%02x".format(it) }
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * RemoteDocumentCache.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import androidx.annotation.WorkerThread
+import java.io.File
+import java.io.FileOutputStream
+import java.io.FilterInputStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.OutputStream
+import java.io.SequenceInputStream
+import java.net.HttpURLConnection
+import java.net.URL
+import java.security.MessageDigest
+import java.util.Properties
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * HTTP download cache for remote documents, keyed by URL.
+ *
+ * - A completed download is revalidated with its `ETag` / `Last-Modified` validators and reused
+ *   without downloading it again when the server answers `304 Not Modified`, or when the server
+ *   can't be reached.
+ * - The bytes of an interrupted download are kept, and the next attempt resumes it with a `Range`
+ *   request guarded by `If-Range`, so a changed document is downloaded from scratch instead.
+ * - Every URL gets its own file, and the cache is trimmed to [maxBytes] by dropping the least
+ *   recently used documents.
+ *
+ * Only `java.net` and `java.io` are used, so the cache can be exercised against a local HTTP server.
+ */
+class RemoteDocumentCache(
+    private val directory: File,
+    private val maxBytes: Long = DEFAULT_MAX_BYTES
+) {
+
+    /** Outcome of [prepare]. */
+    sealed class Prepared {
+        /** The cached copy is current and can be used as is. */
+        class Cached(val file: File) : Prepared()
+
+        /**
+         * The document has to be downloaded from [connection], starting at byte [offset]. The
+         * [totalLength] is the size of the complete document, or `-1` if the server didn't say.
+         */
+        class Download(
+            val url: String,
+            val connection: HttpURLConnection,
+            val offset: Long,
+            val totalLength: Long
+        ) : Prepared()
+    }
+
+    private class Metadata(
+        val url: String,
+        val etag: String?,
+        val lastModified: String?,
+        val totalLength: Long,
+        val isComplete: Boolean,
+        /** Size and modification time of the cached file, to detect local changes like saving. */
+        val fileLength: Long,
+        val fileModified: Long
+    )
+
+    /** The file a completed download of [url] is stored in. */
+    fun fileFor(url: String) = File(directory, "${key(url)}.pdf")
+
+    private fun partialFileFor(url: String) = File(directory, "${key(url)}.part")
+
+    private fun metadataFileFor(url: String) = File(directory, "${key(url)}.properties")
+
+    /**
+     * Marks [url] as being downloaded. Returns `false` if it already is, in which case the cache
+     * must not be used for it since both downloads would write the same files.
+     */
+    fun tryAcquire(url: String): Boolean = inFlight.putIfAbsent(key(url), CountDownLatch(1)) == null
+
+    /**
+     * Marks [url] as being downloaded like [tryAcquire], waiting up to [timeoutMs] for a download
+     * of it that is already running to end. The document downloaded meanwhile is then served from
+     * the cache. Returns `false` on timeout.
+     */
+    @WorkerThread
+    @Throws(InterruptedException::class)
+    fun acquire(url: String, timeoutMs: Long): Boolean {
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs)
+        while (!tryAcquire(url)) {
+            val running = inFlight[key(url)] ?: continue
+            val remaining = deadline - System.nanoTime()
+            if (remaining <= 0 || !running.await(remaining, TimeUnit.NANOSECONDS)) {
+                return false
+            }
+        }
+        return true
+    }
+
+    /** Ends the download started with [tryAcquire] or [acquire]. */
+    fun release(url: String) {
+        inFlight.remove(key(url))?.countDown()
+    }
+
+    /**
+     * Finds out whether [url] can be served from the cache and otherwise opens the connection to
+     * download it, resuming a previous partial download if possible.
+     */
+    @WorkerThread
+    @Throws(IOException::class)
+    fun prepare(url: String): Prepared {
+        directory.mkdirs()
+        val metadata = readMetadata(url)
+        val complete = fileFor(url)
+        if (metadata != null && metadata.isComplete && complete.isFile &&
+            complete.length() == metadata.fileLength && complete.lastModified() == metadata.fileModified) {
+            val connection = openConnection(url)
+            metadata.etag?.let { connection.setRequestProperty("If-None-Match", it) }
+            metadata.lastModified?.let { connection.setRequestProperty("If-Modified-Since", it) }
+            val responseCode = try {
+                connection.responseCode
+            } catch (e: IOException) {
+                // Offline, the cached copy is better than failing.
+                connection.disconnect()
+                touch(url)
+                return Prepared.Cached(complete)
+            }
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                connection.disconnect()
+                touch(url)
+                return Prepared.Cached(complete)
+            }
+            return startDownload(url, connection, 0, null)
+        }
+
+        val partial = partialFileFor(url)
+        val validator = metadata?.etag ?: metadata?.lastModified
+        if (metadata != null && !metadata.isComplete && validator != null && partial.isFile && partial.length() > 0) {
+            val offset = partial.length()
+            val connection = openConnection(url)
+            connection.setRequestProperty("Range", "bytes=$offset-")
+            connection.setRequestProperty("If-Range", validator)
+            when (connection.responseCode) {
+                HttpURLConnection.HTTP_PARTIAL -> return startDownload(url, connection, offset, metadata)
+                // The document changed, or the server doesn't support ranges: this is the full body.
+                HttpURLConnection.HTTP_OK -> return startDownload(url, connection, 0, null)
+                // E.g. 416 Range Not Satisfiable, start over.
+                else -> connection.disconnect()
+            }
+        }
+        return startDownload(url, openConnection(url), 0, null)
+    }
+
+    /**
+     * Returns the stream of the complete document for [download]: the bytes already on disk followed
+     * by the ones from the network, which are written to disk as they are read.
+     */
+    @Throws(IOException::class)
+    fun openDownloadStream(download: Prepared.Download): InputStream {
+        val partial = partialFileFor(download.url)
+        val network = TeeInputStream(download.connection, FileOutputStream(partial, download.offset > 0))
+        if (download.offset == 0L) {
+            return network
+        }
+        // The sequence only starts reading from the network, and thereby appending to the partial
+        // file, once the bytes already on disk were read completely.
+        return SequenceInputStream(partial.inputStream(), network)
+    }
+
+    /**
+     * Records the download of [url] as complete after it was written to [output]. The cached copy
+     * is [output] itself if it is [fileFor], otherwise it is moved over from the partial file.
+     */
+    @WorkerThread
+    fun commit(url: String, output: File) {
+        val metadata = readMetadata(url) ?: return
+        val partial = partialFileFor(url)
+        val complete = fileFor(url)
+        if (output.absoluteFile == complete.absoluteFile) {
+            partial.delete()
+        } else {
+            complete.delete()
+            if (!partial.renameTo(complete)) {
+                partial.delete()
+                return
+            }
+        }
+        if (metadata.totalLength >= 0 && complete.length() != metadata.totalLength) {
+            discard(url)
+            return
+        }
+        writeMetadata(
+            Metadata(metadata.url, metadata.etag, metadata.lastModified, metadata.totalLength, true,
+                complete.length(), complete.lastModified())
+        )
+        trim()
+    }
+
+    /**
+     * Returns the cached document of [url], or a copy of it at [destination] if one was requested.
+     * An existing [destination] is only kept while it is at least as recent as the cached document,
+     * so a document that changed on the server replaces a copy made from an earlier version.
+     */
+    @WorkerThread
+    @Throws(IOException::class)
+    fun copyToDestination(url: String, destination: File?): File {
+        val cached = fileFor(url)
+        if (destination == null) return cached
+        if (!destination.exists() || destination.lastModified() < cached.lastModified()) {
+            cached.copyTo(destination, overwrite = true)
+        }
+        return destination
+    }
+
+    /** Drops everything cached for [url]. */
+    fun discard(url: String) {
+        fileFor(url).delete()
+        partialFileFor(url).delete()
+        metadataFileFor(url).delete()
+    }
+
+    @Throws(IOException::class)
+    private fun startDownload(url: String, connection: HttpURLConnection, offset: Long, resumed: Metadata?): Prepared.Download {
+        val responseCode = connection.responseCode
+        if (responseCode !in 200..299) {
+            connection.disconnect()
+            throw IOException("Downloading $url failed with HTTP status $responseCode")
+        }
+        if (offset == 0L) {
+            partialFileFor(url).delete()
+        }
+        val contentLength = connection.contentLengthLong
+        val totalLength = if (contentLength >= 0) offset + contentLength else -1
+        writeMetadata(
+            Metadata(
+                url,
+                connection.getHeaderField("ETag") ?: resumed?.etag,
+                connection.getHeaderField("Last-Modified") ?: resumed?.lastModified,
+                totalLength,
+                false,
+                0,
+                0
+            )
+        )
+        return Prepared.Download(url, connection, offset, totalLength)
+    }
+
+    private fun openConnection(url: String): HttpURLConnection {
+        val connection = URL(url).openConnection() as HttpURLConnection
+        connection.connectTimeout = CONNECT_TIMEOUT_MS
+        connection.readTimeout = READ_TIMEOUT_MS
+        return connection
+    }
+
+    /** Drops the least recently used documents until the cache fits into [maxBytes]. */
+    private fun trim() {
+        val metadataFiles = directory.listFiles { file -> file.name.endsWith(METADATA_SUFFIX) } ?: return
+        class CachedEntry(val key: String, val lastUsed: Long, val size: Long)
+        val entries = metadataFiles.map { file ->
+            val key = file.name.removeSuffix(METADATA_SUFFIX)
+            val size = File(directory, "$key.pdf").length() + File(directory, "$key.part").length()
+            CachedEntry(key, file.lastModified(), size)
+        }.sortedBy { it.lastUsed }
+        var totalSize = entries.sumOf { it.size }
+        for (entry in entries) {
+            if (totalSize <= maxBytes) break
+            if (inFlight.containsKey(entry.key)) continue
+            File(directory, "${entry.key}.pdf").delete()
+            File(directory, "${entry.key}.part").delete()
+            File(directory, "${entry.key}$METADATA_SUFFIX").delete()
+            totalSize -= entry.size
+        }
+    }
+
+    private fun touch(url: String) {
+        metadataFileFor(url).setLastModified(System.currentTimeMillis())
+    }
+
+    private fun readMetadata(url: String): Metadata? {
+        val file = metadataFileFor(url)
+        if (!file.isFile) return null
+        return try {
+            val properties = Properties()
+            file.inputStream().use { properties.load(it) }
+            // Guard against hash collisions.
+            if (properties.getProperty("url") != url) return null
+            Metadata(
+                url,
+                properties.getProperty("etag"),
+                properties.getProperty("lastModified"),
+                properties.getProperty("totalLength")?.toLongOrNull() ?: -1,
+                properties.getProperty("complete") == "true",
+                properties.getProperty("fileLength")?.toLongOrNull() ?: 0,
+                properties.getProperty("fileModified")?.toLongOrNull() ?: 0
+            )
+        } catch (e: IOException) {
+            null
+        }
+    }
+
+    private fun writeMetadata(metadata: Metadata) {
+        val properties = Properties()
+        properties.setProperty("url", metadata.url)
+        metadata.etag?.let { properties.setProperty("etag", it) }
+        metadata.lastModified?.let { properties.setProperty("lastModified", it) }
+        properties.setProperty("totalLength", metadata.totalLength.toString())
+        properties.setProperty("complete", metadata.isComplete.toString())
+        properties.setProperty("fileLength", metadata.fileLength.toString())
+        properties.setProperty("fileModified", metadata.fileModified.toString())
+        try {
+            metadataFileFor(metadata.url).outputStream().use { properties.store(it, null) }
+        } catch (e: IOException) {
+            // Without metadata the download simply isn't reused.
+        }
+    }
+
+    /** Passes the network stream through while appending everything read to [sink]. */
+    private class TeeInputStream(
+        private val connection: HttpURLConnection,
+        private val sink: OutputStream
+    ) : FilterInputStream(connection.inputStream) {
+
+        override fun read(): Int {
+            val value = super.read()
+            if (value >= 0) sink.write(value)
+            return value
+        }
+
+        override fun read(buffer: ByteArray, offset: Int, length: Int): Int {
+            val count = super.read(buffer, offset, length)
+            if (count > 0) sink.write(buffer, offset, count)
+            return count
+        }
+
+        override fun close() {
+            try {
+                sink.close()
+                super.close()
+            } finally {
+                connection.disconnect()
+            }
+        }
+    }
+
+    companion object {
+        /** Default upper bound of the cache size. */
+        const val DEFAULT_MAX_BYTES = 256L * 1024 * 1024
+
+        private const val METADATA_SUFFIX = ".properties"
+        private const val CONNECT_TIMEOUT_MS = 15_000
+        private const val READ_TIMEOUT_MS = 30_000
+
+        /**
+         * Keys of the URLs being downloaded, shared by all cache instances, with a latch that is
+         * released when the download ends.
+         */
+        private val inFlight = ConcurrentHashMap<String, CountDownLatch>()
+
+        private fun key(url: String): String {
+            val digest = MessageDigest.getInstance("SHA-256").digest(url.toByteArray(Charsets.UTF_8))
+            return digest.joinToString("") { "%02x".format(it) }
+        }
+    }
+}
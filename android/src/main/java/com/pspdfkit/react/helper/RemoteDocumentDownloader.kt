@@ -1,10 +1,9 @@
 package com.pspdfkit.react.helper
 
 import android.content.Context
-import androidx.appcompat.app.AlertDialog
-import androidx.fragment.app.FragmentActivity
+import android.os.Handler
+import android.os.Looper
 import androidx.fragment.app.FragmentManager
-import com.facebook.react.bridge.ReactApplicationContext
 import com.pspdfkit.document.download.DownloadJob
 import com.pspdfkit.document.download.DownloadProgressFragment
 import com.pspdfkit.document.download.DownloadRequest
@@ -13,9 +12,8 @@ import java.io.File
 import java.io.IOException
 import java.io.InputStream
 import java.net.HttpURLConnection
-import java.net.MalformedURLException
 import java.net.URL
-import java.net.URLConnection
+import java.util.concurrent.Executors
 
 class RemoteDocumentDownloader(private val remoteURL: String,
                                private var destinationFileURL: String?,
@@ -23,23 +21,72 @@ class RemoteDocumentDownloader(private val remoteURL: String,
                                private val context: Context,
                                private val fragmentManager: FragmentManager) {
 
+    private val mainHandler = Handler(Looper.getMainLooper())
+
+    /**
+     * Downloads the document, reusing or resuming a cached download of the same URL if possible.
+     * The callback is invoked on the main thread.
+     */
     fun startDownload(callback: (File?, Throwable?) -> Unit) {
         try {
-            val source = WebDownloadSource(URL(remoteURL))
+            val cache = RemoteDocumentCache(File(context.cacheDir, CACHE_DIRECTORY))
+            val destination = destinationFileURL?.let { File(it) }
+
+            if (overwriteExisting && destination != null && destination.exists()) {
+                destination.delete()
+            }
 
-            if (overwriteExisting && destinationFileURL != null) {
-                val delete = destinationFileURL?.let { File(it) }
-                if (delete != null && delete.exists()) {
-                    delete.delete()
+            executor.execute {
+                val prepared = try {
+                    // A running download of the same URL is waited for and then served from the cache.
+                    if (!cache.acquire(remoteURL, CONCURRENT_DOWNLOAD_TIMEOUT_MS)) {
+                        throw IOException("Timed out waiting for another download of $remoteURL")
+                    }
+                    try {
+                        cache.prepare(remoteURL)
+                    } catch (e: Throwable) {
+                        cache.release(remoteURL)
+                        throw e
+                    }
+                } catch (e: Throwable) {
+                    mainHandler.post { callback(null, e) }
+                    return@execute
+                }
+                when (prepared) {
+                    is RemoteDocumentCache.Prepared.Cached -> finish(cache, destination, callback)
+                    is RemoteDocumentCache.Prepared.Download -> mainHandler.post {
+                        startJob(WebDownloadSource(cache, prepared), cache, destination, callback)
+                    }
                 }
             }
+        } catch (e: Throwable) {
+            // Catch all setup errors (URL parsing, file operations, request building, job starting)
+            // Once job listener is set, job handles all download errors
+            callback(null, e)
+        }
+    }
 
+    /** Hands the cached document, or its copy at [destination], to the callback and ends the download. */
+    private fun finish(cache: RemoteDocumentCache, destination: File?, callback: (File?, Throwable?) -> Unit) {
+        val result = try {
+            cache.copyToDestination(remoteURL, destination)
+        } catch (e: Throwable) {
+            cache.release(remoteURL)
+            mainHandler.post { callback(null, e) }
+            return
+        }
+        cache.release(remoteURL)
+        mainHandler.post { callback(result, null) }
+    }
+
+    private fun startJob(source: DownloadSource, cache: RemoteDocumentCache, destination: File?, callback: (File?, Throwable?) -> Unit) {
+        val output = cache.fileFor(remoteURL)
+        try {
             val request = DownloadRequest.Builder(context)
                 .source(source)
-                .outputFile(if (destinationFileURL == null)
-                    File(context.getDir("documents", Context.MODE_PRIVATE), "temp.pdf") else
-                    destinationFileURL?.let { File(it) })
-                .overwriteExisting(overwriteExisting)
+                .outputFile(output)
+                // The cache's own file may hold an earlier incomplete download and is always replaced.
+                .overwriteExisting(true)
                 .useTemporaryOutputFile(false)
                 .build()
 
@@ -48,10 +95,23 @@ class RemoteDocumentDownloader(private val remoteURL: String,
             // Set listener BEFORE showing fragment - once listener is set, job handles all errors
             job.setProgressListener(object : DownloadJob.ProgressListenerAdapter() {
                 override fun onComplete(output: File) {
-                    callback(output, null)
+                    executor.execute {
+                        try {
+                            cache.commit(remoteURL, output)
+                        } catch (e: Throwable) {
+                            cache.release(remoteURL)
+                            mainHandler.post { callback(null, e) }
+                            return@execute
+                        }
+                        finish(cache, destination, callback)
+                    }
                 }
 
                 override fun onError(exception: Throwable) {
+                    // The partial file keeps the received bytes for the next attempt, the
+                    // incomplete output is useless.
+                    output.delete()
+                    cache.release(remoteURL)
                     callback(null, exception)
                 }
             })
@@ -66,48 +126,66 @@ class RemoteDocumentDownloader(private val remoteURL: String,
                 // Don't call callback here to avoid duplicate callbacks
             }
         } catch (e: Throwable) {
-            // Catch all setup errors (URL parsing, file operations, request building, job starting)
-            // Once job listener is set, job handles all download errors
+            cache.release(remoteURL)
             callback(null, e)
         }
     }
+
+    companion object {
+        private const val CACHE_DIRECTORY = "nutrient-remote-documents"
+
+        /** How long a download waits for a running download of the same URL before giving up. */
+        private const val CONCURRENT_DOWNLOAD_TIMEOUT_MS = 10 * 60 * 1000L
+
+        private val executor = Executors.newCachedThreadPool { runnable ->
+            Thread(runnable, "NutrientRemoteDocument").apply { isDaemon = true }
+        }
+    }
 }
 
-class WebDownloadSource constructor(private val documentURL: URL) : DownloadSource {
+class WebDownloadSource private constructor(
+    private val documentURL: URL,
+    private val cache: RemoteDocumentCache?,
+    private var download: RemoteDocumentCache.Prepared.Download?
+) : DownloadSource {
+
+    /** Size of the document, known once a connection was opened. */
+    @Volatile
+    private var length = download?.totalLength?.takeIf { it >= 0 } ?: DownloadSource.UNKNOWN_DOWNLOAD_SIZE
+
+    constructor(documentURL: URL) : this(documentURL, null, null)
+
+    /** Creates a source that reads the prepared, possibly resumed, download through the cache. */
+    constructor(cache: RemoteDocumentCache, download: RemoteDocumentCache.Prepared.Download) :
+        this(URL(download.url), cache, download)
+
     /**
      * The open method needs to return an [InputStream] that will provide the complete document.
      */
     @Throws(IOException::class)
     override fun open(): InputStream {
+        val prepared = download
+        if (cache != null && prepared != null) {
+            // The prepared connection can only be read once.
+            download = null
+            return cache.openDownloadStream(prepared)
+        }
         val connection = documentURL.openConnection() as HttpURLConnection
         connection.connect()
+        val contentLength = connection.contentLengthLong
+        if (contentLength >= 0) {
+            length = contentLength
+        }
         return connection.inputStream
     }
 
     /**
-     * If the length is available it can be returned here. This is optional, and can improve the reported download progress, since it will then contain
-     * a percentage of download.
+     * Returns the length learned from the download's response, instead of opening another
+     * connection just to read the Content-Length header.
      */
-    override fun getLength(): Long {
-        var length = DownloadSource.UNKNOWN_DOWNLOAD_SIZE
-
-        // We try to estimate the download size using the content length header.
-        var urlConnection: URLConnection? = null
-        try {
-            urlConnection = documentURL.openConnection()
-            val contentLength = urlConnection.contentLength
-            if (contentLength != -1) {
-                length = contentLength.toLong()
-            }
-        } catch (e: IOException) {
-            // Error while trying to parse the PDF Download URL
-        } finally {
-            (urlConnection as? HttpURLConnection)?.disconnect()
-        }
-        return length
-    }
+    override fun getLength(): Long = length
 
     override fun toString(): String {
         return "WebDownloadSource{documentURL=$documentURL}"
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+/*
+ * SharedDocumentPool.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import android.content.ContentResolver
+import android.content.Context
+import android.net.Uri
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.PdfDocumentLoader
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
+import java.io.IOException
+
+/**
+ * Shares the documents opened by `PdfView`s. Views that show the same file with the same password
+ * share a single load, even if they start it at the same time, and a single [PdfDocument]. The
+ * document is dropped from the pool once the last view holding it released its [Lease].
+ *
+ * A document is only shared while the file's modification time and size, read as in
+ * [DocumentHandleCache], stay the same. Views that open the file after it changed on disk load it
+ * again, while views that still hold the previous document keep it until they release it.
+ */
+object SharedDocumentPool {
+
+    internal class Entry(val stamp: DocumentHandleCache.FileStamp) {
+        lateinit var load: Single<PdfDocument>
+        var references = 0
+    }
+
+    /** A view's reference to a shared document. */
+    class Lease internal constructor(private val key: String, private val entry: Entry) {
+        private var isReleased = false
+
+        /** Emits the shared document once it is loaded, on a background thread. */
+        val document: Single<PdfDocument>
+            get() = entry.load
+
+        /** The modification time and size of the file when the document was loaded. */
+        internal val stamp: DocumentHandleCache.FileStamp
+            get() = entry.stamp
+
+        /** Gives up this reference. Calling it more than once has no effect. */
+        fun release() {
+            synchronized(SharedDocumentPool) {
+                if (isReleased) return
+                isReleased = true
+                entry.references--
+                if (entry.references == 0 && entries[key] === entry) {
+                    entries.remove(key)
+                }
+            }
+        }
+    }
+
+    private val entries = HashMap<String, Entry>()
+
+    /**
+     * Returns a lease on the document at [uri], starting to load it unless it's already loaded or
+     * being loaded for another view and the file didn't change since. The lease must be released
+     * when the view no longer shows it.
+     */
+    @JvmStatic
+    fun acquire(context: Context, uri: Uri, password: String?): Lease {
+        val key = keyFor(uri, password)
+        val applicationContext = context.applicationContext
+        val stamp = DocumentHandleCache.fileStamp(applicationContext.contentResolver, uri)
+        synchronized(this) {
+            var entry = entries[key]
+            if (entry == null || !entry.stamp.matches(stamp.lastModified, stamp.size)) {
+                // Leases on a document of the previous file keep their entry, which is no longer
+                // handed out.
+                entry = Entry(stamp).also { it.load = load(applicationContext, key, it, uri, password) }
+                entries[key] = entry
+            }
+            entry.references++
+            return Lease(key, entry)
+        }
+    }
+
+    /** The key under which the document at [uri] is shared. */
+    internal fun keyFor(uri: Uri, password: String?) = "${normalize(uri)}|${password ?: ""}"
+
+    private fun load(context: Context, key: String, entry: Entry, uri: Uri, password: String?): Single<PdfDocument> {
+        return PdfDocumentLoader.openDocumentAsync(context, uri, password)
+            .subscribeOn(Schedulers.io())
+            // A failed load must not be shared with views that open the document later, e.g.
+            // after the password was corrected.
+            .doOnError { dropFailedLoad(key, entry) }
+            .cache()
+    }
+
+    private fun dropFailedLoad(key: String, entry: Entry) {
+        synchronized(this) {
+            if (entries[key] === entry) entries.remove(key)
+        }
+    }
+
+    /** Maps different spellings of the same file, like `file:///a/../b.pdf` and `file:///b.pdf`, to one key. */
+    private fun normalize(uri: Uri): String {
+        val normalized = uri.normalizeScheme()
+        if (normalized.scheme == ContentResolver.SCHEME_FILE) {
+            val path = normalized.path ?: return normalized.toString()
+            return try {
+                Uri.fromFile(File(path).canonicalFile).toString()
+            } catch (e: IOException) {
+                normalized.toString()
+            }
+        }
+        return normalized.toString()
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * AnnotationChangeBatcher.java
+ *
+ *   PSPDFKit
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.views;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import com.pspdfkit.react.helper.AnnotationChangeSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Accumulates the annotation changes of a single view and delivers them as multi-annotation
+ * events, so that bulk operations like an XFDF import produce a handful of events instead of one
+ * per annotation. Consecutive changes of the same type on the same document are merged into one
+ * batch; a change of a different type starts a new batch, which keeps the original order of
+ * additions, changes and removals intact. Changes that are only reported to the view, like form
+ * edits, go through the same batches so that they keep their order relative to the others.
+ *
+ * Batching is disabled by default. With a flush interval of {@code 0} pending batches are delivered
+ * on the next frame, with a positive interval they are delivered that many milliseconds after the
+ * first pending change.
+ *
+ * All methods must be called on the UI thread.
+ */
+@UiThread
+final class AnnotationChangeBatcher implements Choreographer.FrameCallback {
+
+    /** Receives the batched changes. */
+    interface Sink {
+        void emitAnnotationChanges(@NonNull String changeType, @Nullable String documentID, boolean isViewOnly, @NonNull List<AnnotationChangeSnapshot> snapshots);
+    }
+
+    /** Flush interval value that disables batching. */
+    static final int BATCHING_DISABLED = -1;
+
+    private static final class Batch {
+        @NonNull final String changeType;
+        @Nullable final String documentID;
+        final boolean isViewOnly;
+        @NonNull final List<AnnotationChangeSnapshot> snapshots = new ArrayList<>();
+
+        Batch(@NonNull String changeType, @Nullable String documentID, boolean isViewOnly) {
+            this.changeType = changeType;
+            this.documentID = documentID;
+            this.isViewOnly = isViewOnly;
+        }
+    }
+
+    @NonNull
+    private final Sink sink;
+    @NonNull
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    @NonNull
+    private final Runnable flushRunnable = this::flush;
+
+    private int flushIntervalMs = BATCHING_DISABLED;
+    private boolean isFlushScheduled = false;
+    @NonNull
+    private List<Batch> pendingBatches = new ArrayList<>();
+
+    AnnotationChangeBatcher(@NonNull Sink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Sets how long changes are accumulated before they are delivered. Negative values disable
+     * batching, {@code 0} delivers once per frame.
+     */
+    void setFlushIntervalMs(int flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs < 0 ? BATCHING_DISABLED : flushIntervalMs;
+        if (this.flushIntervalMs == BATCHING_DISABLED) {
+            flush();
+        }
+    }
+
+    void onAnnotationChanged(@NonNull AnnotationChangeSnapshot snapshot, @Nullable String documentID) {
+        onAnnotationChanged(snapshot, documentID, false);
+    }
+
+    /**
+     * Adds a change, which is only delivered to the view's {@code onAnnotationsChanged} callback if
+     * {@code isViewOnly} is set.
+     */
+    void onAnnotationChanged(@NonNull AnnotationChangeSnapshot snapshot, @Nullable String documentID, boolean isViewOnly) {
+        if (flushIntervalMs == BATCHING_DISABLED) {
+            List<AnnotationChangeSnapshot> snapshots = new ArrayList<>(1);
+            snapshots.add(snapshot);
+            sink.emitAnnotationChanges(snapshot.getChangeType(), documentID, isViewOnly, snapshots);
+            return;
+        }
+        Batch last = pendingBatches.isEmpty() ? null : pendingBatches.get(pendingBatches.size() - 1);
+        if (last == null || !last.changeType.equals(snapshot.getChangeType()) || !Objects.equals(last.documentID, documentID)
+            || last.isViewOnly != isViewOnly) {
+            last = new Batch(snapshot.getChangeType(), documentID, isViewOnly);
+            pendingBatches.add(last);
+        }
+        last.snapshots.add(snapshot);
+        scheduleFlush();
+    }
+
+    /** Delivers all pending batches right away. */
+    void flush() {
+        unscheduleFlush();
+        if (pendingBatches.isEmpty()) {
+            return;
+        }
+        // Swap first so that changes emitted while delivering start a new round.
+        List<Batch> batches = pendingBatches;
+        pendingBatches = new ArrayList<>();
+        for (Batch batch : batches) {
+            sink.emitAnnotationChanges(batch.changeType, batch.documentID, batch.isViewOnly, batch.snapshots);
+        }
+    }
+
+    /** Drops all pending batches without delivering them, e.g. when the view is torn down. */
+    void cancel() {
+        unscheduleFlush();
+        pendingBatches = new ArrayList<>();
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        isFlushScheduled = false;
+        flush();
+    }
+
+    private void scheduleFlush() {
+        if (isFlushScheduled) {
+            return;
+        }
+        isFlushScheduled = true;
+        if (flushIntervalMs == 0) {
+            Choreographer.getInstance().postFrameCallback(this);
+        } else {
+            handler.postDelayed(flushRunnable, flushIntervalMs);
+        }
+    }
+
+    private void unscheduleFlush() {
+        if (!isFlushScheduled) {
+            return;
+        }
+        isFlushScheduled = false;
+        Choreographer.getInstance().removeFrameCallback(this);
+        handler.removeCallbacks(flushRunnable);
+    }
+}
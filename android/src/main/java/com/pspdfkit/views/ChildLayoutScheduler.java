@@ -0,0 +1,174 @@
+/*
+ * ChildLayoutScheduler.java
+ *
+ *   PSPDFKit
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.views;
+
+import android.os.SystemClock;
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+/**
+ * Lays out the native children of a view hosted by React Native. React Native only lays out the
+ * views it manages, so layout requests of the embedded fragment's views never reach a layout pass
+ * on their own. Instead of forcing a layout of the whole fragment on every frame, the host reports
+ * the events that can change its children's layout (a new size, an attached fragment, a child
+ * requesting a layout) and the host and its children are measured and laid out once on the next
+ * frame.
+ *
+ * The previous behavior, laying out on every frame while the view is active, can be restored with
+ * {@link #setContinuousLayoutEnabled(boolean)} to rule out the scheduler when debugging layout
+ * issues. {@link #getStatistics()} reports how many forced layouts ran.
+ */
+@UiThread
+public final class ChildLayoutScheduler implements Choreographer.FrameCallback {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static volatile boolean continuousLayoutEnabled = false;
+
+    private static final Object statisticsLock = new Object();
+    private static long totalLayouts = 0;
+    private static long windowStartNanos = 0;
+    private static int windowLayouts = 0;
+    private static int lastWindowLayouts = 0;
+
+    @NonNull
+    private final ViewGroup host;
+    @NonNull
+    private final Runnable layoutChildren;
+    private boolean isFrameCallbackPosted = false;
+    private boolean isActive = true;
+
+    /**
+     * @param host           The view whose children are laid out.
+     * @param layoutChildren Measures and lays out the children of {@code host} to its size.
+     */
+    ChildLayoutScheduler(@NonNull ViewGroup host, @NonNull Runnable layoutChildren) {
+        this.host = host;
+        this.layoutChildren = layoutChildren;
+    }
+
+    /** Lays out the children on the next frame; several requests in one frame share the layout. */
+    void scheduleLayout() {
+        if (!isActive || isFrameCallbackPosted) {
+            return;
+        }
+        isFrameCallbackPosted = true;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /** Lays out the children right away, replacing a scheduled layout. */
+    void layoutNow() {
+        cancel();
+        performLayout();
+        if (continuousLayoutEnabled) {
+            scheduleLayout();
+        }
+    }
+
+    /** Inactive views don't lay out their children until they're activated again. */
+    void setActive(boolean active) {
+        isActive = active;
+        if (active) {
+            scheduleLayout();
+        } else {
+            cancel();
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        isFrameCallbackPosted = false;
+        if (!isActive) {
+            return;
+        }
+        performLayout();
+        if (continuousLayoutEnabled) {
+            scheduleLayout();
+        }
+    }
+
+    private void cancel() {
+        if (isFrameCallbackPosted) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            isFrameCallbackPosted = false;
+        }
+    }
+
+    private void performLayout() {
+        // Like React Native's own measure and layout workaround for native children: laying out the
+        // host clears its forced layout flag. While the flag is set, requestLayout() of a child
+        // stops at the host, so later requests would never schedule another layout.
+        host.measure(View.MeasureSpec.makeMeasureSpec(host.getWidth(), View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(host.getHeight(), View.MeasureSpec.EXACTLY));
+        host.layout(host.getLeft(), host.getTop(), host.getRight(), host.getBottom());
+        layoutChildren.run();
+        host.getViewTreeObserver().dispatchOnGlobalLayout();
+        recordLayout();
+    }
+
+    /**
+     * Lays out the children of active views on every frame if {@code enabled}, like before layouts
+     * were scheduled. Meant for debugging only. Takes effect with the next layout of each view.
+     */
+    public static void setContinuousLayoutEnabled(boolean enabled) {
+        continuousLayoutEnabled = enabled;
+    }
+
+    public static boolean isContinuousLayoutEnabled() {
+        return continuousLayoutEnabled;
+    }
+
+    /**
+     * Returns the number of forced layouts of all views during the last full second, the total
+     * number since the app started and whether continuous layout is enabled.
+     */
+    @NonNull
+    public static WritableMap getStatistics() {
+        WritableMap statistics = Arguments.createMap();
+        synchronized (statisticsLock) {
+            rollWindow(SystemClock.elapsedRealtimeNanos());
+            statistics.putInt("forcedLayoutsPerSecond", lastWindowLayouts);
+            statistics.putDouble("forcedLayouts", totalLayouts);
+        }
+        statistics.putBoolean("continuousLayoutEnabled", continuousLayoutEnabled);
+        return statistics;
+    }
+
+    private static void recordLayout() {
+        synchronized (statisticsLock) {
+            rollWindow(SystemClock.elapsedRealtimeNanos());
+            windowLayouts++;
+            totalLayouts++;
+        }
+    }
+
+    /** Starts a new one second window if the current one is over. Must hold {@link #statisticsLock}. */
+    private static void rollWindow(long nowNanos) {
+        long elapsed = nowNanos - windowStartNanos;
+        if (elapsed < NANOS_PER_SECOND) {
+            return;
+        }
+        // If more than one window passed since the last layout, the last full window had none.
+        lastWindowLayouts = elapsed < 2 * NANOS_PER_SECOND ? windowLayouts : 0;
+        windowLayouts = 0;
+        windowStartNanos = nowNanos - elapsed % NANOS_PER_SECOND;
+    }
+}
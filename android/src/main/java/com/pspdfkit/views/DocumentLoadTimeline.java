@@ -0,0 +1,221 @@
+/*
+ * DocumentLoadTimeline.java
+ *
+ *   PSPDFKit
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.views;
+
+import android.os.Build;
+import android.os.Trace;
+import android.view.Choreographer;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures how long each stage of opening a document in a {@link PdfView} takes, from the call to
+ * {@code setDocument} until the first frame showing the document was drawn:
+ * <ul>
+ *     <li>{@code download}: downloading a remote document, or checking whether its server supports
+ *     range requests when it is loaded progressively;</li>
+ *     <li>{@code open}: opening the document with the document loader;</li>
+ *     <li>{@code fragmentBuild}: registering the document with {@code PDFDocumentModule} and
+ *     building the fragment;</li>
+ *     <li>{@code attach}: committing the fragment until it reports the document as loaded;</li>
+ *     <li>{@code firstPageRendered}: from then until the next frame was drawn.</li>
+ * </ul>
+ * Stages that don't apply to a load, like {@code download} for local files, are reported as
+ * {@code null}. Each stage is also traced as an async {@link Trace} section, so the same spans show
+ * up in Perfetto and systrace captures. The last {@value #HISTORY_SIZE} loads of the view are kept.
+ */
+public final class DocumentLoadTimeline {
+
+    private static final String TRACE_PREFIX = "Nutrient:";
+    private static final int HISTORY_SIZE = 10;
+    private static final long NANOS_PER_MILLISECOND = 1_000_000L;
+
+    /** Trace cookies have to be unique among the sections of the same name that overlap. */
+    private static final AtomicInteger nextTraceCookie = new AtomicInteger();
+
+    enum Stage {
+        DOWNLOAD("download"),
+        OPEN("open"),
+        FRAGMENT_BUILD("fragmentBuild"),
+        ATTACH("attach"),
+        FIRST_PAGE_RENDERED("firstPageRendered");
+
+        @NonNull
+        final String key;
+
+        Stage(@NonNull String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Load {
+        @NonNull
+        final String documentPath;
+        final int traceCookie = nextTraceCookie.incrementAndGet();
+        final long startNanos = System.nanoTime();
+        final long[] stageStartNanos = new long[Stage.values().length];
+        final long[] stageDurationNanos = new long[Stage.values().length];
+        long endNanos = -1;
+        boolean failed = false;
+
+        Load(@NonNull String documentPath) {
+            this.documentPath = documentPath;
+            for (int i = 0; i < stageStartNanos.length; i++) {
+                stageStartNanos[i] = -1;
+                stageDurationNanos[i] = -1;
+            }
+        }
+
+        boolean isFinished() {
+            return endNanos >= 0;
+        }
+    }
+
+    @Nullable
+    private Load currentLoad;
+    private final ArrayDeque<Load> history = new ArrayDeque<>(HISTORY_SIZE);
+
+    /** Starts measuring the load of {@code documentPath}, abandoning a load that is still running. */
+    @UiThread
+    synchronized void start(@NonNull String documentPath) {
+        if (currentLoad != null && !currentLoad.isFinished()) {
+            finish(currentLoad, true);
+        }
+        currentLoad = new Load(documentPath);
+        history.addLast(currentLoad);
+        if (history.size() > HISTORY_SIZE) {
+            history.removeFirst();
+        }
+    }
+
+    /** Starts {@code stage} of the current load, unless it already started. */
+    @UiThread
+    synchronized void beginStage(@NonNull Stage stage) {
+        Load load = currentLoad;
+        if (load == null || load.isFinished() || load.stageStartNanos[stage.ordinal()] >= 0) {
+            return;
+        }
+        load.stageStartNanos[stage.ordinal()] = System.nanoTime();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.beginAsyncSection(TRACE_PREFIX + stage.key, load.traceCookie);
+        }
+    }
+
+    /** Ends {@code stage} of the current load, if it is running. */
+    @UiThread
+    synchronized void endStage(@NonNull Stage stage) {
+        Load load = currentLoad;
+        if (load == null || !isRunning(load, stage)) {
+            return;
+        }
+        load.stageDurationNanos[stage.ordinal()] = System.nanoTime() - load.stageStartNanos[stage.ordinal()];
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.endAsyncSection(TRACE_PREFIX + stage.key, load.traceCookie);
+        }
+    }
+
+    /**
+     * Called once the fragment of {@code view} reported the document as loaded. Ends the attach
+     * stage and finishes the load after the next frame of {@code view} was drawn.
+     */
+    @UiThread
+    void onDocumentLoaded(@NonNull View view) {
+        final Load load;
+        synchronized (this) {
+            load = currentLoad;
+            if (load == null || load.isFinished()) {
+                return;
+            }
+        }
+        endStage(Stage.ATTACH);
+        beginStage(Stage.FIRST_PAGE_RENDERED);
+        // Frame callbacks run before the frame is drawn, messages posted from them after it.
+        Choreographer.getInstance().postFrameCallback(frameTimeNanos -> view.post(() -> {
+            synchronized (this) {
+                if (currentLoad == load && !load.isFinished()) {
+                    endStage(Stage.FIRST_PAGE_RENDERED);
+                    finish(load, false);
+                }
+            }
+        }));
+    }
+
+    /** Finishes the current load as failed. */
+    @UiThread
+    synchronized void onDocumentLoadFailed() {
+        if (currentLoad != null && !currentLoad.isFinished()) {
+            finish(currentLoad, true);
+        }
+    }
+
+    /** Returns the timings of the current load, stages that didn't finish yet are {@code null}. */
+    @NonNull
+    public synchronized WritableMap getTimings() {
+        return currentLoad != null ? toMap(currentLoad) : Arguments.createMap();
+    }
+
+    /** Returns the timings of the most recent loads of the view, oldest first. */
+    @NonNull
+    public synchronized WritableArray getHistory() {
+        WritableArray loads = Arguments.createArray();
+        for (Load load : history) {
+            WritableMap timings = toMap(load);
+            timings.putString("documentPath", load.documentPath);
+            loads.pushMap(timings);
+        }
+        return loads;
+    }
+
+    private static boolean isRunning(@NonNull Load load, @NonNull Stage stage) {
+        return load.stageStartNanos[stage.ordinal()] >= 0 && load.stageDurationNanos[stage.ordinal()] < 0;
+    }
+
+    private static void finish(@NonNull Load load, boolean failed) {
+        for (Stage stage : Stage.values()) {
+            if (isRunning(load, stage) && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+                Trace.endAsyncSection(TRACE_PREFIX + stage.key, load.traceCookie);
+            }
+        }
+        load.endNanos = System.nanoTime();
+        load.failed = failed;
+    }
+
+    @NonNull
+    private static WritableMap toMap(@NonNull Load load) {
+        WritableMap timings = Arguments.createMap();
+        for (Stage stage : Stage.values()) {
+            long duration = load.stageDurationNanos[stage.ordinal()];
+            if (duration >= 0) {
+                timings.putDouble(stage.key, (double) duration / NANOS_PER_MILLISECOND);
+            } else {
+                timings.putNull(stage.key);
+            }
+        }
+        long end = load.isFinished() ? load.endNanos : System.nanoTime();
+        timings.putDouble("total", (double) (end - load.startNanos) / NANOS_PER_MILLISECOND);
+        timings.putBoolean("isComplete", load.isFinished() && !load.failed);
+        timings.putBoolean("failed", load.failed);
+        return timings;
+    }
+}
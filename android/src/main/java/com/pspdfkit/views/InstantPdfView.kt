@@ -12,7 +12,6 @@ import android.os.Handler
 import android.os.Bundle
 import android.util.AttributeSet
 import android.util.Log
-import android.view.Choreographer
 import android.view.View
 import android.view.ViewGroup
 import android.widget.FrameLayout
@@ -33,6 +32,7 @@ import com.pspdfkit.listeners.DocumentListener
 import com.pspdfkit.listeners.scrolling.DocumentScrollListener
 import com.pspdfkit.listeners.scrolling.ScrollState
 import com.pspdfkit.react.ConfigurationAdapter
+import com.pspdfkit.react.NotificationEvent
 import com.pspdfkit.react.NutrientNotificationCenter
 import com.pspdfkit.react.R
 import com.pspdfkit.react.helper.JsonUtilities
@@ -75,18 +75,16 @@ class InstantPdfView @JvmOverloads constructor(
     private var fragment: ReactInstantPdfUiFragment? = null
     private var pageIndex: Int = 0
     private var delegate: PdfView.PdfViewDelegate? = null
+    private var scrollEventCoalescer: ScrollEventCoalescer? = null
+    private var scrollEventMaxRate: Int = 0
+
+    // Nullable because the super constructor already calls requestLayout().
+    private var childLayoutScheduler: ChildLayoutScheduler? = null
 
     init {
-        // Mirror PdfView: continuously lay out children so the embedded fragment view
-        // always matches the React Native layout bounds.
-        Choreographer.getInstance().postFrameCallback(object : Choreographer.FrameCallback {
-            override fun doFrame(frameTimeNanos: Long) {
-                manuallyLayoutChildren()
-                viewTreeObserver.dispatchOnGlobalLayout()
-                // Instant view is lightweight; keep this active as long as the view exists.
-                Choreographer.getInstance().postFrameCallback(this)
-            }
-        })
+        // Mirror PdfView: lay out the embedded fragment view whenever it or the React Native
+        // layout bounds change.
+        childLayoutScheduler = ChildLayoutScheduler(this, ::manuallyLayoutChildren).also { it.scheduleLayout() }
 
         // Mirror PdfView: when requested, consume system bar insets by adjusting margins.
         ViewCompat.setOnApplyWindowInsetsListener(
@@ -160,6 +158,15 @@ class InstantPdfView @JvmOverloads constructor(
         applyHideDefaultToolbar()
     }
 
+    /**
+     * Sets the maximum number of `documentScrolled` notifications emitted per second. Values `<= 0`
+     * emit at most once per frame.
+     */
+    fun setScrollEventMaxRate(maxEventsPerSecond: Int) {
+        scrollEventMaxRate = maxEventsPerSecond
+        scrollEventCoalescer?.setMaxEventsPerSecond(maxEventsPerSecond)
+    }
+
     private fun tryApplyDocument() {
         val doc = documentJson ?: return
         val configStr = configurationJson ?: return
@@ -184,6 +191,9 @@ class InstantPdfView @JvmOverloads constructor(
                 configObj.has("androidShowDefaultToolbar") ->
                     setHideDefaultToolbar(!configObj.optBoolean("androidShowDefaultToolbar", true))
             }
+            if (configObj.has("androidScrollEventMaxRate")) {
+                setScrollEventMaxRate(configObj.optInt("androidScrollEventMaxRate", 0))
+            }
 
             val configMap = Arguments.makeNativeMap(JsonUtilities.jsonObjectToMap(configObj))
             val configAdapter = ConfigurationAdapter(context, configMap)
@@ -258,6 +268,7 @@ class InstantPdfView @JvmOverloads constructor(
                     fm.beginTransaction()
                         .add(this@InstantPdfView.id, newFragment, tag)
                         .commitNowAllowingStateLoss()
+                    childLayoutScheduler?.scheduleLayout()
                     fragment = newFragment
                     registerFragmentListeners(newFragment)
 
@@ -320,6 +331,8 @@ class InstantPdfView @JvmOverloads constructor(
     fun executeAction(requestId: String, allow: Boolean): Boolean = false
 
     fun removeFragment(remove: Boolean) {
+        scrollEventCoalescer?.cancel()
+        scrollEventCoalescer = null
         fragmentManager?.let { fm ->
             fragment?.let { f ->
                 if (f.isAdded) {
@@ -330,6 +343,16 @@ class InstantPdfView @JvmOverloads constructor(
         }
     }
 
+    override fun requestLayout() {
+        super.requestLayout()
+        childLayoutScheduler?.scheduleLayout()
+    }
+
+    override fun onSizeChanged(w: Int, h: Int, oldw: Int, oldh: Int) {
+        super.onSizeChanged(w, h, oldw, oldh)
+        childLayoutScheduler?.scheduleLayout()
+    }
+
     private fun manuallyLayoutChildren() {
         for (i in 0 until childCount) {
             val child = getChildAt(i)
@@ -353,10 +376,11 @@ class InstantPdfView @JvmOverloads constructor(
         // Forward document events into NotificationCenter for Instant.
         pdfFragment.addDocumentListener(object : DocumentListener {
             override fun onDocumentLoaded(loadedDocument: PdfDocument) {
-                if (NutrientNotificationCenter.getIsNotificationCenterInUse()) {
+                if (NutrientNotificationCenter.isSubscribed(NotificationEvent.DOCUMENT_LOADED, componentReferenceId ?: id)) {
                     val componentId = componentReferenceId ?: id
                     NutrientNotificationCenter.documentLoaded(
                         loadedDocument.documentIdString,
+                        null,
                         componentId
                     )
                 }
@@ -370,7 +394,7 @@ class InstantPdfView @JvmOverloads constructor(
             }
 
             override fun onDocumentLoadFailed(throwable: Throwable) {
-                if (NutrientNotificationCenter.getIsNotificationCenterInUse()) {
+                if (NutrientNotificationCenter.isSubscribed(NotificationEvent.DOCUMENT_LOAD_FAILED, componentReferenceId ?: id)) {
                     val componentId = componentReferenceId ?: id
                     NutrientNotificationCenter.documentLoadFailed(
                         "CORRUPTED",
@@ -382,7 +406,7 @@ class InstantPdfView @JvmOverloads constructor(
             }
 
             override fun onPageChanged(pdfDocument: PdfDocument, pageIndex: Int) {
-                if (NutrientNotificationCenter.getIsNotificationCenterInUse()) {
+                if (NutrientNotificationCenter.isSubscribed(NotificationEvent.DOCUMENT_PAGE_CHANGED, componentReferenceId ?: id)) {
                     val componentId = componentReferenceId ?: id
                     NutrientNotificationCenter.documentPageChanged(
                         pageIndex,
@@ -405,8 +429,41 @@ class InstantPdfView @JvmOverloads constructor(
             override fun onDocumentSaveCancelled(pdfDocument: PdfDocument) {}
         })
 
+        // Mirror PdfView: coalesce scroll notifications to at most one per frame.
+        scrollEventCoalescer?.cancel()
+        val coalescer = ScrollEventCoalescer(object : ScrollEventCoalescer.Sink {
+            override fun emitDocumentScrolled(
+                currX: Int,
+                currY: Int,
+                maxX: Int,
+                maxY: Int,
+                extendX: Int,
+                extendY: Int
+            ) {
+                val document = uiFragment.document ?: return
+                val componentId = componentReferenceId ?: id
+                NutrientNotificationCenter.documentScrolled(
+                    mapOf(
+                        "currX" to currX,
+                        "currY" to currY,
+                    ),
+                    document.documentIdString,
+                    componentId
+                )
+            }
+
+            override fun emitViewportChanged() {
+                // Instant views don't emit viewport notifications.
+            }
+        })
+        coalescer.setMaxEventsPerSecond(scrollEventMaxRate)
+        scrollEventCoalescer = coalescer
         pdfFragment.addDocumentScrollListener(object : DocumentScrollListener {
-            override fun onScrollStateChanged(scrollState: ScrollState) {}
+            override fun onScrollStateChanged(scrollState: ScrollState) {
+                if (scrollState == ScrollState.IDLE) {
+                    coalescer.flush()
+                }
+            }
 
             override fun onDocumentScrolled(
                 currX: Int,
@@ -416,17 +473,8 @@ class InstantPdfView @JvmOverloads constructor(
                 extendX: Int,
                 extendY: Int
             ) {
-                if (NutrientNotificationCenter.getIsNotificationCenterInUse()) {
-                    val document = uiFragment.document ?: return
-                    val componentId = componentReferenceId ?: id
-                    NutrientNotificationCenter.documentScrolled(
-                        mapOf(
-                            "currX" to currX,
-                            "currY" to currY,
-                        ),
-                        document.documentIdString,
-                        componentId
-                    )
+                if (NutrientNotificationCenter.isSubscribed(NotificationEvent.DOCUMENT_SCROLLED, componentReferenceId ?: id)) {
+                    coalescer.onDocumentScrolled(currX, currY, maxX, maxY, extendX, extendY)
                 }
             }
         })
@@ -0,0 +1,66 @@
+/*
+ * MetricRingBuffer.java
+ *
+ *   PSPDFKit
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.views;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size buffer of the most recent samples of a metric. Recording never blocks or allocates,
+ * so it can be called from any thread on hot paths; once the buffer is full the oldest samples are
+ * overwritten.
+ *
+ * Readers don't synchronize with writers either: a copy taken while a sample is being recorded may
+ * contain the sample that was previously stored in its slot. That is acceptable for statistics.
+ */
+final class MetricRingBuffer {
+
+    @NonNull
+    private final AtomicLongArray samples;
+    private final int capacity;
+    /** Number of samples recorded so far, which is also the position of the next sample. */
+    private final AtomicLong recordedCount = new AtomicLong();
+
+    MetricRingBuffer(int capacity) {
+        this.capacity = capacity;
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    void record(long sample) {
+        long position = recordedCount.getAndIncrement();
+        samples.set((int) (position % capacity), sample);
+    }
+
+    /** The number of samples recorded so far, to be passed to {@link #copySince(long)} later. */
+    long getRecordedCount() {
+        return recordedCount.get();
+    }
+
+    /**
+     * Copies the samples recorded after {@code recordedCount} samples, oldest first. Only the
+     * newest {@code capacity} samples are still available.
+     */
+    @NonNull
+    long[] copySince(long recordedCount) {
+        long end = this.recordedCount.get();
+        long start = Math.max(Math.max(0, recordedCount), end - capacity);
+        long[] copy = new long[(int) Math.max(0, end - start)];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = samples.get((int) ((start + i) % capacity));
+        }
+        return copy;
+    }
+}
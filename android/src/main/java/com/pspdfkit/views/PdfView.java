@@ -24,10 +24,10 @@ import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
 import android.os.Handler;
+import android.os.Trace;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.util.Pair;
-import android.view.Choreographer;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
@@ -84,6 +84,7 @@ import com.pspdfkit.forms.SignatureFormElement;
 import com.pspdfkit.forms.TextFormElement;
 import com.pspdfkit.listeners.OnVisibilityChangedListener;
 import com.pspdfkit.listeners.SimpleDocumentListener;
+import com.pspdfkit.react.NotificationEvent;
 import com.pspdfkit.react.NutrientNotificationCenter;
 import com.pspdfkit.react.PDFDocumentModule;
 import com.pspdfkit.react.R;
@@ -103,10 +104,14 @@ import com.pspdfkit.react.events.PdfViewShouldShowSignaturePadEvent;
 import com.pspdfkit.react.events.PdfViewNavigationButtonClickedEvent;
 import com.pspdfkit.react.events.CustomToolbarButtonTappedEvent;
 import com.pspdfkit.react.events.PdfViewStateChangedEvent;
+import com.pspdfkit.react.helper.AnnotationChangeSnapshot;
 import com.pspdfkit.react.helper.ConversionHelpers;
 import com.pspdfkit.react.helper.DocumentJsonDataProvider;
+import com.pspdfkit.react.helper.DocumentWarmPool;
 import com.pspdfkit.react.helper.MeasurementsHelper;
+import com.pspdfkit.react.helper.RangeDataProvider;
 import com.pspdfkit.react.helper.RemoteDocumentDownloader;
+import com.pspdfkit.react.helper.SharedDocumentPool;
 import com.pspdfkit.react.menu.NutrientAnnotationPopupMenuBridge;
 import com.pspdfkit.react.menu.NutrientPopupMenuBridge;
 import com.pspdfkit.react.menu.NutrientTextSelectionPopupMenuBridge;
@@ -145,6 +150,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -175,6 +181,8 @@ import com.pspdfkit.react.SessionStorage;
 public class PdfView extends FrameLayout {
 
     private static final String FILE_SCHEME = "file:///";
+    /** Cache directory of the blocks fetched by {@link RangeDataProvider}. */
+    private static final String RANGE_CACHE_DIRECTORY = "nutrient-range-cache";
     
     // Delegate interface for event forwarding
     public interface PdfViewDelegate {
@@ -190,7 +198,7 @@ public class PdfView extends FrameLayout {
         void onDocumentSaveFailed(String error);
         void onReady();
         void onAnnotationTapped(Annotation annotation);
-        void onAnnotationsChanged(String eventType, Annotation annotation);
+        void onAnnotationsChanged(String eventType, List<AnnotationChangeSnapshot> snapshots);
         void onShouldExecuteAction(String requestId, Action action, int pageIndex, @Nullable String url);
         void onShouldShowSignaturePad(String requestId, @Nullable String fullyQualifiedName, int pageIndex);
     }
@@ -216,6 +224,10 @@ public class PdfView extends FrameLayout {
     private String fragmentTag;
     private PdfActivityConfiguration configuration;
     private Disposable documentOpeningDisposable;
+    /** This view's reference to its document in the {@link SharedDocumentPool}, if it came from there. */
+    @Nullable private SharedDocumentPool.Lease documentLease;
+    /** Provider of a progressively loaded remote document, released with the document. */
+    @Nullable private RangeDataProvider rangeDataProvider;
     private PdfDocument document;
     private String documentPath;
     private String documentPassword;
@@ -227,6 +239,21 @@ public class PdfView extends FrameLayout {
 
     private boolean isActive = true;
 
+    /**
+     * Lays out the fragment's views, which React Native doesn't. Set in {@link #init()}, only
+     * {@link #requestLayout()} can be called before.
+     */
+    private ChildLayoutScheduler childLayoutScheduler;
+
+    /** Views attached to a window, to find them by the ID under which JS refers to them. */
+    private static final CopyOnWriteArrayList<PdfView> attachedViews = new CopyOnWriteArrayList<>();
+
+    /** Collects frame and wrapper timings while enabled, see {@link ViewPerformanceMonitor}. */
+    private final ViewPerformanceMonitor performanceMonitor = new ViewPerformanceMonitor(this);
+
+    /** Measures the stages of opening documents, see {@link DocumentLoadTimeline}. */
+    private final DocumentLoadTimeline documentLoadTimeline = new DocumentLoadTimeline();
+
     private PdfViewModeController pdfViewModeController;
     private PdfViewDocumentListener pdfViewDocumentListener;
     @Nullable
@@ -361,16 +388,8 @@ public class PdfView extends FrameLayout {
     private void init() {
         pdfViewModeController = new PdfViewModeController(this);
 
-        Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
-            @Override
-            public void doFrame(long frameTimeNanos) {
-                manuallyLayoutChildren();
-                getViewTreeObserver().dispatchOnGlobalLayout();
-                if (isActive) {
-                    Choreographer.getInstance().postFrameCallback(this);
-                }
-            }
-        });
+        childLayoutScheduler = new ChildLayoutScheduler(this, this::manuallyLayoutChildren);
+        childLayoutScheduler.scheduleLayout();
 
         // Set a default configuration. Immersive should be disabled for React Native.
         // We keep the default text selection popup menu here; at this point no React
@@ -519,6 +538,8 @@ public class PdfView extends FrameLayout {
     public void setDocument(@Nullable String documentPath, ReactApplicationContext reactApplicationContext, @Nullable Integer reference) {
         if (documentPath == null) {
             this.document = null;
+            releaseDocumentLease();
+            releaseRangeDataProvider();
             removeFragment(false);
             return;
         }
@@ -528,11 +549,14 @@ public class PdfView extends FrameLayout {
         // COMMAND_REMOVE_FRAGMENT workaround) leaves isActive false; without resetting it here the
         // load callbacks below would be gated off and the reloaded document would never appear.
         isActive = true;
+        childLayoutScheduler.setActive(true);
         // Store component reference for Fabric mode if provided
         if (reference != null) {
             this.componentReferenceId = reference;
         }
+        documentLoadTimeline.start(documentPath);
 
+        Trace.beginSection("Nutrient:normalizeDocumentPath");
         if (Uri.parse(documentPath).getScheme() == null) {
             // If there is no scheme it might be a raw path.
             try {
@@ -542,69 +566,32 @@ public class PdfView extends FrameLayout {
                 documentPath = FILE_SCHEME + document;
             }
         }
+        Trace.endSection();
         if (documentOpeningDisposable != null) {
             documentOpeningDisposable.dispose();
         }
+        releaseDocumentLease();
+        releaseRangeDataProvider();
         this.documentPath = documentPath;
 
         if (Uri.parse(documentPath).getScheme().toLowerCase(Locale.getDefault()).contains("http")) {
             String outputFilePath = this.remoteDocumentConfiguration != null &&
                     this.remoteDocumentConfiguration.hasKey("outputFilePath") ?
                     this.remoteDocumentConfiguration.getString("outputFilePath") : null;
-
-            // If no output file was specified, the temporary file location should always be overwritten
-            Boolean overwriteExisting = this.remoteDocumentConfiguration != null &&
-                    this.remoteDocumentConfiguration.hasKey("overwriteExisting") ?
-                    this.remoteDocumentConfiguration.getBoolean("overwriteExisting") : (outputFilePath == null ? true : false);
-
-            RemoteDocumentDownloader downloader = new RemoteDocumentDownloader(documentPath, outputFilePath, overwriteExisting, getContext(), fragmentManager);
-            downloader.startDownload((fileLocation, error) -> {
-                // The download is not tracked by documentOpeningDisposable, so a teardown while it
-                // is in flight cannot cancel it. Bail out if the view was torn down meanwhile,
-                // otherwise this would start a new open and re-attach a fragment after teardown.
-                if (!isActive) {
-                    return Unit.INSTANCE;
-                }
-                if (error != null) {
-                    // Download failed: forward to delegate and JS, then reset fragment
-                    PdfView.this.document = null;
-                    setupFragment(true);
-                    return Unit.INSTANCE;
-                }
-
-                if (fileLocation != null) {
-                    documentOpeningDisposable = PdfDocumentLoader.openDocumentAsync(getContext(), Uri.fromFile(fileLocation), documentPassword)
-                            .subscribeOn(Schedulers.io())
-                            .observeOn(AndroidSchedulers.mainThread())
-                            .subscribe(pdfDocument -> {
-                                if (!isActive) {
-                                    return;
-                                }
-                                PdfView.this.document = pdfDocument;
-                                reactApplicationContext.getNativeModule(PDFDocumentModule.class).setDocument(pdfDocument, null, reference != null ? reference : this.getId(), PdfView.this);
-                                reactApplicationContext.getNativeModule(PDFDocumentModule.class).updateDocumentConfiguration("imageSaveMode", imageSaveMode, reference != null ? reference : this.getId());
-                                setupFragment(false);
-                            }, throwable -> {
-                                if (!isActive) {
-                                    return;
-                                }
-                                if (throwable instanceof  InvalidPasswordException) {
-                                    if (delegate != null) {
-                                        delegate.onDocumentLoadFailed(throwable);
-                                    }
-                                    if (!isFabricMode) {
-                                        dispatchEvent(new PdfViewDocumentLoadFailedEvent(getId(), throwable.getMessage()));
-                                    }
-                                } else {
-                                    PdfView.this.document = null;
-                                }
-                                setupFragment(true);
-                            });
-                }
-                return Unit.INSTANCE;
-            });
+            boolean progressiveLoading = this.remoteDocumentConfiguration != null &&
+                    this.remoteDocumentConfiguration.hasKey("androidProgressiveLoading") &&
+                    this.remoteDocumentConfiguration.getBoolean("androidProgressiveLoading");
+
+            // Progressive loading never writes the whole document to a single file, so a requested
+            // output file is only produced by a full download.
+            if (progressiveLoading && outputFilePath == null) {
+                openRemoteDocumentProgressively(documentPath, reference);
+            } else {
+                downloadRemoteDocument(documentPath, outputFilePath, reference);
+            }
         } else {
             if (PSPDFKitUtils.isValidImage(documentPath)) {
+                documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.OPEN);
                 documentOpeningDisposable = ImageDocumentLoader.openDocumentAsync(getContext(), new DocumentSource(Uri.parse(documentPath)))
                         .subscribeOn(Schedulers.io())
                         .observeOn(AndroidSchedulers.mainThread())
@@ -612,6 +599,8 @@ public class PdfView extends FrameLayout {
                             if (!isActive) {
                                 return;
                             }
+                            documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.OPEN);
+                            documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.FRAGMENT_BUILD);
                             PdfView.this.document = imageDocument.getDocument();
                             reactApplicationContext.getNativeModule(PDFDocumentModule.class).setDocument(imageDocument.getDocument(), imageDocument, reference != null ? reference : this.getId(), PdfView.this);
                             reactApplicationContext.getNativeModule(PDFDocumentModule.class).updateDocumentConfiguration("imageSaveMode", imageSaveMode, reference != null ? reference : this.getId());
@@ -620,6 +609,7 @@ public class PdfView extends FrameLayout {
                             if (!isActive) {
                                 return;
                             }
+                            documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.OPEN);
                             PdfView.this.document = null;
                             if (throwable instanceof  InvalidPasswordException) {
                                 if (delegate != null) {
@@ -632,13 +622,18 @@ public class PdfView extends FrameLayout {
                             setupFragment(false);
                         });
             } else {
-                documentOpeningDisposable = PdfDocumentLoader.openDocumentAsync(getContext(), Uri.parse(documentPath), documentPassword)
-                        .subscribeOn(Schedulers.io())
+                // Views showing the same file share one load and one document, which may already
+                // have been loaded by prefetchDocument.
+                documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.OPEN);
+                documentLease = DocumentWarmPool.acquire(getContext(), Uri.parse(documentPath), documentPassword);
+                documentOpeningDisposable = documentLease.getDocument()
                         .observeOn(AndroidSchedulers.mainThread())
                         .subscribe(pdfDocument -> {
                             if (!isActive) {
                                 return;
                             }
+                            documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.OPEN);
+                            documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.FRAGMENT_BUILD);
                             PdfView.this.document = pdfDocument;
                             reactApplicationContext.getNativeModule(PDFDocumentModule.class).setDocument(pdfDocument, null, reference != null ? reference : this.getId(), PdfView.this);
                             reactApplicationContext.getNativeModule(PDFDocumentModule.class).updateDocumentConfiguration("imageSaveMode", imageSaveMode, reference != null ? reference : this.getId());
@@ -647,6 +642,7 @@ public class PdfView extends FrameLayout {
                             if (!isActive) {
                                 return;
                             }
+                            documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.OPEN);
                             if (throwable instanceof  InvalidPasswordException) {
                                 if (delegate != null) {
                                     delegate.onDocumentLoadFailed(throwable);
@@ -663,6 +659,108 @@ public class PdfView extends FrameLayout {
         }
     }
 
+    private void downloadRemoteDocument(@NonNull String documentPath, @Nullable String outputFilePath, @Nullable Integer reference) {
+        // If no output file was specified, the temporary file location should always be overwritten
+        Boolean overwriteExisting = this.remoteDocumentConfiguration != null &&
+                this.remoteDocumentConfiguration.hasKey("overwriteExisting") ?
+                this.remoteDocumentConfiguration.getBoolean("overwriteExisting") : (outputFilePath == null ? true : false);
+
+        documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.DOWNLOAD);
+        RemoteDocumentDownloader downloader = new RemoteDocumentDownloader(documentPath, outputFilePath, overwriteExisting, getContext(), fragmentManager);
+        downloader.startDownload((fileLocation, error) -> {
+            // The download is not tracked by documentOpeningDisposable, so a teardown while it
+            // is in flight cannot cancel it. Bail out if the view was torn down meanwhile,
+            // otherwise this would start a new open and re-attach a fragment after teardown.
+            if (!isActive) {
+                return Unit.INSTANCE;
+            }
+            documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.DOWNLOAD);
+            if (error != null) {
+                // Download failed: forward to delegate and JS, then reset fragment
+                PdfView.this.document = null;
+                setupFragment(true);
+                return Unit.INSTANCE;
+            }
+
+            if (fileLocation != null) {
+                openRemotePdfDocument(new DocumentSource(Uri.fromFile(fileLocation), documentPassword), reference);
+            }
+            return Unit.INSTANCE;
+        });
+    }
+
+    /**
+     * Opens a remote document through {@link RangeDataProvider}, which only fetches the parts of the
+     * document that are being read. Falls back to downloading the whole document if the server
+     * doesn't support range requests.
+     */
+    private void openRemoteDocumentProgressively(@NonNull String documentPath, @Nullable Integer reference) {
+        RangeDataProvider dataProvider = new RangeDataProvider(documentPath, new File(getContext().getCacheDir(), RANGE_CACHE_DIRECTORY));
+        // Kept until the document is replaced or the view is torn down, since the provider keeps
+        // fetching the document in the background once it is being read.
+        rangeDataProvider = dataProvider;
+        // Only the range request check is measured as the download, the rest is fetched while reading.
+        documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.DOWNLOAD);
+        documentOpeningDisposable = Single.fromCallable(dataProvider::supportsRangeRequests)
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(supportsRanges -> {
+                    if (!isActive) {
+                        releaseRangeDataProvider();
+                        return;
+                    }
+                    if (supportsRanges) {
+                        documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.DOWNLOAD);
+                        openRemotePdfDocument(new DocumentSource(dataProvider, documentPassword), reference);
+                    } else {
+                        releaseRangeDataProvider();
+                        downloadRemoteDocument(documentPath, null, reference);
+                    }
+                }, throwable -> {
+                    releaseRangeDataProvider();
+                    if (isActive) {
+                        downloadRemoteDocument(documentPath, null, reference);
+                    }
+                });
+    }
+
+    private void openRemotePdfDocument(@NonNull DocumentSource documentSource, @Nullable Integer reference) {
+        documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.OPEN);
+        documentOpeningDisposable = PdfDocumentLoader.openDocumentAsync(getContext(), documentSource)
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(pdfDocument -> {
+                    if (!isActive) {
+                        releaseRangeDataProvider();
+                        return;
+                    }
+                    documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.OPEN);
+                    documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.FRAGMENT_BUILD);
+                    PdfView.this.document = pdfDocument;
+                    reactApplicationContext.getNativeModule(PDFDocumentModule.class).setDocument(pdfDocument, null, reference != null ? reference : this.getId(), PdfView.this);
+                    reactApplicationContext.getNativeModule(PDFDocumentModule.class).updateDocumentConfiguration("imageSaveMode", imageSaveMode, reference != null ? reference : this.getId());
+                    setupFragment(false);
+                }, throwable -> {
+                    // The document failed to open and doesn't read from the provider anymore.
+                    releaseRangeDataProvider();
+                    if (!isActive) {
+                        return;
+                    }
+                    documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.OPEN);
+                    if (throwable instanceof  InvalidPasswordException) {
+                        if (delegate != null) {
+                            delegate.onDocumentLoadFailed(throwable);
+                        }
+                        if (!isFabricMode) {
+                            dispatchEvent(new PdfViewDocumentLoadFailedEvent(getId(), throwable.getMessage()));
+                        }
+                    } else {
+                        PdfView.this.document = null;
+                    }
+                    setupFragment(true);
+                });
+    }
+
     @SuppressLint("CheckResult")
     public void setPageIndex(int pageIndex) {
         this.pageIndex = pageIndex;
@@ -707,6 +805,23 @@ public class PdfView extends FrameLayout {
         pdfViewDocumentListener.setDisableAutomaticSaving(disableAutomaticSaving);
     }
 
+    /**
+     * Sets the maximum number of {@code documentScrolled} and {@code documentViewportChanged}
+     * notifications emitted per second. Values {@code <= 0} emit at most once per frame.
+     */
+    public void setScrollEventMaxRate(int maxEventsPerSecond) {
+        pdfViewDocumentListener.setScrollEventMaxRate(maxEventsPerSecond);
+    }
+
+    /**
+     * Sets how many milliseconds annotation changes are accumulated into a single
+     * {@code onAnnotationsChanged} callback and Notification Center event. Negative values disable
+     * batching, {@code 0} batches the changes of a frame.
+     */
+    public void setAnnotationEventBatchInterval(int flushIntervalMs) {
+        pdfViewDocumentListener.setAnnotationEventBatchInterval(flushIntervalMs);
+    }
+
     /**
      * Sets the menu item grouping rule that will be used for the annotation creation toolbar.
      */
@@ -834,7 +949,17 @@ public class PdfView extends FrameLayout {
     }
 
     private void setupFragment(boolean recreate) {
+        Trace.beginSection("Nutrient:setupFragment");
+        try {
+            setupFragmentInternal(recreate);
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    private void setupFragmentInternal(boolean recreate) {
         if (fragmentTag != null && configuration != null && (document != null || recreate == true)) {
+            documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.FRAGMENT_BUILD);
             PdfUiFragment pdfFragment = (PdfUiFragment) fragmentManager.findFragmentByTag(fragmentTag);
             if (pdfFragment != null &&
                 (pdfFragment.getArguments() == null ||
@@ -862,6 +987,8 @@ public class PdfView extends FrameLayout {
                 }
                 // We put our internal id so we can track if this fragment belongs to us, used to handle orphaned fragments after hot reloads.
                 pdfFragment.getArguments().putInt(ARG_ROOT_ID, internalId);
+                documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.FRAGMENT_BUILD);
+                documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.ATTACH);
                 prepareFragment(pdfFragment, true);
             } else {
                 if (pdfFragment.getDocument() != null && !pdfFragment.getDocument().getUid().equals(document.getUid())) {
@@ -885,6 +1012,8 @@ public class PdfView extends FrameLayout {
                                 .pdfFragmentTag(fragmentTag)
                                 .build();
                     }
+                    documentLoadTimeline.endStage(DocumentLoadTimeline.Stage.FRAGMENT_BUILD);
+                    documentLoadTimeline.beginStage(DocumentLoadTimeline.Stage.ATTACH);
                     prepareFragment(pdfFragment, true);
                 }
             }
@@ -932,15 +1061,19 @@ public class PdfView extends FrameLayout {
             fragmentTransactionRunnable = new Runnable() {
                 @Override
                 public void run() {
+                    Trace.beginSection("Nutrient:commitFragment");
                     try {
                         fragmentManager
                                 .beginTransaction()
                                 .add(getId(), pdfUiFragment, fragmentTag)
                                 .commitNowAllowingStateLoss();
+                        childLayoutScheduler.scheduleLayout();
                         postFragmentSetup(pdfUiFragment);
                     } catch (Exception e) {
                         // Could not add fragment
                         Log.e(TAG, "prepareFragment: failed to attach fragment", e);
+                    } finally {
+                        Trace.endSection();
                     }
                 }
             };
@@ -1016,7 +1149,7 @@ public class PdfView extends FrameLayout {
                 if (reactApplicationContext != null) {
                     reactApplicationContext.getNativeModule(PDFDocumentModule.class).setDocument(document, null, getId(), PdfView.this);
                 }
-                manuallyLayoutChildren();
+                childLayoutScheduler.layoutNow();
                 if (pageIndex <= document.getPageCount()-1) {
                     pdfFragment.setPageIndex(pageIndex, false);
                 }
@@ -1099,6 +1232,7 @@ public class PdfView extends FrameLayout {
         if (makeInactive) {
             // Clear everything.
             isActive = false;
+            childLayoutScheduler.setActive(false);
             // Cancel any in-flight document open so its callback cannot repopulate the document
             // or re-attach a fragment after teardown. isActive gates the callbacks that disposal
             // cannot reach (e.g. a remote download still in flight).
@@ -1106,8 +1240,13 @@ public class PdfView extends FrameLayout {
                 documentOpeningDisposable.dispose();
                 documentOpeningDisposable = null;
             }
+            if (pdfViewDocumentListener != null) {
+                pdfViewDocumentListener.cancelPendingEvents();
+            }
             document = null;
             releaseDocumentReferences();
+            releaseDocumentLease();
+            releaseRangeDataProvider();
             // The attach runnable captures the PdfUiFragment; clearing it releases the fragment's
             // view hierarchy once the fragment is removed.
             fragmentTransactionRunnable = null;
@@ -1177,6 +1316,49 @@ public class PdfView extends FrameLayout {
         documentModule.releaseDocument(getId());
     }
 
+    private void releaseRangeDataProvider() {
+        if (rangeDataProvider != null) {
+            rangeDataProvider.release();
+            rangeDataProvider = null;
+        }
+    }
+
+    private void releaseDocumentLease() {
+        if (documentLease != null) {
+            documentLease.release();
+            documentLease = null;
+        }
+    }
+
+    @Override
+    public void requestLayout() {
+        super.requestLayout();
+        // Called by the super constructor before the scheduler exists.
+        if (childLayoutScheduler != null) {
+            childLayoutScheduler.scheduleLayout();
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        attachedViews.addIfAbsent(this);
+        performanceMonitor.onAttachedToWindow();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        attachedViews.remove(this);
+        performanceMonitor.onDetachedFromWindow();
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        childLayoutScheduler.scheduleLayout();
+    }
+
     void manuallyLayoutChildren() {
         for (int i = 0; i < getChildCount(); i++) {
             View child = getChildAt(i);
@@ -1209,6 +1391,7 @@ public class PdfView extends FrameLayout {
         getCurrentPdfFragment()
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(pdfFragment -> {
+                    long startNanos = System.nanoTime();
                     if (pdfFragment != null) {
                         if (pdfFragment.getDocument() != null) {
                             if (isFabricMode && delegate != null) {
@@ -1236,6 +1419,7 @@ public class PdfView extends FrameLayout {
                             }
                         }
                     }
+                    performanceMonitor.recordUpdateState(System.nanoTime() - startNanos);
                 });
     }
 
@@ -1250,6 +1434,7 @@ public class PdfView extends FrameLayout {
         // Always route via EventDispatcher here; Fabric path handled in manager delegate
         if (eventDispatcher != null) {
             eventDispatcher.dispatchEvent(event);
+            performanceMonitor.recordBridgeEvent();
         }
     }
 
@@ -1656,30 +1841,61 @@ public class PdfView extends FrameLayout {
         return json;
     }
 
+    /** The ID under which the Notification Center sends this view's events to JS. */
+    public int getNotificationComponentId() {
+        return isFabricMode()
+            ? (getComponentReferenceId() != null ? getComponentReferenceId() : getId())
+            : getId();
+    }
+
+    /** Returns the attached view with the Notification Center component ID {@code reference}. */
+    @Nullable
+    public static PdfView findAttachedView(int reference) {
+        for (PdfView view : attachedViews) {
+            if (view.getNotificationComponentId() == reference) {
+                return view;
+            }
+        }
+        return null;
+    }
+
+    @NonNull
+    ViewPerformanceMonitor getPerformanceMonitor() {
+        return performanceMonitor;
+    }
+
+    @NonNull
+    public DocumentLoadTimeline getDocumentLoadTimeline() {
+        return documentLoadTimeline;
+    }
+
     /** Emits the {@code documentViewportChanged} notification. Must be called on the UI thread. */
     public void emitViewportChangedEvent() {
-        if (!NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
+        int componentId = getNotificationComponentId();
+        if (!NutrientNotificationCenter.INSTANCE.isSubscribed(NotificationEvent.DOCUMENT_VIEWPORT_CHANGED, componentId)) {
             return;
         }
-        PdfFragment pdfFragment = fragment != null ? fragment.getPdfFragment() : null;
-        if (pdfFragment == null) {
-            return;
-        }
-        ViewportData data;
+        long startNanos = System.nanoTime();
         try {
-            data = computeViewportData(pdfFragment);
-        } catch (Exception e) {
-            return;
-        }
-        if (data == null) {
-            return;
+            PdfFragment pdfFragment = fragment != null ? fragment.getPdfFragment() : null;
+            if (pdfFragment == null) {
+                return;
+            }
+            ViewportData data;
+            try {
+                data = computeViewportData(pdfFragment);
+            } catch (Exception e) {
+                return;
+            }
+            if (data == null) {
+                return;
+            }
+            NutrientNotificationCenter.INSTANCE.documentViewportChanged(
+                data.pageIndex, data.zoomScale, data.visiblePdfRect, data.contentOffset,
+                data.viewportWidth, data.viewportHeight, data.documentID, componentId);
+        } finally {
+            performanceMonitor.recordViewportChanged(System.nanoTime() - startNanos);
         }
-        int componentId = isFabricMode()
-            ? (getComponentReferenceId() != null ? getComponentReferenceId() : getId())
-            : getId();
-        NutrientNotificationCenter.INSTANCE.documentViewportChanged(
-            data.pageIndex, data.zoomScale, data.visiblePdfRect, data.contentOffset,
-            data.viewportWidth, data.viewportHeight, data.documentID, componentId);
     }
 
     /** Produces a viewport/coordinate JSONObject from an available PdfFragment. */
@@ -1892,6 +2108,12 @@ public class PdfView extends FrameLayout {
         }
     }
 
+    /** Returns the {@link PdfFragment} that is currently attached, or {@code null}. Must be called on the UI thread. */
+    @Nullable
+    public PdfFragment getAttachedPdfFragment() {
+        return fragment != null ? fragment.getPdfFragment() : null;
+    }
+
     /** Returns the {@link PdfFragment} hosted in the current {@link PdfUiFragment}. */
     private Observable<PdfFragment> getCurrentPdfFragment() {
         return getPdfFragment()
@@ -13,7 +13,6 @@
 
 package com.pspdfkit.views;
 
-import android.annotation.SuppressLint;
 import android.graphics.PointF;
 import android.view.MotionEvent;
 
@@ -36,6 +35,7 @@ import com.pspdfkit.forms.FormListeners;
 import com.pspdfkit.listeners.DocumentListener;
 import com.pspdfkit.listeners.scrolling.DocumentScrollListener;
 import com.pspdfkit.listeners.scrolling.ScrollState;
+import com.pspdfkit.react.NotificationEvent;
 import com.pspdfkit.react.NutrientNotificationCenter;
 import com.pspdfkit.react.events.OnReadyEvent;
 import com.pspdfkit.react.events.PdfViewAnnotationChangedEvent;
@@ -44,6 +44,8 @@ import com.pspdfkit.react.events.PdfViewDocumentLoadedEvent;
 import com.pspdfkit.react.events.PdfViewDocumentSaveFailedEvent;
 import com.pspdfkit.react.events.PdfViewDocumentSavedEvent;
 import com.pspdfkit.react.events.PdfViewShouldShowSignaturePadEvent;
+import com.pspdfkit.react.helper.AnnotationChangeSnapshot;
+import com.pspdfkit.ui.PdfFragment;
 import com.pspdfkit.ui.special_mode.controller.AnnotationSelectionController;
 import com.pspdfkit.ui.special_mode.manager.AnnotationManager;
 import com.pspdfkit.ui.special_mode.manager.FormManager;
@@ -52,6 +54,9 @@ import com.pspdfkit.utils.Size;
 import java.util.List;
 import java.util.Map;
 
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.disposables.CompositeDisposable;
+
 class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annotations.OnAnnotationSelectedListener, AnnotationProvider.OnAnnotationUpdatedListener, FormListeners.OnFormFieldUpdatedListener, FormManager.OnFormElementClickedListener, FormManager.OnFormElementSelectedListener, FormManager.OnFormElementDeselectedListener, DocumentScrollListener, BookmarkProvider.BookmarkListener {
 
     @NonNull
@@ -66,6 +71,18 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
     private boolean disableAutomaticSaving = false;
     private ReadableArray excludedAnnotations;
 
+    /** Bounds scroll and viewport notifications to at most one per frame. */
+    @NonNull
+    private final ScrollEventCoalescer scrollEventCoalescer;
+
+    /** Annotation changes that are being serialized in the background. */
+    @NonNull
+    private final CompositeDisposable pendingAnnotationChanges = new CompositeDisposable();
+
+    /** Merges serialized annotation changes into multi-annotation events when batching is enabled. */
+    @NonNull
+    private final AnnotationChangeBatcher annotationChangeBatcher = new AnnotationChangeBatcher(this::emitAnnotationChanges);
+
     PdfViewDocumentListener(@NonNull PdfView parent, @NonNull EventDispatcher eventDispatcher) {
         this(parent, eventDispatcher, false, null);
     }
@@ -75,6 +92,21 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
         this.eventDispatcher = eventDispatcher;
         this.isFabricMode = isFabricMode;
         this.fabricDelegate = fabricDelegate;
+        this.scrollEventCoalescer = new ScrollEventCoalescer(new ScrollEventCoalescer.Sink() {
+            @Override
+            public void emitDocumentScrolled(int currX, int currY, int maxX, int maxY, int extendX, int extendY) {
+                String documentID = getDocumentId();
+                if (documentID == null || !isSubscribed(NotificationEvent.DOCUMENT_SCROLLED)) {
+                    return;
+                }
+                NutrientNotificationCenter.INSTANCE.documentScrolled(Map.of("currX", currX, "currY", currY, "maxX", maxX, "maxY", maxY, "extendX", extendX, "extendY", extendY), documentID, getComponentId());
+            }
+
+            @Override
+            public void emitViewportChanged() {
+                parent.emitViewportChangedEvent();
+            }
+        });
     }
 
     public void setDisableDefaultActionForTappedAnnotations(boolean disableDefaultActionForTappedAnnotations) {
@@ -89,10 +121,54 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
         this.excludedAnnotations = annotations;
     }
 
+    /**
+     * Limits the number of {@code documentScrolled} and {@code documentViewportChanged} notifications
+     * emitted per second. Values {@code <= 0} emit at most once per frame.
+     */
+    public void setScrollEventMaxRate(int maxEventsPerSecond) {
+        scrollEventCoalescer.setMaxEventsPerSecond(maxEventsPerSecond);
+    }
+
+    /**
+     * Sets how long annotation changes are accumulated into a single {@code onAnnotationsChanged}
+     * event and Notification Center event. Negative values disable batching, {@code 0} batches
+     * the changes of a frame.
+     */
+    public void setAnnotationEventBatchInterval(int flushIntervalMs) {
+        annotationChangeBatcher.setFlushIntervalMs(flushIntervalMs);
+    }
+
+    /** Drops notifications that are still waiting for the next frame or for their serialization. */
+    void cancelPendingEvents() {
+        scrollEventCoalescer.cancel();
+        pendingAnnotationChanges.clear();
+        annotationChangeBatcher.cancel();
+    }
+
     void setEventDispatcher(@NonNull EventDispatcher eventDispatcher) {
         this.eventDispatcher = eventDispatcher;
     }
 
+    /** Returns the ID under which JS subscribes to Notification Center events for this view. */
+    private int getComponentId() {
+        return parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
+    }
+
+    /** Returns whether JS listens to the given Notification Center event on this view. */
+    private boolean isSubscribed(@NonNull NotificationEvent event) {
+        return NutrientNotificationCenter.INSTANCE.isSubscribed(event, getComponentId());
+    }
+
+    /** Returns the ID of the document shown in the attached fragment, or {@code null}. */
+    @Nullable
+    private String getDocumentId() {
+        PdfFragment pdfFragment = parent.getAttachedPdfFragment();
+        if (pdfFragment == null || pdfFragment.getDocument() == null) {
+            return null;
+        }
+        return pdfFragment.getDocument().getDocumentIdString();
+    }
+
     /**
      * Routes events to React via EventDispatcher.
      * Note: Fabric events are dispatched by the Fabric ViewManager; this listener always uses EventDispatcher.
@@ -103,8 +179,9 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
 
     @Override
     public void onDocumentLoaded(@NonNull PdfDocument pdfDocument) {
-        int componentId = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-        NutrientNotificationCenter.INSTANCE.documentLoaded(pdfDocument.getDocumentIdString(), componentId);
+        DocumentLoadTimeline timeline = parent.getDocumentLoadTimeline();
+        timeline.onDocumentLoaded(parent);
+        NutrientNotificationCenter.INSTANCE.documentLoaded(pdfDocument.getDocumentIdString(), timeline.getTimings(), getComponentId());
         if (isFabricMode && fabricDelegate != null) {
             fabricDelegate.onReady();
             fabricDelegate.onDocumentLoaded();
@@ -116,11 +193,11 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
 
     @Override
     public void onDocumentLoadFailed(@NonNull Throwable throwable) {
-        int componentIdOnFail = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
         // Determine error code based on exception type
         String code = (throwable instanceof com.pspdfkit.exceptions.InvalidPasswordException) ? "ENCRYPTED" : "CORRUPTED";
         String message = throwable.getMessage() != null ? throwable.getMessage() : "Document failed to load";
-        NutrientNotificationCenter.INSTANCE.documentLoadFailed(code, message, componentIdOnFail);
+        parent.getDocumentLoadTimeline().onDocumentLoadFailed();
+        NutrientNotificationCenter.INSTANCE.documentLoadFailed(code, message, getComponentId());
         if (isFabricMode && fabricDelegate != null) {
             fabricDelegate.onReady();
             fabricDelegate.onDocumentLoadFailed(throwable);
@@ -158,17 +235,15 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
 
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public boolean onPageClick(@NonNull PdfDocument pdfDocument, int pageIndex, @Nullable MotionEvent motionEvent, @Nullable PointF pointF, @Nullable Annotation annotation) {
         String documentID = pdfDocument.getDocumentIdString();
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
+        if (isSubscribed(NotificationEvent.DOCUMENT_TAPPED)) {
             if (pointF != null) {
                 // Calculate the inverted point on the y-axis using page size
                 Size size = pdfDocument.getPageSize(pageIndex);
                 PointF clickedPoint = new PointF(pointF.x, size.height - pointF.y);
-                int componentIdTap = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.didTapDocument(clickedPoint, pageIndex, documentID, componentIdTap);
+                NutrientNotificationCenter.INSTANCE.didTapDocument(clickedPoint, pageIndex, documentID, getComponentId());
             }
         }
         if (annotation != null) {
@@ -197,14 +272,11 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
                     }
 
                     // Always notify JS about the tap itself, even if the action is later blocked.
-                    if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
+                    if (isSubscribed(NotificationEvent.ANNOTATION_TAPPED)) {
                         if (pointF == null) {
                             pointF = new PointF(0, 0);
                         }
-                        int componentIdAnn = parent.isFabricMode()
-                                ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId())
-                                : parent.getId();
-                        NutrientNotificationCenter.INSTANCE.didTapAnnotation(annotation, pointF, documentID, componentIdAnn);
+                        NutrientNotificationCenter.INSTANCE.didTapAnnotation(annotation, pointF, documentID, getComponentId());
                     }
                     if (isFabricMode && fabricDelegate != null) {
                         fabricDelegate.onAnnotationTapped(annotation);
@@ -222,12 +294,11 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
             }
 
             // Non-intercepted annotations follow the original tap path.
-            if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
+            if (isSubscribed(NotificationEvent.ANNOTATION_TAPPED)) {
                 if (pointF == null) {
                     pointF = new PointF(0,0);
                 }
-                int componentIdAnn = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.didTapAnnotation(annotation, pointF, documentID, componentIdAnn);
+                NutrientNotificationCenter.INSTANCE.didTapAnnotation(annotation, pointF, documentID, getComponentId());
             }
             if (isFabricMode && fabricDelegate != null) {
                 fabricDelegate.onAnnotationTapped(annotation);
@@ -244,23 +315,18 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
         return false;
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onPageChanged(@NonNull PdfDocument pdfDocument, int pageIndex) {
         parent.updateState(pageIndex);
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdPg = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.documentPageChanged(pageIndex, documentID, componentIdPg);
-            });
+        if (isSubscribed(NotificationEvent.DOCUMENT_PAGE_CHANGED)) {
+            NutrientNotificationCenter.INSTANCE.documentPageChanged(pageIndex, pdfDocument.getDocumentIdString(), getComponentId());
         }
     }
 
     @Override
     public void onDocumentZoomed(@NonNull PdfDocument pdfDocument, int i, float v) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.emitViewportChangedEvent();
+        if (isSubscribed(NotificationEvent.DOCUMENT_VIEWPORT_CHANGED)) {
+            scrollEventCoalescer.onViewportChanged();
         }
     }
 
@@ -295,66 +361,56 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
         return true; // Allow selection
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onAnnotationSelected(@NonNull Annotation annotation, boolean annotationCreated) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdSel = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.didSelectAnnotations(annotation, documentID, componentIdSel);
-            });
+        if (isSubscribed(NotificationEvent.ANNOTATIONS_SELECTED)) {
+            String documentID = getDocumentId();
+            if (documentID != null) {
+                NutrientNotificationCenter.INSTANCE.didSelectAnnotations(annotation, documentID, getComponentId());
+            }
         }
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onAnnotationCreated(@NonNull Annotation annotation) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdAdd = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.annotationsChanged("added", annotation, documentID, componentIdAdd);
-            });
-        }
-        if (isFabricMode && fabricDelegate != null) {
-            fabricDelegate.onAnnotationsChanged("added", annotation);
-        } else {
-            dispatchEvent(new PdfViewAnnotationChangedEvent(parent.getId(), PdfViewAnnotationChangedEvent.EVENT_TYPE_ADDED, annotation));
-        }
+        dispatchAnnotationChange(PdfViewAnnotationChangedEvent.EVENT_TYPE_ADDED, annotation);
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onAnnotationUpdated(@NonNull Annotation annotation) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdChg = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.annotationsChanged("changed", annotation, documentID, componentIdChg);
-            });
-        }
-        if (isFabricMode && fabricDelegate != null) {
-            fabricDelegate.onAnnotationsChanged("changed", annotation);
-        } else {
-            dispatchEvent(new PdfViewAnnotationChangedEvent(parent.getId(), PdfViewAnnotationChangedEvent.EVENT_TYPE_CHANGED, annotation));
-        }
+        dispatchAnnotationChange(PdfViewAnnotationChangedEvent.EVENT_TYPE_CHANGED, annotation);
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onAnnotationRemoved(@NonNull Annotation annotation) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdRem = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.annotationsChanged("removed", annotation, documentID, componentIdRem);
-            });
+        dispatchAnnotationChange(PdfViewAnnotationChangedEvent.EVENT_TYPE_REMOVED, annotation);
+    }
+
+    /**
+     * Serializes the change once on a background thread, then hands the result to the batcher on
+     * the UI thread, which delivers it to the Notification Center and the {@code onAnnotationsChanged}
+     * event.
+     */
+    private void dispatchAnnotationChange(@NonNull String changeType, @NonNull Annotation annotation) {
+        // Resolve the document now, while it still describes the view the change happened in.
+        String documentID = getDocumentId();
+        // Passing the container makes the subscription remove itself from it once it completes.
+        AnnotationChangeSnapshot.create(changeType, annotation)
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(snapshot -> annotationChangeBatcher.onAnnotationChanged(snapshot, documentID),
+                Throwable::printStackTrace, pendingAnnotationChanges);
+    }
+
+    private void emitAnnotationChanges(@NonNull String changeType, @Nullable String documentID, boolean isViewOnly,
+                                       @NonNull List<AnnotationChangeSnapshot> snapshots) {
+        NotificationEvent event = isViewOnly ? null : NutrientNotificationCenter.INSTANCE.annotationsChangedEvent(changeType);
+        if (documentID != null && event != null && isSubscribed(event)) {
+            NutrientNotificationCenter.INSTANCE.annotationsChanged(changeType, snapshots, documentID, getComponentId());
         }
         if (isFabricMode && fabricDelegate != null) {
-            fabricDelegate.onAnnotationsChanged("removed", annotation);
+            fabricDelegate.onAnnotationsChanged(changeType, snapshots);
         } else {
-            dispatchEvent(new PdfViewAnnotationChangedEvent(parent.getId(), PdfViewAnnotationChangedEvent.EVENT_TYPE_REMOVED, annotation));
+            dispatchEvent(new PdfViewAnnotationChangedEvent(parent.getId(), changeType, snapshots));
         }
     }
 
@@ -363,23 +419,24 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
         // Not required.
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onFormFieldUpdated(@NonNull FormField formField) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdForm = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.formFieldValuesUpdated(formField, documentID, componentIdForm);
-            });
+        if (isSubscribed(NotificationEvent.FORM_FIELD_VALUES_UPDATED)) {
+            String documentID = getDocumentId();
+            if (documentID != null) {
+                NutrientNotificationCenter.INSTANCE.formFieldValuesUpdated(formField, documentID, getComponentId());
+            }
         }
         Annotation annotation = formField.getFormElement().getAnnotation();
         if (annotation != null) {
-            if (isFabricMode && fabricDelegate != null) {
-                fabricDelegate.onAnnotationsChanged("changed", annotation);
-            } else {
-                dispatchEvent(new PdfViewAnnotationChangedEvent(parent.getId(), PdfViewAnnotationChangedEvent.EVENT_TYPE_CHANGED, annotation));
-            }
+            // Form edits are reported to onAnnotationsChanged of the view, but not as
+            // annotationChanged Notification Center events. They still go through the batcher to
+            // stay in order with the other annotation changes.
+            String documentID = getDocumentId();
+            AnnotationChangeSnapshot.create(PdfViewAnnotationChangedEvent.EVENT_TYPE_CHANGED, annotation)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(snapshot -> annotationChangeBatcher.onAnnotationChanged(snapshot, documentID, true),
+                    Throwable::printStackTrace, pendingAnnotationChanges);
         }
     }
 
@@ -388,15 +445,13 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
         // Not used.
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onAnnotationDeselected(@NonNull Annotation annotation, boolean b) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdDesel = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.didDeselectAnnotations(annotation, documentID, componentIdDesel);
-            });
+        if (isSubscribed(NotificationEvent.ANNOTATIONS_DESELECTED)) {
+            String documentID = getDocumentId();
+            if (documentID != null) {
+                NutrientNotificationCenter.INSTANCE.didDeselectAnnotations(annotation, documentID, getComponentId());
+            }
         }
     }
 
@@ -431,57 +486,48 @@ class PdfViewDocumentListener implements DocumentListener, com.pspdfkit.ui.annot
         return true;
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onFormElementSelected(@NonNull FormElement formElement) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdFormSel = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.didSelectFormField(formElement, documentID, componentIdFormSel);
-            });
+        if (isSubscribed(NotificationEvent.FORM_FIELD_SELECTED)) {
+            String documentID = getDocumentId();
+            if (documentID != null) {
+                NutrientNotificationCenter.INSTANCE.didSelectFormField(formElement, documentID, getComponentId());
+            }
         }
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onFormElementDeselected(@NonNull FormElement formElement, boolean b) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdFormDesel = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.didDeSelectFormField(formElement, documentID, componentIdFormDesel);
-            });
+        if (isSubscribed(NotificationEvent.FORM_FIELD_DESELECTED)) {
+            String documentID = getDocumentId();
+            if (documentID != null) {
+                NutrientNotificationCenter.INSTANCE.didDeSelectFormField(formElement, documentID, getComponentId());
+            }
         }
     }
 
     @Override
     public void onScrollStateChanged(@NonNull ScrollState scrollState) {
-        // Nothing to do here
+        if (scrollState == ScrollState.IDLE) {
+            // Deliver the settled position right away instead of waiting for the rate limit.
+            scrollEventCoalescer.flush();
+        }
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onDocumentScrolled(int currX, int currY, int maxX, int maxY, int extendX, int extendY) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdScroll = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.documentScrolled(Map.of("currX", currX, "currY", currY, "maxX", maxX, "maxY", maxY, "extendX", extendX, "extendY", extendY), documentID, componentIdScroll);
-            });
-            parent.emitViewportChangedEvent();
+        if (isSubscribed(NotificationEvent.DOCUMENT_SCROLLED) || isSubscribed(NotificationEvent.DOCUMENT_VIEWPORT_CHANGED)) {
+            scrollEventCoalescer.onDocumentScrolled(currX, currY, maxX, maxY, extendX, extendY);
         }
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onBookmarksChanged(@NonNull List<Bookmark> list) {
-        if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-            parent.getPdfFragment().subscribe(pdfFragment -> {
-                String documentID = pdfFragment.getDocument().getDocumentIdString();
-                int componentIdBm = parent.isFabricMode() ? (parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId()) : parent.getId();
-                NutrientNotificationCenter.INSTANCE.bookmarksChanged(list, documentID, componentIdBm);
-            });
+        if (isSubscribed(NotificationEvent.BOOKMARKS_CHANGED)) {
+            String documentID = getDocumentId();
+            if (documentID != null) {
+                NutrientNotificationCenter.INSTANCE.bookmarksChanged(list, documentID, getComponentId());
+            }
         }
     }
 
@@ -13,13 +13,14 @@
 
 package com.pspdfkit.views;
 
-import android.annotation.SuppressLint;
 import android.content.Context;
 
 import androidx.annotation.NonNull;
 
 import com.pspdfkit.datastructures.TextSelection;
+import com.pspdfkit.react.NotificationEvent;
 import com.pspdfkit.react.NutrientNotificationCenter;
+import com.pspdfkit.ui.PdfFragment;
 import com.pspdfkit.ui.forms.FormEditingBar;
 import com.pspdfkit.ui.special_mode.controller.TextSelectionController;
 import com.pspdfkit.ui.special_mode.manager.TextSelectionManager;
@@ -248,16 +249,15 @@ class PdfViewModeController implements
         return true;
     }
 
-    @SuppressLint("CheckResult")
     @Override
     public void onAfterTextSelectionChange(@androidx.annotation.Nullable TextSelection textSelection, @androidx.annotation.Nullable TextSelection textSelection1) {
         if (textSelection != null && textSelection.text != null) {
-            if (NutrientNotificationCenter.INSTANCE.getIsNotificationCenterInUse()) {
-                parent.getPdfFragment().subscribe(pdfFragment -> {
-                    String documentID = pdfFragment.getDocument().getDocumentIdString();
-                    int componentId = parent.isFabricMode() && parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId();
-                    NutrientNotificationCenter.INSTANCE.didSelectText(textSelection.text, documentID, componentId);
-                });
+            int componentId = parent.isFabricMode() && parent.getComponentReferenceId() != null ? parent.getComponentReferenceId() : parent.getId();
+            if (NutrientNotificationCenter.INSTANCE.isSubscribed(NotificationEvent.TEXT_SELECTED, componentId)) {
+                PdfFragment pdfFragment = parent.getAttachedPdfFragment();
+                if (pdfFragment != null && pdfFragment.getDocument() != null) {
+                    NutrientNotificationCenter.INSTANCE.didSelectText(textSelection.text, pdfFragment.getDocument().getDocumentIdString(), componentId);
+                }
             }
         }
     }
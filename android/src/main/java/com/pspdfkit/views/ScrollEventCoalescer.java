@@ -0,0 +1,139 @@
+/*
+ * ScrollEventCoalescer.java
+ *
+ *   PSPDFKit
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.views;
+
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * Coalesces the {@code documentScrolled} and {@code documentViewportChanged} notifications of a
+ * single view so that a fling produces at most one of each per frame, instead of one per scroll
+ * delta. Only the latest scroll offsets are kept (latest wins); they are delivered on the next
+ * vsync, or later if a maximum event rate is configured. When scrolling settles the pending state
+ * is flushed immediately so JS always observes the final position.
+ *
+ * All methods must be called on the UI thread, which is where the scroll listeners are invoked.
+ */
+@UiThread
+final class ScrollEventCoalescer implements Choreographer.FrameCallback {
+
+    /** Receives the coalesced events. */
+    interface Sink {
+        void emitDocumentScrolled(int currX, int currY, int maxX, int maxY, int extendX, int extendY);
+
+        void emitViewportChanged();
+    }
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    @NonNull
+    private final Sink sink;
+
+    /** Minimum time between two emissions, {@code 0} means once per frame. */
+    private long minIntervalNanos = 0;
+    private long lastEmitFrameTimeNanos = 0;
+    private boolean isFrameCallbackPosted = false;
+
+    private boolean hasPendingScroll = false;
+    private boolean hasPendingViewport = false;
+    private int currX;
+    private int currY;
+    private int maxX;
+    private int maxY;
+    private int extendX;
+    private int extendY;
+
+    ScrollEventCoalescer(@NonNull Sink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Limits how many scroll and viewport events are emitted per second. Values {@code <= 0}
+     * remove the limit, in which case events are still bounded to one per frame.
+     */
+    void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        minIntervalNanos = maxEventsPerSecond > 0 ? NANOS_PER_SECOND / maxEventsPerSecond : 0;
+    }
+
+    void onDocumentScrolled(int currX, int currY, int maxX, int maxY, int extendX, int extendY) {
+        this.currX = currX;
+        this.currY = currY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.extendX = extendX;
+        this.extendY = extendY;
+        hasPendingScroll = true;
+        hasPendingViewport = true;
+        scheduleFrame();
+    }
+
+    void onViewportChanged() {
+        hasPendingViewport = true;
+        scheduleFrame();
+    }
+
+    /** Emits the pending state right away, ignoring the rate limit. Used once scrolling is idle. */
+    void flush() {
+        if (isFrameCallbackPosted) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            isFrameCallbackPosted = false;
+        }
+        emitPending(System.nanoTime());
+    }
+
+    /** Drops any pending state without emitting it, e.g. when the view is torn down. */
+    void cancel() {
+        if (isFrameCallbackPosted) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            isFrameCallbackPosted = false;
+        }
+        hasPendingScroll = false;
+        hasPendingViewport = false;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        isFrameCallbackPosted = false;
+        if (frameTimeNanos - lastEmitFrameTimeNanos < minIntervalNanos) {
+            // Too early for the configured rate, keep the latest state until a later frame.
+            scheduleFrame();
+            return;
+        }
+        emitPending(frameTimeNanos);
+    }
+
+    private void scheduleFrame() {
+        if (!isFrameCallbackPosted) {
+            isFrameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    private void emitPending(long frameTimeNanos) {
+        if (!hasPendingScroll && !hasPendingViewport) {
+            return;
+        }
+        lastEmitFrameTimeNanos = frameTimeNanos;
+        if (hasPendingScroll) {
+            hasPendingScroll = false;
+            sink.emitDocumentScrolled(currX, currY, maxX, maxY, extendX, extendY);
+        }
+        if (hasPendingViewport) {
+            hasPendingViewport = false;
+            sink.emitViewportChanged();
+        }
+    }
+}
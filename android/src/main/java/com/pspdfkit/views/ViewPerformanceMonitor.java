@@ -0,0 +1,284 @@
+/*
+ * ViewPerformanceMonitor.java
+ *
+ *   PSPDFKit
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.views;
+
+import android.view.Choreographer;
+import android.view.Display;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.pspdfkit.react.NotificationEvent;
+import com.pspdfkit.react.NutrientNotificationCenter;
+
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects frame timings of a {@link PdfView} together with the time spent in the wrapper code that
+ * runs during those frames, so that dropped frames can be attributed to it:
+ * <ul>
+ *     <li>the interval between frames, as reported by {@link Choreographer};</li>
+ *     <li>the number of events sent over the bridge per frame;</li>
+ *     <li>the time spent in {@code emitViewportChangedEvent}, {@code updateState} and in building
+ *     and sending Notification Center payloads.</li>
+ * </ul>
+ *
+ * Nothing is collected unless monitoring is enabled for all views with
+ * {@link #setEnabled(boolean, long)}, or JS listens to the {@code performanceReport} notification
+ * of the view, which is then emitted periodically with the metrics of the past interval. Samples
+ * are kept in {@link MetricRingBuffer}s, so recording them doesn't take locks on the hot paths.
+ */
+public final class ViewPerformanceMonitor implements Choreographer.FrameCallback {
+
+    private static final int CAPACITY = 600;
+    private static final long NANOS_PER_MILLISECOND = 1_000_000L;
+    private static final long DEFAULT_REPORT_INTERVAL_MS = 1000;
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    /** A frame is janky if it took longer than this many expected frame intervals. */
+    private static final double JANK_THRESHOLD = 1.5;
+
+    private static final CopyOnWriteArrayList<ViewPerformanceMonitor> monitors = new CopyOnWriteArrayList<>();
+    private static volatile boolean isEnabled = false;
+    private static volatile long reportIntervalMs = DEFAULT_REPORT_INTERVAL_MS;
+
+    @NonNull
+    private final PdfView view;
+
+    private final MetricRingBuffer frameIntervals = new MetricRingBuffer(CAPACITY);
+    private final MetricRingBuffer eventsPerFrame = new MetricRingBuffer(CAPACITY);
+    private final MetricRingBuffer viewportChangedDurations = new MetricRingBuffer(CAPACITY);
+    private final MetricRingBuffer updateStateDurations = new MetricRingBuffer(CAPACITY);
+    private final MetricRingBuffer serializationDurations = new MetricRingBuffer(CAPACITY);
+    private final MetricRingBuffer[] buffers = {
+        frameIntervals, eventsPerFrame, viewportChangedDurations, updateStateDurations, serializationDurations
+    };
+
+    private final AtomicInteger eventsThisFrame = new AtomicInteger();
+    private volatile boolean isCollecting = false;
+    private volatile long expectedFrameIntervalNanos = (long) (1_000_000_000L / DEFAULT_REFRESH_RATE);
+    private boolean isFrameCallbackPosted = false;
+    private long lastFrameTimeNanos = 0;
+    private long lastReportTimeNanos = 0;
+    private final long[] lastReportCounts = new long[buffers.length];
+
+    ViewPerformanceMonitor(@NonNull PdfView view) {
+        this.view = view;
+    }
+
+    /**
+     * Enables collecting metrics for all views, even if JS doesn't listen to their
+     * {@code performanceReport} notification, and sets how often that notification is emitted.
+     */
+    public static void setEnabled(boolean enabled, long reportIntervalMs) {
+        isEnabled = enabled;
+        ViewPerformanceMonitor.reportIntervalMs = reportIntervalMs > 0 ? reportIntervalMs : DEFAULT_REPORT_INTERVAL_MS;
+        onSubscriptionsChanged();
+    }
+
+    /** Starts or stops collecting for every view after a Notification Center listener changed. */
+    public static void onSubscriptionsChanged() {
+        for (ViewPerformanceMonitor monitor : monitors) {
+            monitor.view.post(monitor::update);
+        }
+    }
+
+    /** Returns the monitor of the view with the Notification Center component ID {@code reference}. */
+    @Nullable
+    public static ViewPerformanceMonitor forComponent(int reference) {
+        PdfView view = PdfView.findAttachedView(reference);
+        return view != null ? view.getPerformanceMonitor() : null;
+    }
+
+    /**
+     * Records a Notification Center event sent for the view with {@code componentId}, which took
+     * {@code durationNanos} to build and send. Can be called from any thread.
+     */
+    public static void recordEvent(int componentId, long durationNanos) {
+        ViewPerformanceMonitor monitor = forComponent(componentId);
+        if (monitor != null && monitor.isCollecting) {
+            monitor.eventsThisFrame.incrementAndGet();
+            monitor.serializationDurations.record(durationNanos);
+        }
+    }
+
+    /** Counts an event sent through the view's event dispatcher. */
+    void recordBridgeEvent() {
+        if (isCollecting) {
+            eventsThisFrame.incrementAndGet();
+        }
+    }
+
+    void recordViewportChanged(long durationNanos) {
+        if (isCollecting) {
+            viewportChangedDurations.record(durationNanos);
+        }
+    }
+
+    void recordUpdateState(long durationNanos) {
+        if (isCollecting) {
+            updateStateDurations.record(durationNanos);
+        }
+    }
+
+    @UiThread
+    void onAttachedToWindow() {
+        monitors.addIfAbsent(this);
+        update();
+    }
+
+    @UiThread
+    void onDetachedFromWindow() {
+        monitors.remove(this);
+        update();
+    }
+
+    /** Returns the metrics of the most recent frames, at most {@value #CAPACITY} of them. */
+    @NonNull
+    public WritableMap getSnapshot() {
+        long[] sinceStart = new long[buffers.length];
+        return createReport(sinceStart);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        isFrameCallbackPosted = false;
+        if (!isCollecting) {
+            return;
+        }
+        if (lastFrameTimeNanos > 0) {
+            frameIntervals.record(frameTimeNanos - lastFrameTimeNanos);
+            eventsPerFrame.record(eventsThisFrame.getAndSet(0));
+        }
+        lastFrameTimeNanos = frameTimeNanos;
+
+        if (frameTimeNanos - lastReportTimeNanos >= reportIntervalMs * NANOS_PER_MILLISECOND) {
+            lastReportTimeNanos = frameTimeNanos;
+            emitReport();
+        }
+        postFrameCallback();
+    }
+
+    @UiThread
+    private void update() {
+        int componentId = view.getNotificationComponentId();
+        boolean shouldCollect = monitors.contains(this) &&
+            (isEnabled || NutrientNotificationCenter.INSTANCE.isSubscribed(NotificationEvent.PERFORMANCE_REPORT, componentId));
+        if (shouldCollect == isCollecting) {
+            return;
+        }
+        isCollecting = shouldCollect;
+        if (shouldCollect) {
+            Display display = view.getDisplay();
+            float refreshRate = display != null && display.getRefreshRate() > 0 ? display.getRefreshRate() : DEFAULT_REFRESH_RATE;
+            expectedFrameIntervalNanos = (long) (1_000_000_000L / refreshRate);
+            lastFrameTimeNanos = 0;
+            lastReportTimeNanos = System.nanoTime();
+            markReported();
+            postFrameCallback();
+        } else if (isFrameCallbackPosted) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            isFrameCallbackPosted = false;
+        }
+    }
+
+    private void postFrameCallback() {
+        if (!isFrameCallbackPosted) {
+            isFrameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    private void emitReport() {
+        int componentId = view.getNotificationComponentId();
+        if (!NutrientNotificationCenter.INSTANCE.isSubscribed(NotificationEvent.PERFORMANCE_REPORT, componentId)) {
+            markReported();
+            return;
+        }
+        long[] sinceLastReport = lastReportCounts.clone();
+        markReported();
+        NutrientNotificationCenter.INSTANCE.performanceReport(createReport(sinceLastReport), componentId);
+    }
+
+    private void markReported() {
+        for (int i = 0; i < buffers.length; i++) {
+            lastReportCounts[i] = buffers[i].getRecordedCount();
+        }
+    }
+
+    /** Summarizes the samples recorded after the given per-buffer counts. */
+    @NonNull
+    private WritableMap createReport(@NonNull long[] sinceCounts) {
+        long[] frames = frameIntervals.copySince(sinceCounts[0]);
+        long expectedInterval = expectedFrameIntervalNanos;
+        int jankyFrames = 0;
+        long droppedFrames = 0;
+        for (long interval : frames) {
+            if (interval > expectedInterval * JANK_THRESHOLD) {
+                jankyFrames++;
+                droppedFrames += Math.round((double) interval / expectedInterval) - 1;
+            }
+        }
+        WritableMap frameMetrics = summarize(frames, NANOS_PER_MILLISECOND);
+        frameMetrics.putInt("jankyFrames", jankyFrames);
+        frameMetrics.putDouble("droppedFrames", droppedFrames);
+        frameMetrics.putDouble("expectedFrameTime", (double) expectedInterval / NANOS_PER_MILLISECOND);
+
+        WritableMap report = Arguments.createMap();
+        report.putMap("frames", frameMetrics);
+        report.putMap("bridgeEventsPerFrame", summarize(eventsPerFrame.copySince(sinceCounts[1]), 1));
+        report.putMap("viewportChanged", summarize(viewportChangedDurations.copySince(sinceCounts[2]), NANOS_PER_MILLISECOND));
+        report.putMap("updateState", summarize(updateStateDurations.copySince(sinceCounts[3]), NANOS_PER_MILLISECOND));
+        report.putMap("eventSerialization", summarize(serializationDurations.copySince(sinceCounts[4]), NANOS_PER_MILLISECOND));
+        report.putBoolean("isCollecting", isCollecting);
+        return report;
+    }
+
+    /** Returns the count, mean, percentiles and maximum of {@code samples} divided by {@code unit}. */
+    @NonNull
+    private static WritableMap summarize(@NonNull long[] samples, long unit) {
+        WritableMap summary = Arguments.createMap();
+        summary.putInt("count", samples.length);
+        if (samples.length == 0) {
+            summary.putDouble("mean", 0);
+            summary.putDouble("p50", 0);
+            summary.putDouble("p95", 0);
+            summary.putDouble("p99", 0);
+            summary.putDouble("max", 0);
+            return summary;
+        }
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (long sample : sorted) {
+            sum += sample;
+        }
+        summary.putDouble("mean", sum / sorted.length / unit);
+        summary.putDouble("p50", (double) percentile(sorted, 0.50) / unit);
+        summary.putDouble("p95", (double) percentile(sorted, 0.95) / unit);
+        summary.putDouble("p99", (double) percentile(sorted, 0.99) / unit);
+        summary.putDouble("max", (double) sorted[sorted.length - 1] / unit);
+        return summary;
+    }
+
+    private static long percentile(@NonNull long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -15,15 +15,11 @@ package io.nutrient.react.events
 
 import androidx.annotation.NonNull
 import com.facebook.react.bridge.Arguments
-import com.facebook.react.bridge.WritableArray
 import com.facebook.react.bridge.WritableMap
 import com.facebook.react.uimanager.events.Event
-import com.pspdfkit.annotations.Annotation
-import com.pspdfkit.react.helper.AnnotationUtils
-import org.json.JSONArray
-import org.json.JSONObject
+import com.pspdfkit.react.helper.AnnotationChangeSnapshot
 
-class FabricOnAnnotationsChangedEvent(surfaceId: Int, viewId: Int, @NonNull private val eventType: String, @NonNull private val annotation: Annotation) : Event<FabricOnAnnotationsChangedEvent>(surfaceId, viewId) {
+class FabricOnAnnotationsChangedEvent(surfaceId: Int, viewId: Int, @NonNull private val eventType: String, @NonNull private val snapshots: List<AnnotationChangeSnapshot>) : Event<FabricOnAnnotationsChangedEvent>(surfaceId, viewId) {
 
     companion object {
         const val EVENT_NAME = "onAnnotationsChanged"
@@ -37,34 +33,8 @@ class FabricOnAnnotationsChangedEvent(surfaceId: Int, viewId: Int, @NonNull priv
     override fun getEventData(): WritableMap {
         val payload = Arguments.createMap()
         payload.putString("change", eventType)
-
-        // Build JSON array of annotations for codegen compatibility
-        val annotationsJson = JSONArray()
-        try {
-            val item = JSONObject()
-            if ("removed" == eventType) {
-                item.put("name", annotation.name)
-                item.put("creatorName", annotation.creator)
-                item.put("uuid", annotation.uuid)
-                item.put("type", annotation.type.toString())
-                item.put("pageIndex", annotation.pageIndex)
-            } else {
-                val processed = AnnotationUtils.processAnnotation(annotation)
-                for ((key, value) in processed) {
-                    item.put(key, value)
-                }
-            }
-            annotationsJson.put(item)
-        } catch (_: Exception) {
-            val fallback = JSONObject()
-            fallback.put("uuid", annotation.uuid)
-            fallback.put("name", annotation.name)
-            fallback.put("type", annotation.type.toString())
-            fallback.put("pageIndex", annotation.pageIndex)
-            annotationsJson.put(fallback)
-        }
-
-        payload.putString("annotationsJSONString", annotationsJson.toString())
+        // JSON array of annotations for codegen compatibility, built from the shared serialization
+        payload.putString("annotationsJSONString", AnnotationChangeSnapshot.toJsonArrayString(snapshots))
         return payload
     }
 }
@@ -18,6 +18,7 @@ import com.facebook.react.viewmanagers.NutrientInstantViewManagerDelegate
 import com.facebook.react.viewmanagers.NutrientInstantViewManagerInterface
 import com.pspdfkit.annotations.Annotation
 import com.pspdfkit.react.NutrientInstantViewRegistry
+import com.pspdfkit.react.helper.AnnotationChangeSnapshot
 import com.pspdfkit.views.InstantPdfView
 import com.pspdfkit.views.PdfView
 import io.nutrient.react.events.FabricOnCloseButtonPressedEvent
@@ -113,7 +114,7 @@ class ReactInstantPdfViewManagerFabric : ViewGroupManager<InstantPdfView>(), Nut
                 }
                 override fun onAnnotationTapped(annotation: Annotation) {
                 }
-                override fun onAnnotationsChanged(eventType: String, annotation: Annotation) {
+                override fun onAnnotationsChanged(eventType: String, snapshots: List<AnnotationChangeSnapshot>) {
                 }
                 override fun onCloseButtonPressed() {
                     eventDispatcher?.dispatchEvent(FabricOnCloseButtonPressedEvent(com.facebook.react.uimanager.UIManagerHelper.getSurfaceId(reactContext), pdfView.id))
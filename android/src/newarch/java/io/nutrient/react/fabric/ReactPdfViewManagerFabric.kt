@@ -50,6 +50,7 @@ import io.nutrient.react.events.FabricOnAnnotationsChangedEvent
 import io.nutrient.react.events.FabricOnShouldExecuteActionEvent
 import io.nutrient.react.events.FabricOnShouldShowSignaturePadEvent
 import com.pspdfkit.react.NutrientViewRegistry
+import com.pspdfkit.react.helper.AnnotationChangeSnapshot
 
 class ReactPdfViewManagerFabric : ViewGroupManager<PdfView>(), NutrientViewManagerInterface<PdfView> {
 
@@ -142,9 +143,9 @@ class ReactPdfViewManagerFabric : ViewGroupManager<PdfView>(), NutrientViewManag
                     eventDispatcher?.dispatchEvent(FabricOnAnnotationTappedEvent(surfaceId, pdfView.id, annotation))
                 }
 
-                override fun onAnnotationsChanged(eventType: String, annotation: com.pspdfkit.annotations.Annotation) {
+                override fun onAnnotationsChanged(eventType: String, snapshots: List<AnnotationChangeSnapshot>) {
                     val surfaceId = UIManagerHelper.getSurfaceId(reactContext)
-                    eventDispatcher?.dispatchEvent(FabricOnAnnotationsChangedEvent(surfaceId, pdfView.id, eventType, annotation))
+                    eventDispatcher?.dispatchEvent(FabricOnAnnotationsChangedEvent(surfaceId, pdfView.id, eventType, snapshots))
                 }
 
                 override fun onShouldExecuteAction(
@@ -20,8 +20,6 @@ import com.facebook.react.bridge.Arguments;
 import com.facebook.react.module.annotations.ReactModule;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Set;
 import static java.util.Collections.emptyList;
 
 import androidx.annotation.Nullable;
@@ -39,8 +37,6 @@ public class NutrientTurboModule extends NativeNutrientModuleSpec {
     private static final String TAG = "NutrientTurboModule";
 
     private final NutrientModuleController controller;
-    private static final Set<String> activeListeners = new HashSet<>();
-    private static final Object lock = new Object();
 
     public NutrientTurboModule(ReactApplicationContext reactContext) {
         super(reactContext);
@@ -71,10 +67,17 @@ public class NutrientTurboModule extends NativeNutrientModuleSpec {
                 else if ("formFieldDeselected".equals(eventName)) emitFormFieldDeselected(payload);
                 else if ("analytics".equals(eventName)) emitAnalytics(payload);
                 else if ("bookmarksChanged".equals(eventName)) emitBookmarksChanged(payload);
+                else if ("performanceReport".equals(eventName)) emitPerformanceReport(payload);
             }
         });
     }
 
+    @Override
+    public void invalidate() {
+        NutrientNotificationCenter.INSTANCE.clearSubscriptions();
+        super.invalidate();
+    }
+
     @Override
     public String getName() {
         return NAME;
@@ -110,6 +113,71 @@ public class NutrientTurboModule extends NativeNutrientModuleSpec {
         return controller.getDocumentProperties(documentPath);
     }
 
+    @Override
+    public void getDocumentPropertiesBatch(ReadableArray documentPaths, Promise promise) {
+        controller.getDocumentPropertiesBatch(documentPaths, promise);
+    }
+
+    @Override
+    public void invalidateDocumentProperties(@Nullable String documentPath, Promise promise) {
+        controller.invalidateDocumentProperties(documentPath, promise);
+    }
+
+    @Override
+    public void revalidateDocumentProperties(Promise promise) {
+        controller.revalidateDocumentProperties(promise);
+    }
+
+    @Override
+    public void prefetchDocument(String documentPath, @Nullable ReadableMap options, Promise promise) {
+        controller.prefetchDocument(documentPath, options, promise);
+    }
+
+    @Override
+    public void getPrefetchStatistics(Promise promise) {
+        controller.getPrefetchStatistics(promise);
+    }
+
+    @Override
+    public void setContinuousLayoutEnabled(boolean enabled, Promise promise) {
+        controller.setContinuousLayoutEnabled(enabled, promise);
+    }
+
+    @Override
+    public void getLayoutStatistics(Promise promise) {
+        controller.getLayoutStatistics(promise);
+    }
+
+    @Override
+    public void setPerformanceMonitoringEnabled(boolean enabled, @Nullable ReadableMap options, Promise promise) {
+        controller.setPerformanceMonitoringEnabled(enabled, options, promise);
+    }
+
+    @Override
+    public void getPerformanceSnapshot(double reference, Promise promise) {
+        controller.getPerformanceSnapshot((int) reference, promise);
+    }
+
+    @Override
+    public void getDocumentLoadHistory(double reference, Promise promise) {
+        controller.getDocumentLoadHistory((int) reference, promise);
+    }
+
+    @Override
+    public void setBridgeMetricsEnabled(boolean enabled, Promise promise) {
+        controller.setBridgeMetricsEnabled(enabled, promise);
+    }
+
+    @Override
+    public void getBridgeMetrics(Promise promise) {
+        controller.getBridgeMetrics(promise);
+    }
+
+    @Override
+    public void dumpBridgeMetrics(@Nullable String filePath, Promise promise) {
+        controller.dumpBridgeMetrics(filePath, promise);
+    }
+
     @Override
     public boolean setLicenseKeys(String androidLicenseKey, String iOSLicenseKey) {
         // iOS key ignored on Android; keep signature parity
@@ -129,35 +197,12 @@ public class NutrientTurboModule extends NativeNutrientModuleSpec {
 
     @Override
     public void handleListenerAdded(String event, double componentId, Promise promise) {
-        boolean becameFirst = false;
-        synchronized (lock) {
-            if (event != null) {
-                String listenerKey = event + "_" + ((int) componentId);
-                int before = activeListeners.size();
-                activeListeners.add(listenerKey);
-                becameFirst = (before == 0 && !activeListeners.isEmpty());
-            }
-        }
-        if (becameFirst) {
-            NutrientNotificationCenter.INSTANCE.setIsNotificationCenterInUse(true);
-        }
-        controller.handleListenerAdded(event, promise);
+        controller.handleListenerAdded(event, (int) componentId, promise);
     }
 
     @Override
     public void handleListenerRemoved(String event, double componentId, Promise promise) {
-        boolean noneLeft;
-        synchronized (lock) {
-            if (event != null) {
-                String listenerKey = event + "_" + ((int) componentId);
-                activeListeners.remove(listenerKey);
-            }
-            noneLeft = activeListeners.isEmpty();
-        }
-        if (noneLeft) {
-            NutrientNotificationCenter.INSTANCE.setIsNotificationCenterInUse(false);
-        }
-        controller.handleListenerRemoved(event, noneLeft, promise);
+        controller.handleListenerRemoved(event, (int) componentId, promise);
     }
 
     // Required for NativeEventEmitter compatibility (no-op in TurboModule)
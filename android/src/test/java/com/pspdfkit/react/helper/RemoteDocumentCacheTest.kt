@@ -0,0 +1,242 @@
+/*
+ * RemoteDocumentCacheTest.kt
+ *
+ *   Nutrient
+ *
+ *   Copyright © 2026 PSPDFKit GmbH. All rights reserved.
+ *
+ *   THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ *   AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ *   UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ *   This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.react.helper
+
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okio.Buffer
+import org.junit.After
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/** Runs [RemoteDocumentCache] against a local HTTP server, the way `RemoteDocumentDownloader` uses it. */
+class RemoteDocumentCacheTest {
+
+    @get:Rule
+    val folder = TemporaryFolder()
+
+    private lateinit var server: MockWebServer
+    private lateinit var cache: RemoteDocumentCache
+    private lateinit var url: String
+
+    private val document = ByteArray(64 * 1024) { it.toByte() }
+
+    @Before
+    fun setUp() {
+        server = MockWebServer()
+        server.start()
+        cache = RemoteDocumentCache(folder.newFolder("cache"))
+        url = server.url("/document.pdf").toString()
+    }
+
+    @After
+    fun tearDown() {
+        cache.release(url)
+        server.shutdown()
+    }
+
+    @Test
+    fun cacheMissDownloadsAndCommits() {
+        server.enqueue(documentResponse())
+
+        val prepared = cache.prepare(url)
+
+        assertTrue(prepared is RemoteDocumentCache.Prepared.Download)
+        download(prepared as RemoteDocumentCache.Prepared.Download)
+        assertArrayEquals(document, cache.fileFor(url).readBytes())
+        assertNull(server.takeRequest().getHeader("If-None-Match"))
+    }
+
+    @Test
+    fun cacheHitRevalidatesWithoutDownloading() {
+        server.enqueue(documentResponse())
+        download(cache.prepare(url) as RemoteDocumentCache.Prepared.Download)
+        server.enqueue(MockResponse().setResponseCode(304))
+
+        val prepared = cache.prepare(url)
+
+        assertTrue(prepared is RemoteDocumentCache.Prepared.Cached)
+        assertEquals(cache.fileFor(url), (prepared as RemoteDocumentCache.Prepared.Cached).file)
+        server.takeRequest()
+        assertEquals(ETAG, server.takeRequest().getHeader("If-None-Match"))
+    }
+
+    @Test
+    fun changedDocumentReplacesStaleDestination() {
+        val destination = File(folder.root, "destination.pdf")
+        destination.writeBytes(byteArrayOf(1, 2, 3))
+        destination.setLastModified(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1))
+        server.enqueue(documentResponse())
+        download(cache.prepare(url) as RemoteDocumentCache.Prepared.Download)
+
+        assertEquals(destination, cache.copyToDestination(url, destination))
+
+        assertArrayEquals(document, destination.readBytes())
+    }
+
+    @Test
+    fun currentDestinationIsKept() {
+        server.enqueue(documentResponse())
+        download(cache.prepare(url) as RemoteDocumentCache.Prepared.Download)
+        val destination = File(folder.root, "destination.pdf")
+        destination.writeBytes(byteArrayOf(1, 2, 3))
+        destination.setLastModified(cache.fileFor(url).lastModified() + 1000)
+
+        cache.copyToDestination(url, destination)
+
+        assertArrayEquals(byteArrayOf(1, 2, 3), destination.readBytes())
+    }
+
+    @Test
+    fun concurrentDownloadWaitsForTheRunningOne() {
+        server.enqueue(documentResponse())
+        server.enqueue(MockResponse().setResponseCode(304))
+        assertTrue(cache.tryAcquire(url))
+        assertFalse(cache.tryAcquire(url))
+
+        val executor = Executors.newSingleThreadExecutor()
+        val waiting = CountDownLatch(1)
+        val second = executor.submit<RemoteDocumentCache.Prepared> {
+            waiting.countDown()
+            check(cache.acquire(url, TimeUnit.SECONDS.toMillis(10)))
+            try {
+                cache.prepare(url)
+            } finally {
+                cache.release(url)
+            }
+        }
+        assertTrue(waiting.await(10, TimeUnit.SECONDS))
+        download(cache.prepare(url) as RemoteDocumentCache.Prepared.Download)
+        cache.release(url)
+
+        val prepared = second.get(10, TimeUnit.SECONDS)
+        executor.shutdown()
+
+        // The second download is served from the first one's cached copy, no temporary file is left.
+        assertTrue(prepared is RemoteDocumentCache.Prepared.Cached)
+        assertEquals(2, server.requestCount)
+        assertEquals(
+            listOf(cache.fileFor(url).name),
+            cache.fileFor(url).parentFile!!.list()!!.filter { it.endsWith(".pdf") }
+        )
+    }
+
+    @Test
+    fun acquireTimesOutWhileDownloadIsRunning() {
+        assertTrue(cache.tryAcquire(url))
+
+        assertFalse(cache.acquire(url, 50))
+    }
+
+    @Test
+    fun interruptedDownloadResumesWithRange() {
+        server.enqueue(documentResponse())
+        val half = document.size / 2
+        downloadPartially(cache.prepare(url) as RemoteDocumentCache.Prepared.Download, half)
+        server.enqueue(
+            MockResponse()
+                .setResponseCode(206)
+                .setHeader("ETag", ETAG)
+                .setHeader("Content-Range", "bytes $half-${document.size - 1}/${document.size}")
+                .setBody(Buffer().write(document, half, document.size - half))
+        )
+
+        val prepared = cache.prepare(url)
+
+        assertTrue(prepared is RemoteDocumentCache.Prepared.Download)
+        assertEquals(half.toLong(), (prepared as RemoteDocumentCache.Prepared.Download).offset)
+        download(prepared)
+        assertArrayEquals(document, cache.fileFor(url).readBytes())
+        server.takeRequest()
+        val resume = server.takeRequest()
+        assertEquals("bytes=$half-", resume.getHeader("Range"))
+        assertEquals(ETAG, resume.getHeader("If-Range"))
+    }
+
+    @Test
+    fun resumeAnsweredWithFullBodyStartsOver() {
+        server.enqueue(documentResponse())
+        downloadPartially(cache.prepare(url) as RemoteDocumentCache.Prepared.Download, document.size / 2)
+        // The document changed on the server, which therefore ignores the range.
+        val changed = document.reversedArray()
+        server.enqueue(MockResponse().setHeader("ETag", "\"v2\"").setBody(Buffer().write(changed)))
+
+        val prepared = cache.prepare(url)
+
+        assertTrue(prepared is RemoteDocumentCache.Prepared.Download)
+        assertEquals(0L, (prepared as RemoteDocumentCache.Prepared.Download).offset)
+        download(prepared)
+        assertArrayEquals(changed, cache.fileFor(url).readBytes())
+    }
+
+    @Test
+    fun cacheIsTrimmedToMaxBytes() {
+        val directory = folder.newFolder("small")
+        val smallCache = RemoteDocumentCache(directory, document.size * 3L / 2)
+        val otherUrl = server.url("/other.pdf").toString()
+        server.enqueue(documentResponse())
+        download(smallCache.prepare(url) as RemoteDocumentCache.Prepared.Download, smallCache)
+        // Make the first document clearly the least recently used one.
+        directory.listFiles { file -> file.name.endsWith(".properties") }!!.forEach {
+            it.setLastModified(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1))
+        }
+        server.enqueue(documentResponse())
+
+        download(smallCache.prepare(otherUrl) as RemoteDocumentCache.Prepared.Download, smallCache)
+
+        assertFalse(smallCache.fileFor(url).exists())
+        assertArrayEquals(document, smallCache.fileFor(otherUrl).readBytes())
+    }
+
+    private fun documentResponse() = MockResponse()
+        .setHeader("ETag", ETAG)
+        .setBody(Buffer().write(document))
+
+    /** Reads the download to its end, like the download job, and commits it. */
+    private fun download(download: RemoteDocumentCache.Prepared.Download, cache: RemoteDocumentCache = this.cache) {
+        val output = cache.fileFor(download.url)
+        cache.openDownloadStream(download).use { input ->
+            output.outputStream().use { input.copyTo(it) }
+        }
+        cache.commit(download.url, output)
+    }
+
+    /** Reads the first [count] bytes of the download and stops, like an interrupted download job. */
+    private fun downloadPartially(download: RemoteDocumentCache.Prepared.Download, count: Int) {
+        cache.openDownloadStream(download).use { input ->
+            val buffer = ByteArray(count)
+            var read = 0
+            while (read < count) {
+                val result = input.read(buffer, read, count - read)
+                if (result < 0) break
+                read += result
+            }
+        }
+    }
+
+    private companion object {
+        const val ETAG = "\"v1\""
+    }
+}
@@ -13,6 +13,7 @@ NS_ASSUME_NONNULL_BEGIN
 
 + (NSNumber *)setLicenseKey:(NSString * _Nullable)licenseKey;
 + (NSDictionary *)documentPropertiesForPath:(NSString * _Nullable)documentPath;
++ (void)documentPropertiesForPaths:(NSArray<NSString *> *)documentPaths resolve:(RCTPromiseResolveBlock)resolve;
 
 // Present/dismiss
 + (void)presentDocument:(PSPDFDocument *)document
@@ -43,6 +43,23 @@
             @"isEncrypted": @(document.isEncrypted) };
 }
 
++ (void)documentPropertiesForPaths:(NSArray<NSString *> *)documentPaths resolve:(RCTPromiseResolveBlock)resolve {
+  dispatch_async(dispatch_get_global_queue(QOS_CLASS_USER_INITIATED, 0), ^{
+    NSMutableArray *results = [NSMutableArray arrayWithCapacity:documentPaths.count];
+    for (NSUInteger i = 0; i < documentPaths.count; i++) {
+      [results addObject:[NSNull null]];
+    }
+    // Open the documents concurrently, each iteration writes to its own slot.
+    dispatch_apply(documentPaths.count, dispatch_get_global_queue(QOS_CLASS_USER_INITIATED, 0), ^(size_t index) {
+      NSDictionary *properties = [self documentPropertiesForPath:documentPaths[index]];
+      @synchronized (results) {
+        results[index] = properties;
+      }
+    });
+    resolve(results);
+  });
+}
+
 #pragma mark - Present/dismiss
 
 + (void)presentDocument:(PSPDFDocument *)document
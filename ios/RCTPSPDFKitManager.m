@@ -66,6 +66,64 @@ RCT_EXPORT_BLOCKING_SYNCHRONOUS_METHOD(getDocumentProperties:(NSString *)documen
   return [NutrientModuleCommon documentPropertiesForPath:documentPath];
 }
 
+RCT_EXPORT_METHOD(getDocumentPropertiesBatch:(NSArray<NSString *> *)documentPaths resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  [NutrientModuleCommon documentPropertiesForPaths:documentPaths resolve:resolve];
+}
+
+// The persistent document properties index is Android only, document properties aren't cached on iOS.
+RCT_EXPORT_METHOD(invalidateDocumentProperties:(NSString *)documentPath resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@YES);
+}
+
+RCT_REMAP_METHOD(revalidateDocumentProperties, revalidateDocumentPropertiesWithResolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@{ @"checked": @0, @"removed": @0, @"refreshed": @0 });
+}
+
+// Document prefetching is Android only.
+RCT_EXPORT_METHOD(prefetchDocument:(NSString *)documentPath options:(NSDictionary *)options resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@NO);
+}
+
+RCT_REMAP_METHOD(getPrefetchStatistics, getPrefetchStatisticsWithResolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@{ @"hits": @0, @"misses": @0, @"hitRate": @0, @"prefetched": @0, @"evicted": @0, @"size": @0 });
+}
+
+// Layout scheduling of the native views is Android only.
+RCT_EXPORT_METHOD(setContinuousLayoutEnabled:(BOOL)enabled resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@NO);
+}
+
+RCT_REMAP_METHOD(getLayoutStatistics, getLayoutStatisticsWithResolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@{ @"forcedLayoutsPerSecond": @0, @"forcedLayouts": @0, @"continuousLayoutEnabled": @NO });
+}
+
+// Frame metrics of the native views are Android only.
+RCT_EXPORT_METHOD(setPerformanceMonitoringEnabled:(BOOL)enabled options:(nullable NSDictionary *)options resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@NO);
+}
+
+RCT_EXPORT_METHOD(getPerformanceSnapshot:(nonnull NSNumber *)reference resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@{});
+}
+
+// Document load timings are Android only.
+RCT_EXPORT_METHOD(getDocumentLoadHistory:(nonnull NSNumber *)reference resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@[]);
+}
+
+// Bridge metrics are Android only.
+RCT_EXPORT_METHOD(setBridgeMetricsEnabled:(BOOL)enabled resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@NO);
+}
+
+RCT_REMAP_METHOD(getBridgeMetrics, getBridgeMetricsWithResolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve(@{ @"enabled": @NO, @"methods": @{} });
+}
+
+RCT_EXPORT_METHOD(dumpBridgeMetrics:(nullable NSString *)filePath resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+  resolve([NSNull null]);
+}
+
 // MARK: - Annotation Processing
 
 RCT_EXPORT_METHOD(processAnnotations:(PSPDFAnnotationChange)annotationChange annotationTypes:(NSArray *)annotationTypes sourceDocument:(nonnull PSPDFDocument *)sourceDocument processedDocumentPath:(nonnull NSString *)processedDocumentPath password:(NSString *)password resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
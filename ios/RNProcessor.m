@@ -20,4 +20,7 @@ RCT_EXTERN_METHOD(getTemporaryDirectory: (RCTPromiseResolveBlock)resolve onError
 RCT_EXTERN_METHOD(generatePDFFromTemplate: (NSDictionary *)configuration onSuccess: (RCTPromiseResolveBlock)resolve onError: (RCTPromiseRejectBlock)reject);
 RCT_EXTERN_METHOD(generatePDFFromImages: (NSDictionary *)configuration onSuccess: (RCTPromiseResolveBlock)resolve onError: (RCTPromiseRejectBlock)reject);
 RCT_EXTERN_METHOD(generatePDFFromDocuments: (NSDictionary *)configuration onSuccess: (RCTPromiseResolveBlock)resolve onError: (RCTPromiseRejectBlock)reject);
+RCT_EXTERN_METHOD(cancelProcessing: (NSString *)jobId onSuccess: (RCTPromiseResolveBlock)resolve onError: (RCTPromiseRejectBlock)reject);
+RCT_EXTERN_METHOD(getProcessingQueueState: (RCTPromiseResolveBlock)resolve onError: (RCTPromiseRejectBlock)reject);
+RCT_EXTERN_METHOD(setMaxConcurrentProcessingJobs: (nonnull NSNumber *)count onSuccess: (RCTPromiseResolveBlock)resolve onError: (RCTPromiseRejectBlock)reject);
 @end
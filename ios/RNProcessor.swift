@@ -265,4 +265,18 @@ class RNProcessor: RCTEventEmitter {
             onError("E_NEW_FAILED", "Generating PDF failed: \(error.localizedDescription)", error)
         }
     }
+
+    // Processing jobs run synchronously on iOS and can't be cancelled.
+    @objc func cancelProcessing(_ jobId: String, onSuccess: @escaping RCTPromiseResolveBlock, onError: @escaping RCTPromiseRejectBlock) -> Void {
+        onSuccess(false)
+    }
+
+    // There is no processing queue on iOS, report an empty one.
+    @objc func getProcessingQueueState(_ onSuccess: @escaping RCTPromiseResolveBlock, onError: @escaping RCTPromiseRejectBlock) -> Void {
+        onSuccess(["maxConcurrentJobs": 0, "queued": [], "running": [], "finished": []])
+    }
+
+    @objc func setMaxConcurrentProcessingJobs(_ count: NSNumber, onSuccess: @escaping RCTPromiseResolveBlock, onError: @escaping RCTPromiseRejectBlock) -> Void {
+        onSuccess(false)
+    }
 }
@@ -85,6 +85,64 @@ RCT_EXPORT_MODULE(Nutrient);
   return [NutrientModuleCommon documentPropertiesForPath:documentPath];
 }
 
+- (void)getDocumentPropertiesBatch:(NSArray *)documentPaths resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  [NutrientModuleCommon documentPropertiesForPaths:documentPaths resolve:resolve];
+}
+
+// The persistent document properties index is Android only, document properties aren't cached on iOS.
+- (void)invalidateDocumentProperties:(NSString * _Nullable)documentPath resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@YES);
+}
+
+- (void)revalidateDocumentProperties:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@{ @"checked": @0, @"removed": @0, @"refreshed": @0 });
+}
+
+// Document prefetching is Android only.
+- (void)prefetchDocument:(NSString *)documentPath options:(NSDictionary * _Nullable)options resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@NO);
+}
+
+- (void)getPrefetchStatistics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@{ @"hits": @0, @"misses": @0, @"hitRate": @0, @"prefetched": @0, @"evicted": @0, @"size": @0 });
+}
+
+// Layout scheduling of the native views is Android only.
+- (void)setContinuousLayoutEnabled:(BOOL)enabled resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@NO);
+}
+
+- (void)getLayoutStatistics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@{ @"forcedLayoutsPerSecond": @0, @"forcedLayouts": @0, @"continuousLayoutEnabled": @NO });
+}
+
+// Frame metrics of the native views are Android only.
+- (void)setPerformanceMonitoringEnabled:(BOOL)enabled options:(NSDictionary * _Nullable)options resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@NO);
+}
+
+- (void)getPerformanceSnapshot:(double)reference resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@{});
+}
+
+// Document load timings are Android only.
+- (void)getDocumentLoadHistory:(double)reference resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@[]);
+}
+
+// Bridge metrics are Android only.
+- (void)setBridgeMetricsEnabled:(BOOL)enabled resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@NO);
+}
+
+- (void)getBridgeMetrics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve(@{ @"enabled": @NO, @"methods": @{} });
+}
+
+- (void)dumpBridgeMetrics:(NSString * _Nullable)filePath resolve:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  resolve([NSNull null]);
+}
+
 - (NSNumber *)setLicenseKeys:(NSString * _Nullable)androidLicenseKey iOSLicenseKey:(NSString * _Nullable)iOSLicenseKey {
   return [NutrientModuleCommon setLicenseKey:iOSLicenseKey];
 }
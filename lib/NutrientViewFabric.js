@@ -49,6 +49,7 @@ var __importDefault = (this && this.__importDefault) || function (mod) {
 Object.defineProperty(exports, "__esModule", { value: true });
 var React = __importStar(require("react"));
 var forwardRef = React.forwardRef, useImperativeHandle = React.useImperativeHandle, useMemo = React.useMemo;
+var react_native_1 = require("react-native");
 var NutrientViewNativeComponent_1 = __importDefault(require("./specs/NutrientViewNativeComponent"));
 var PDFDocument_1 = require("./document/PDFDocument");
 var NotificationCenter_1 = require("./notification-center/NotificationCenter");
@@ -137,6 +138,12 @@ var NutrientViewFabric = forwardRef(function (props, ref) {
         },
         dismissSignaturePad: function () {
             return NativeNutrientViewTurboModule_1.default.dismissSignaturePad(instanceId.toString());
+        },
+        getPerformanceSnapshot: function () {
+            return react_native_1.NativeModules.Nutrient.getPerformanceSnapshot(instanceId);
+        },
+        getDocumentLoadHistory: function () {
+            return react_native_1.NativeModules.Nutrient.getDocumentLoadHistory(instanceId);
         }
     }); }, [instanceId]);
     var fabricProps = __assign(__assign({}, props), { 
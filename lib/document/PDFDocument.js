@@ -55,6 +55,7 @@ var Annotation_1 = require("../annotations/Annotation");
 var FormField_1 = require("../forms/FormField");
 var FormElement_1 = require("../forms/FormElement");
 var Forms_1 = require("../forms/Forms");
+var nextTextRectsRequestId = 0;
 /**
  * @class PDFDocument
  * @description The current document object loaded in the NutrientView.
@@ -554,6 +555,21 @@ var PDFDocument = /** @class */ (function () {
     PDFDocument.prototype.getAllUnsavedAnnotations = function () {
         return react_native_1.NativeModules.PDFDocumentManager.getAllUnsavedAnnotations(this.getRef());
     };
+    /**
+     * @method exportUnsavedAnnotations
+     * @memberof PDFDocument
+     * @param {string} filePath The path where the Instant JSON file should be written to.
+     * @description Writes all the unsaved changes to annotations in the document to an Instant JSON file, without loading them into memory. Use this instead of ```getAllUnsavedAnnotations``` for large change sets, such as ones containing image attachments. Only available on Android.
+     * @example
+     * const result = await this.pdfRef.current?.getDocument().exportUnsavedAnnotations('path/to/changes.json');
+     * @returns { Promise<UnsavedAnnotationsExport> } A promise containing the file path and the number of exported annotations, attachments and form field values.
+     */
+    PDFDocument.prototype.exportUnsavedAnnotations = function (filePath) {
+        if (react_native_1.Platform.OS !== 'android') {
+            return Promise.reject(new Error('exportUnsavedAnnotations is only available on Android'));
+        }
+        return react_native_1.NativeModules.PDFDocumentManager.exportUnsavedAnnotations(this.getRef(), filePath);
+    };
     /**
      * @method getAnnotations
      * @memberof PDFDocument
@@ -910,6 +926,78 @@ var PDFDocument = /** @class */ (function () {
     PDFDocument.prototype.getPageTextRects = function (pageIndex) {
         return react_native_1.NativeModules.PDFDocumentManager.getPageTextRects(this.getRef(), pageIndex);
     };
+    /**
+     * Gets the text positions (word rects) for a range of pages. On Android the pages are processed in parallel and each page is reported through ```onPage``` as soon as it's done; on iOS the pages are processed one after another.
+     *
+     * @method getTextRectsForPages
+     * @memberof PDFDocument
+     * @param { number } startPage The index of the first page to get the text rects for. Starts at 0.
+     * @param { number } endPage The index of the last page to get the text rects for, inclusive.
+     * @param { TextRectsForPagesOptions } [options] An optional ```onPage``` callback that receives each page as it completes, and an optional ```signal``` that cancels the remaining pages when aborted.
+     * @example
+     * const controller = new AbortController();
+     * const pages = await this.pdfRef.current?.getDocument().getTextRectsForPages(0, 99, {
+     *   onPage: (result) => console.log(result.pageIndex, result.textRects.length),
+     *   signal: controller.signal,
+     * });
+     * @returns { Promise<Array<PageTextRects>> } A promise containing the text rects of every page in the range, sorted by page index. The promise is rejected if the extraction is cancelled.
+     */
+    PDFDocument.prototype.getTextRectsForPages = function (startPage, endPage, options) {
+        var _this = this;
+        var onPage = options != null ? options.onPage : undefined;
+        var signal = options != null ? options.signal : undefined;
+        if (signal != null && signal.aborted) {
+            return Promise.reject(new Error('Text extraction was cancelled'));
+        }
+        var results = [];
+        var addResult = function (result) {
+            results.push(result);
+            if (onPage != null) {
+                onPage(result);
+            }
+        };
+        if (react_native_1.Platform.OS !== 'android') {
+            // No bulk API on this platform, request the pages one after another.
+            var chain = Promise.resolve();
+            var _loop_1 = function (pageIndex) {
+                chain = chain.then(function () {
+                    if (signal != null && signal.aborted) {
+                        throw new Error('Text extraction was cancelled');
+                    }
+                    return _this.getPageTextRects(pageIndex).then(function (textRects) { return addResult({ pageIndex: pageIndex, textRects: textRects }); });
+                });
+            };
+            for (var pageIndex = startPage; pageIndex <= endPage; pageIndex++) {
+                _loop_1(pageIndex);
+            }
+            return chain.then(function () { return results; });
+        }
+        var requestId = "textRects-".concat(nextTextRectsRequestId++);
+        var subscription = react_native_1.DeviceEventEmitter.addListener('PDFDocumentTextRectsForPage', function (payload) {
+            if (payload != null && payload.requestId === requestId) {
+                addResult({ pageIndex: payload.pageIndex, textRects: payload.textRects });
+            }
+        });
+        var onAbort = function () {
+            react_native_1.NativeModules.PDFDocumentManager.cancelTextRectsForPages(requestId);
+        };
+        if (signal != null) {
+            signal.addEventListener('abort', onAbort);
+        }
+        var cleanup = function () {
+            subscription.remove();
+            if (signal != null) {
+                signal.removeEventListener('abort', onAbort);
+            }
+        };
+        return react_native_1.NativeModules.PDFDocumentManager.getTextRectsForPages(this.getRef(), startPage, endPage, requestId).then(function () {
+            cleanup();
+            return results.sort(function (a, b) { return a.pageIndex - b.pageIndex; });
+        }, function (error) {
+            cleanup();
+            throw error;
+        });
+    };
     return PDFDocument;
 }());
 exports.PDFDocument = PDFDocument;
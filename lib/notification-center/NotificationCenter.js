@@ -283,6 +283,17 @@ exports.NotificationCenter = NotificationCenter;
          */
         CHANGED: 'bookmarksChanged',
     };
+    /**
+     * Performance events. Android only.
+     * @readonly
+     * @enum {string} PerformanceEvent
+     */
+    NotificationCenter.PerformanceEvent = {
+        /**
+         * Called periodically with the frame metrics of the view while subscribed.
+         */
+        REPORT: 'performanceReport',
+    };
     /**
      * Analytics events.
      * @readonly
@@ -654,6 +654,61 @@ body {
       }
     },
   },
+  {
+    key: 'item7',
+    name: 'Benchmark chunked PDF merge',
+    description:
+      'Android only: Merge large synthetic documents at once and in chunks, and compare the durations.',
+    action: async () => {
+      if (Platform.OS !== 'android') {
+        Alert.alert('Nutrient', 'Chunked merging is only available on Android.');
+        return;
+      }
+      // Each synthetic source repeats all pages of the example document.
+      const sourceCount = 10;
+      const repetitions = 20;
+      const chunkSize = 250;
+
+      try {
+        const documents: Array<{ documentPath: string }> = [];
+        for (let i = 0; i < sourceCount; i++) {
+          const { fileURL } = await Processor.generatePDFFromDocuments({
+            filePath: await getOutputPath(`MergeBenchmarkSource${i}.pdf`),
+            documents: Array.from({ length: repetitions }, () => ({
+              documentPath: exampleDocumentPath,
+            })),
+            override: true,
+          });
+          documents.push({ documentPath: fileURL });
+        }
+
+        const merge = async (fileName: string, options: object) => {
+          const configuration: DocumentPDFConfiguration = {
+            filePath: await getOutputPath(fileName),
+            documents,
+            override: true,
+            ...options,
+          };
+          const start = Date.now();
+          await Processor.generatePDFFromDocuments(configuration);
+          return Date.now() - start;
+        };
+        const atOnce = await merge('MergeBenchmarkAtOnce.pdf', {});
+        const chunked = await merge('MergeBenchmarkChunked.pdf', { chunkSize });
+
+        const results =
+          `Merged ${sourceCount} documents.\n` +
+          `At once: ${atOnce} ms\n` +
+          `In chunks of ${chunkSize} pages: ${chunked} ms\n\n` +
+          'Use the Android Studio memory profiler to compare the peak memory of both runs.';
+        console.log(results);
+        Alert.alert('Nutrient', results);
+      } catch (e: any) {
+        console.log(e.message, e.code);
+        Alert.alert('Nutrient', e.message);
+      }
+    },
+  },
 ];
 
 export { generatePDFMenu };
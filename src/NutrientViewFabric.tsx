@@ -1,5 +1,6 @@
 import * as React from 'react';
 const { forwardRef, useImperativeHandle, useMemo } = React;
+import { NativeModules } from 'react-native';
 import NutrientViewNativeComponent from './specs/NutrientViewNativeComponent';
 import type { NativeProps } from './specs/NutrientViewNativeComponent';
 import { PDFDocument } from './document/PDFDocument';
@@ -34,6 +35,8 @@ export interface NutrientViewFabricRef {
   getViewportState: () => Promise<any>;
   showSignaturePad: (requestId: string, allow: boolean) => Promise<boolean> | void;
   dismissSignaturePad: () => Promise<boolean> | void;
+  getPerformanceSnapshot: () => Promise<any>;
+  getDocumentLoadHistory: () => Promise<any[]>;
 }
 
 // Fabric component using the actual native component
@@ -142,6 +145,14 @@ const NutrientViewFabric = forwardRef<NutrientViewFabricRef, NativeProps>((props
 
     dismissSignaturePad: () => {
       return NativeNutrientViewTurboModule.dismissSignaturePad(instanceId.toString());
+    },
+
+    getPerformanceSnapshot: () => {
+      return NativeModules.Nutrient.getPerformanceSnapshot(instanceId);
+    },
+
+    getDocumentLoadHistory: () => {
+      return NativeModules.Nutrient.getDocumentLoadHistory(instanceId);
     }
   }), [instanceId]);
   
@@ -6,6 +6,7 @@ import { AIAssistantConfiguration } from './AIAssistantConfiguration';
  * @memberof PDFConfiguration
  * @property { string } [outputFilePath] - The location where the downloaded document should be stored. If not set, the document will be stored in a temporary cache directory.
  * @property { boolean } [overwriteExisting] - Whether the document should be overwritten if it already exists at the specified location.
+ * @property { boolean } [androidProgressiveLoading] - Android only: Opens the document while it is being downloaded by fetching only the parts that are needed through HTTP range requests. Requires a server that supports range requests, falls back to a full download otherwise. Ignored if ```outputFilePath``` is set.
  */
 
 /**
@@ -105,6 +106,8 @@ import { AIAssistantConfiguration } from './AIAssistantConfiguration';
  * @property { PDFConfiguration.BooleanType } [showActionButtons] Shows floating back and forward buttons in the lower part of the screen.
  * @property { AIAssistantConfiguration } [aiAssistantConfiguration] Configuration for AI Assistant.
  * @property { PDFConfiguration.BooleanType } [androidRemoveStatusBarOffset] Used to remove the Android status bar offset when wrapping the component in custom views.
+ * @property { number } [androidScrollEventMaxRate] The maximum number of ```documentScrolled``` and ```documentViewportChanged``` Notification Center events emitted per second on Android. Scroll events are always coalesced to at most one per frame, and the final position is always delivered once scrolling stops. Defaults to one event per frame.
+ * @property { number } [androidAnnotationEventBatchInterval] The number of milliseconds during which annotation changes are accumulated into a single ```onAnnotationsChanged``` callback and ```annotationsAdded```, ```annotationChanged``` or ```annotationsRemoved``` Notification Center event on Android, each carrying all affected annotations in its ```annotations``` array. Use ```0``` to batch the changes made within one frame. Useful for bulk operations such as XFDF or Instant JSON imports. Defaults to one event per annotation change.
  * @property { PDFConfiguration.IOSFileConflictResolution } [iOSFileConflictResolution] Resolution options for conflicts due to out of process file changes or deletion.
  * @property { PDFConfiguration.IOSDocumentInfoOption[] } [iOSDocumentInfoOptions] Choose which document-related information to display in the document info controller.
  * @property { PDFConfiguration.BooleanType } [androidEnableStylusOnDetection] Indicates whether we should automatically detect the stylus. Enabling this will automatically disable all other inputs once we detect stylus use. Defaults to true.
@@ -508,6 +511,14 @@ export class PDFConfiguration {
      * Used to remove the Android status bar offset when wrapping the component in custom views.
      */
     androidRemoveStatusBarOffset?: PDFConfiguration.BooleanType;
+    /**
+     * The maximum number of ```documentScrolled``` and ```documentViewportChanged``` Notification Center events emitted per second on Android. Scroll events are always coalesced to at most one per frame, and the final position is always delivered once scrolling stops. Defaults to one event per frame.
+     */
+    androidScrollEventMaxRate?: number;
+    /**
+     * The number of milliseconds during which annotation changes are accumulated into a single ```onAnnotationsChanged``` callback and ```annotationsAdded```, ```annotationChanged``` or ```annotationsRemoved``` Notification Center event on Android, each carrying all affected annotations in its ```annotations``` array. Use ```0``` to batch the changes made within one frame. Useful for bulk operations such as XFDF or Instant JSON imports. Defaults to one event per annotation change.
+     */
+    androidAnnotationEventBatchInterval?: number;
     /**
      * Resolution options for conflicts due to out of process file changes or deletion.
      */
@@ -1123,6 +1134,11 @@ export interface RemoteDocumentConfiguration {
      * Whether the document should be overwritten if it already exists at the specified location.
      */
     overwriteExisting?: boolean;
+    /**
+     * Android only: Opens the document while it is being downloaded by fetching only the parts that are needed through HTTP range requests.
+     * Requires a server that supports range requests, falls back to a full download otherwise. Ignored if ```outputFilePath``` is set.
+     */
+    androidProgressiveLoading?: boolean;
 }
 
 export type AnyCase<T extends string> =
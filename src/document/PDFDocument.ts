@@ -1,4 +1,5 @@
 import {
+  DeviceEventEmitter,
   findNodeHandle,
   NativeModules,
   UIManager,
@@ -35,7 +36,10 @@ import { ButtonFormElement, ChoiceFormElement, FormElement, SignatureFormElement
 import { Forms } from '../forms/Forms';
 import { PDFPageInfo } from './PDFPageInfo';
 import { Bookmark } from './Bookmark';
-import { TextRect } from './TextRect';
+import { PageTextRects, TextRect, TextRectsForPagesOptions } from './TextRect';
+import { UnsavedAnnotationsExport } from './UnsavedAnnotationsExport';
+
+let nextTextRectsRequestId = 0;
 
 /**
  * @class PDFDocument
@@ -577,6 +581,22 @@ export class PDFDocument {
       return NativeModules.PDFDocumentManager.getAllUnsavedAnnotations(this.getRef());
     }
 
+   /**
+    * @method exportUnsavedAnnotations
+    * @memberof PDFDocument
+    * @param {string} filePath The path where the Instant JSON file should be written to.
+    * @description Writes all the unsaved changes to annotations in the document to an Instant JSON file, without loading them into memory. Use this instead of ```getAllUnsavedAnnotations``` for large change sets, such as ones containing image attachments. Only available on Android.
+    * @example
+    * const result = await this.pdfRef.current?.getDocument().exportUnsavedAnnotations('path/to/changes.json');
+    * @returns { Promise<UnsavedAnnotationsExport> } A promise containing the file path and the number of exported annotations, attachments and form field values.
+    */
+    exportUnsavedAnnotations(filePath: string): Promise<UnsavedAnnotationsExport> {
+      if (Platform.OS !== 'android') {
+        return Promise.reject(new Error('exportUnsavedAnnotations is only available on Android'));
+      }
+      return NativeModules.PDFDocumentManager.exportUnsavedAnnotations(this.getRef(), filePath);
+    }
+
    /**
     * @method getAnnotations
     * @memberof PDFDocument
@@ -931,4 +951,78 @@ export class PDFDocument {
     getPageTextRects(pageIndex: number): Promise<Array<TextRect>> {
       return NativeModules.PDFDocumentManager.getPageTextRects(this.getRef(), pageIndex);
   }
+
+  /**
+   * Gets the text positions (word rects) for a range of pages. On Android the pages are processed in parallel and each page is reported through ```onPage``` as soon as it's done; on iOS the pages are processed one after another.
+   *
+   * @method getTextRectsForPages
+   * @memberof PDFDocument
+   * @param { number } startPage The index of the first page to get the text rects for. Starts at 0.
+   * @param { number } endPage The index of the last page to get the text rects for, inclusive.
+   * @param { TextRectsForPagesOptions } [options] An optional ```onPage``` callback that receives each page as it completes, and an optional ```signal``` that cancels the remaining pages when aborted.
+   * @example
+   * const controller = new AbortController();
+   * const pages = await this.pdfRef.current?.getDocument().getTextRectsForPages(0, 99, {
+   *   onPage: (result) => console.log(result.pageIndex, result.textRects.length),
+   *   signal: controller.signal,
+   * });
+   * @returns { Promise<Array<PageTextRects>> } A promise containing the text rects of every page in the range, sorted by page index. The promise is rejected if the extraction is cancelled.
+   */
+  getTextRectsForPages(startPage: number, endPage: number, options?: TextRectsForPagesOptions): Promise<Array<PageTextRects>> {
+    const onPage = options != null ? options.onPage : undefined;
+    const signal = options != null ? options.signal : undefined;
+    if (signal != null && signal.aborted) {
+      return Promise.reject(new Error('Text extraction was cancelled'));
+    }
+    const results: Array<PageTextRects> = [];
+    const addResult = (result: PageTextRects) => {
+      results.push(result);
+      if (onPage != null) {
+        onPage(result);
+      }
+    };
+
+    if (Platform.OS !== 'android') {
+      // No bulk API on this platform, request the pages one after another.
+      let chain: Promise<void> = Promise.resolve();
+      for (let pageIndex = startPage; pageIndex <= endPage; pageIndex++) {
+        chain = chain.then(() => {
+          if (signal != null && signal.aborted) {
+            throw new Error('Text extraction was cancelled');
+          }
+          return this.getPageTextRects(pageIndex).then((textRects) => addResult({ pageIndex, textRects }));
+        });
+      }
+      return chain.then(() => results);
+    }
+
+    const requestId = `textRects-${nextTextRectsRequestId++}`;
+    const subscription = DeviceEventEmitter.addListener('PDFDocumentTextRectsForPage', (payload: any) => {
+      if (payload != null && payload.requestId === requestId) {
+        addResult({ pageIndex: payload.pageIndex, textRects: payload.textRects });
+      }
+    });
+    const onAbort = () => {
+      NativeModules.PDFDocumentManager.cancelTextRectsForPages(requestId);
+    };
+    if (signal != null) {
+      signal.addEventListener('abort', onAbort);
+    }
+    const cleanup = () => {
+      subscription.remove();
+      if (signal != null) {
+        signal.removeEventListener('abort', onAbort);
+      }
+    };
+    return NativeModules.PDFDocumentManager.getTextRectsForPages(this.getRef(), startPage, endPage, requestId).then(
+      () => {
+        cleanup();
+        return results.sort((a, b) => a.pageIndex - b.pageIndex);
+      },
+      (error: any) => {
+        cleanup();
+        throw error;
+      }
+    );
+  }
 }
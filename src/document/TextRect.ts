@@ -36,3 +36,32 @@ export interface TextRect {
     frame: TextRectFrame;
 }
 
+/**
+ * @interface PageTextRects
+ * @description The words and their bounding frames of a single page, as returned by ```getTextRectsForPages```.
+ */
+export interface PageTextRects {
+    /**
+     * The index of the page the text rects belong to. Starts at 0.
+     */
+    pageIndex: number;
+    /**
+     * The words on the page with their bounding frames in PDF coordinates.
+     */
+    textRects: Array<TextRect>;
+}
+
+/**
+ * @interface TextRectsForPagesOptions
+ * @description Options for ```getTextRectsForPages```.
+ */
+export interface TextRectsForPagesOptions {
+    /**
+     * Called for each page as soon as its text rects are available. Pages may complete in any order.
+     */
+    onPage?: (result: PageTextRects) => void;
+    /**
+     * Cancels the extraction of the remaining pages when aborted, for example when the user navigates away.
+     */
+    signal?: AbortSignal;
+}
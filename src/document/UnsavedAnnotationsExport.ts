@@ -0,0 +1,22 @@
+/**
+ * @interface UnsavedAnnotationsExport
+ * @description The result of ```exportUnsavedAnnotations```, which writes the unsaved changes to a file instead of returning them.
+ */
+export interface UnsavedAnnotationsExport {
+    /**
+     * The path of the file the Instant JSON was written to.
+     */
+    filePath: string;
+    /**
+     * The number of annotations in the exported Instant JSON.
+     */
+    annotationCount: number;
+    /**
+     * The number of attachments, such as images, in the exported Instant JSON.
+     */
+    attachmentCount: number;
+    /**
+     * The number of form field values in the exported Instant JSON.
+     */
+    formFieldValueCount: number;
+}
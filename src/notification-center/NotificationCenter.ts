@@ -310,6 +310,18 @@ const isNA: boolean = isNewArchitectureEnabled();
       CHANGED: 'bookmarksChanged',
     } as const;
 
+    /**
+     * Performance events. Android only.
+     * @readonly
+     * @enum {string} PerformanceEvent
+     */
+    export const PerformanceEvent = {
+      /**
+       * Called periodically with the frame metrics of the view while subscribed.
+       */
+      REPORT: 'performanceReport',
+    } as const;
+
     /**
      * Analytics events.
      * @readonly
@@ -325,9 +337,25 @@ const isNA: boolean = isNewArchitectureEnabled();
     /**
      * Type-safe payload types for each event
      */
+    /**
+     * How long each stage of opening a document took, in milliseconds. Stages that didn't run or
+     * didn't finish yet are ```null```. Android only.
+     */
+    export type DocumentLoadTimings = {
+      download: number | null;
+      open: number | null;
+      fragmentBuild: number | null;
+      attach: number | null;
+      firstPageRendered: number | null;
+      total: number;
+      isComplete: boolean;
+      failed: boolean;
+    };
+
     export type DocumentLoadedPayload = {
       event: typeof DocumentEvent.LOADED;
       documentID: string;
+      timings?: DocumentLoadTimings;
     };
 
     export type DocumentLoadFailedPayload = {
@@ -446,6 +474,29 @@ const isNA: boolean = isNewArchitectureEnabled();
       documentID: string;
     };
 
+    export type PerformanceMetric = {
+      count: number;
+      mean: number;
+      p50: number;
+      p95: number;
+      p99: number;
+      max: number;
+    };
+
+    export type PerformanceReportPayload = {
+      event: typeof PerformanceEvent.REPORT;
+      frames: PerformanceMetric & {
+        jankyFrames: number;
+        droppedFrames: number;
+        expectedFrameTime: number;
+      };
+      bridgeEventsPerFrame: PerformanceMetric;
+      viewportChanged: PerformanceMetric;
+      updateState: PerformanceMetric;
+      eventSerialization: PerformanceMetric;
+      isCollecting: boolean;
+    };
+
     export type AnalyticsPayload = {
       event: typeof AnalyticsEvent.ANALYTICS;
       analyticsEvent: string;
@@ -473,6 +524,7 @@ const isNA: boolean = isNewArchitectureEnabled();
       [FormFieldEvent.SELECTED]: FormFieldSelectedPayload;
       [FormFieldEvent.DESELECTED]: FormFieldDeselectedPayload;
       [BookmarksEvent.CHANGED]: BookmarksChangedPayload;
+      [PerformanceEvent.REPORT]: PerformanceReportPayload;
       [AnalyticsEvent.ANALYTICS]: AnalyticsPayload;
     };
 
@@ -482,12 +534,14 @@ const isNA: boolean = isNewArchitectureEnabled();
     export type FormFieldEvent = ValueOf<typeof FormFieldEvent>;
     export type AnalyticsEvent = ValueOf<typeof AnalyticsEvent>;
     export type BookmarksEvent = ValueOf<typeof BookmarksEvent>;
+    export type PerformanceEvent = ValueOf<typeof PerformanceEvent>;
     export type DocumentLoadFailedCode = ValueOf<typeof DocumentLoadFailedCode>;
     type ValueOf<T> = T[keyof T];
 }
 
 // Re-export payload types at top level for easier importing
 export type DocumentLoadedPayload = NotificationCenter.DocumentLoadedPayload;
+export type DocumentLoadTimings = NotificationCenter.DocumentLoadTimings;
 export type DocumentLoadFailedPayload = NotificationCenter.DocumentLoadFailedPayload;
 // Re-export error code enum with a more convenient name
 export const DocumentLoadFailedCode = NotificationCenter.DocumentLoadFailedCode;
@@ -511,5 +565,6 @@ export type FormFieldValuesUpdatedPayload = NotificationCenter.FormFieldValuesUp
 export type FormFieldSelectedPayload = NotificationCenter.FormFieldSelectedPayload;
 export type FormFieldDeselectedPayload = NotificationCenter.FormFieldDeselectedPayload;
 export type BookmarksChangedPayload = NotificationCenter.BookmarksChangedPayload;
+export type PerformanceReportPayload = NotificationCenter.PerformanceReportPayload;
 export type AnalyticsPayload = NotificationCenter.AnalyticsPayload;
 export type EventPayloadMap = NotificationCenter.EventPayloadMap;
\ No newline at end of file
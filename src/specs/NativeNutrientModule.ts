@@ -12,6 +12,19 @@ export interface Spec extends TurboModule {
   setPageIndex(pageIndex: number, animated: boolean): void;
   setLicenseKey(licenseKey: string | null): boolean;
   getDocumentProperties(documentPath: string | null): Object;
+  getDocumentPropertiesBatch(documentPaths: string[]): Promise<Object[]>;
+  invalidateDocumentProperties(documentPath: string | null): Promise<boolean>;
+  revalidateDocumentProperties(): Promise<Object>;
+  prefetchDocument(documentPath: string, options: Object | null): Promise<boolean>;
+  getPrefetchStatistics(): Promise<Object>;
+  setContinuousLayoutEnabled(enabled: boolean): Promise<boolean>;
+  getLayoutStatistics(): Promise<Object>;
+  setPerformanceMonitoringEnabled(enabled: boolean, options: Object | null): Promise<boolean>;
+  getPerformanceSnapshot(reference: number): Promise<Object>;
+  getDocumentLoadHistory(reference: number): Promise<Object[]>;
+  setBridgeMetricsEnabled(enabled: boolean): Promise<boolean>;
+  getBridgeMetrics(): Promise<Object>;
+  dumpBridgeMetrics(filePath: string | null): Promise<string | null>;
   setLicenseKeys(androidLicenseKey: string | null, iOSLicenseKey: string | null): boolean;
   processAnnotations(annotationChange: string, annotationTypes: string[] | null, sourceDocumentPath: string, processedDocumentPath: string, password: string | null): Promise<void>;
   dismiss(): Promise<void>;
@@ -40,6 +53,7 @@ export interface Spec extends TurboModule {
   readonly formFieldDeselected?: EventEmitter<Object>;
   readonly analytics?: EventEmitter<Object>;
   readonly bookmarksChanged?: EventEmitter<Object>;
+  readonly performanceReport?: EventEmitter<Object>;
 }
 
 export default TurboModuleRegistry.getEnforcing<Spec>('Nutrient');
@@ -20,6 +20,7 @@ export interface Toolbar {
 export interface RemoteDocumentConfiguration {
   outputFilePath?: string;
   overwriteExisting?: boolean;
+  androidProgressiveLoading?: boolean;
 }
 
 export interface MeasurementValueConfiguration {
@@ -15,6 +15,7 @@ import type { HostComponent } from 'react-native';
 export interface RemoteDocumentConfiguration {
   outputFilePath?: string;
   overwriteExisting?: boolean;
+  androidProgressiveLoading?: boolean;
 }
 
 // Measurement value configuration interface
@@ -16,6 +16,95 @@ export default NutrientView;
  * @property { string } documentId The document ID.
  * @property { number } pageCount The number of pages in the document.
  * @property { boolean } isEncrypted Indicates if the PDF document is encrypted (password protected).
+ * @property { string | null } [title] The title of the document. Android only.
+ * @property { Array<{ width: number, height: number }> } [pageSizes] The size of every page in PDF points. Android only.
+ * @property { string } [error] Why the document couldn't be read. Only set on entries of ```getDocumentPropertiesBatch``` whose document failed to open, which have no ```documentId```. Android only.
+ */
+/**
+ * @typedef DocumentPropertiesSweepResult
+ * @property { number } checked The number of documents whose persisted properties were checked.
+ * @property { number } removed The number of documents whose properties were dropped because they were deleted or became unreadable.
+ * @property { number } refreshed The number of documents whose properties were read again because they changed.
+ */
+/**
+ * @typedef PrefetchDocumentOptions
+ * @property { string } [password] The password of the document, if it is encrypted.
+ * @property { number } [pageCount] The number of leading pages to render in advance. Defaults to ```1```.
+ * @property { number } [width] The width of the view the document will be shown in. Defaults to the screen width.
+ * @property { number } [height] The height of the view the document will be shown in. Defaults to the screen height.
+ */
+/**
+ * @typedef PrefetchStatistics
+ * @property { number } hits The number of documents opened by a view that were prefetched.
+ * @property { number } misses The number of documents opened by a view that weren't prefetched.
+ * @property { number } hitRate The share of documents opened by a view that were prefetched, between ```0``` and ```1```.
+ * @property { number } prefetched The number of documents that were prefetched.
+ * @property { number } evicted The number of prefetched documents that were dropped before a view opened them.
+ * @property { number } size The number of prefetched documents currently kept.
+ */
+/**
+ * @typedef LayoutStatistics
+ * @property { number } forcedLayoutsPerSecond The number of forced layouts of the native views during the last full second. Stays close to ```0``` while the views are idle.
+ * @property { number } forcedLayouts The number of forced layouts since the app was started.
+ * @property { boolean } continuousLayoutEnabled Whether the views are laid out on every frame, see ```setContinuousLayoutEnabled```.
+ */
+/**
+ * @typedef PerformanceMonitoringOptions
+ * @property { number } [reportInterval] How often the ```performanceReport``` notification is emitted, in milliseconds. Defaults to ```1000```.
+ */
+/**
+ * @typedef PerformanceMetric
+ * @property { number } count The number of samples.
+ * @property { number } mean The mean of the samples.
+ * @property { number } p50 The median of the samples.
+ * @property { number } p95 The 95th percentile of the samples.
+ * @property { number } p99 The 99th percentile of the samples.
+ * @property { number } max The largest sample.
+ */
+/**
+ * @typedef PerformanceSnapshot
+ * @property { PerformanceMetric } frames The intervals between frames in milliseconds, with the number of ```jankyFrames``` and ```droppedFrames``` and the ```expectedFrameTime``` of the display.
+ * @property { PerformanceMetric } bridgeEventsPerFrame The number of events sent to JS per frame.
+ * @property { PerformanceMetric } viewportChanged The time spent emitting viewport changes, in milliseconds.
+ * @property { PerformanceMetric } updateState The time spent updating the view state, in milliseconds.
+ * @property { PerformanceMetric } eventSerialization The time spent building and sending notifications, in milliseconds.
+ * @property { boolean } isCollecting Whether metrics are currently collected for the view.
+ */
+/**
+ * @typedef DocumentLoadTimings
+ * @property { string } [documentPath] The document that was loaded. Only included in the history.
+ * @property { number | null } download The time spent downloading a remote document, in milliseconds.
+ * @property { number | null } open The time spent opening the document, in milliseconds.
+ * @property { number | null } fragmentBuild The time spent registering the document and building the fragment that shows it, in milliseconds.
+ * @property { number | null } attach The time from attaching the fragment until it loaded the document, in milliseconds.
+ * @property { number | null } firstPageRendered The time from then until the first frame showing the document was drawn, in milliseconds.
+ * @property { number } total The time since the document was set, until the first frame was drawn once the load is complete, in milliseconds.
+ * @property { boolean } isComplete Whether the first frame showing the document was drawn.
+ * @property { boolean } failed Whether the load failed or was replaced by another load.
+ */
+/**
+ * @typedef BridgeMetricHistogram
+ * @property { number } count The number of recorded values.
+ * @property { number } mean The mean of the values.
+ * @property { number } p50 The median of the values.
+ * @property { number } p90 The 90th percentile of the values.
+ * @property { number } p99 The 99th percentile of the values.
+ * @property { number } p999 The 99.9th percentile of the values.
+ * @property { number } max The largest value.
+ */
+/**
+ * @typedef BridgeMethodMetrics
+ * @property { number } calls The number of calls.
+ * @property { number } errors The number of calls that were rejected.
+ * @property { BridgeMetricHistogram } queueWait The time from the call until its work started, in milliseconds.
+ * @property { BridgeMetricHistogram } execution The time from then until the call settled, in milliseconds.
+ * @property { BridgeMetricHistogram } requestSize The approximate size of the call's payload, in bytes.
+ * @property { BridgeMetricHistogram } responseSize The approximate size of the result, in bytes.
+ */
+/**
+ * @typedef BridgeMetrics
+ * @property { boolean } enabled Whether metrics are being recorded.
+ * @property { Record<string, BridgeMethodMetrics> } methods The metrics per method name.
  */
 /**
  * Nutrient is a React Native {@link https://reactnative.dev/docs/native-modules-intro|Native Module} implementation used to call iOS and Android methods directly.
@@ -43,6 +132,115 @@ export class Nutrient {
      * const properties = Nutrient.getDocumentProperties('path/to/document.pdf');
      */
     getDocumentProperties: (documentPath: string) => PDFDocumentProperties;
+    /**
+     * Used to get the document properties of several documents without blocking the JavaScript thread. The documents are opened in parallel, and recently opened documents are reused.
+     * @method getDocumentPropertiesBatch
+     * @memberof Nutrient
+     * @param { string[] } documentPaths The paths to the documents.
+     * @returns { Promise<PDFDocumentProperties[]> } A promise containing the document properties, in the same order as ```documentPaths```. Documents that fail to open don't reject the promise, their entry has an ```error``` instead.
+     * @example
+     * const properties = await Nutrient.getDocumentPropertiesBatch(['path/to/first.pdf', 'path/to/second.pdf']);
+     */
+    getDocumentPropertiesBatch: (documentPaths: string[]) => Promise<PDFDocumentProperties[]>;
+    /**
+     * Used to drop the persisted properties of a document, so they are read from the document again on the next request. Only has an effect on Android, where document properties are persisted across app launches.
+     * @method invalidateDocumentProperties
+     * @memberof Nutrient
+     * @param { string | null } documentPath The path to the document, or ```null``` to drop the properties of all documents.
+     * @returns { Promise<boolean> } A promise resolving to ```true``` once the properties were dropped.
+     * @example
+     * await Nutrient.invalidateDocumentProperties('path/to/document.pdf');
+     */
+    invalidateDocumentProperties: (documentPath: string | null) => Promise<boolean>;
+    /**
+     * Used to check the persisted properties of all documents against their files in the background. Properties of deleted documents are dropped and those of changed documents are read again. Only has an effect on Android.
+     * @method revalidateDocumentProperties
+     * @memberof Nutrient
+     * @returns { Promise<DocumentPropertiesSweepResult> } A promise containing the number of checked, removed and refreshed documents.
+     * @example
+     * const { removed, refreshed } = await Nutrient.revalidateDocumentProperties();
+     */
+    revalidateDocumentProperties: () => Promise<DocumentPropertiesSweepResult>;
+    /**
+     * Used to load a document that is likely to be opened next, like the next item of a list, in the background. The first pages are rendered at the size of the view they will be shown in, and the document is kept until a view opens it. Prefetched documents are dropped first when the system runs low on memory. Only has an effect on Android.
+     * @method prefetchDocument
+     * @memberof Nutrient
+     * @param { string } documentPath The path to the document.
+     * @param { PrefetchDocumentOptions } [options] The password of the document and the size of the view it will be shown in.
+     * @returns { Promise<boolean> } A promise resolving to ```true``` once the document was prefetched, and ```false``` on platforms that don't prefetch documents.
+     * @example
+     * await Nutrient.prefetchDocument('path/to/next.pdf', { pageCount: 2 });
+     */
+    prefetchDocument: (documentPath: string, options?: PrefetchDocumentOptions) => Promise<boolean>;
+    /**
+     * Used to get the hit rate of ```prefetchDocument```: how many of the documents opened by views were prefetched. Only has an effect on Android.
+     * @method getPrefetchStatistics
+     * @memberof Nutrient
+     * @returns { Promise<PrefetchStatistics> } A promise containing the prefetch counters.
+     * @example
+     * const { hitRate } = await Nutrient.getPrefetchStatistics();
+     */
+    getPrefetchStatistics: () => Promise<PrefetchStatistics>;
+    /**
+     * Used to lay out the native views on every frame, like earlier versions did, instead of only when their size or content changes. Meant for debugging layout issues only, as it keeps the CPU busy while the views are idle. Only has an effect on Android.
+     * @method setContinuousLayoutEnabled
+     * @memberof Nutrient
+     * @param { boolean } enabled Whether to lay out the views on every frame. Disabled by default.
+     * @returns { Promise<boolean> } A promise resolving to ```true``` once the setting was applied, and ```false``` on platforms that don't support it.
+     * @example
+     * await Nutrient.setContinuousLayoutEnabled(true);
+     */
+    setContinuousLayoutEnabled: (enabled: boolean) => Promise<boolean>;
+    /**
+     * Used to get how many forced layouts of the native views ran. Only has an effect on Android.
+     * @method getLayoutStatistics
+     * @memberof Nutrient
+     * @returns { Promise<LayoutStatistics> } A promise containing the layout counters.
+     * @example
+     * const { forcedLayoutsPerSecond } = await Nutrient.getLayoutStatistics();
+     */
+    getLayoutStatistics: () => Promise<LayoutStatistics>;
+    /**
+     * Used to collect frame metrics of all views, even if the ```performanceReport``` notification isn't subscribed, so they can be read with ```NutrientView.getPerformanceSnapshot```. Adds a small overhead to every frame. Only has an effect on Android.
+     * @method setPerformanceMonitoringEnabled
+     * @memberof Nutrient
+     * @param { boolean } enabled Whether to collect frame metrics of all views. Disabled by default.
+     * @param { PerformanceMonitoringOptions } [options] How often the ```performanceReport``` notification is emitted.
+     * @returns { Promise<boolean> } A promise resolving to ```true``` once the setting was applied, and ```false``` on platforms that don't support it.
+     * @example
+     * await Nutrient.setPerformanceMonitoringEnabled(true, { reportInterval: 500 });
+     */
+    setPerformanceMonitoringEnabled: (enabled: boolean, options?: PerformanceMonitoringOptions) => Promise<boolean>;
+    /**
+     * Used to record how long the ```PDFDocument``` methods take, as histograms of the call count, queue wait, execution time and payload sizes per method. Enabling clears the previously recorded metrics. Meant for performance testing, as it walks the payloads of every call. Only has an effect on Android.
+     * @method setBridgeMetricsEnabled
+     * @memberof Nutrient
+     * @param { boolean } enabled Whether to record the metrics. Disabled by default.
+     * @returns { Promise<boolean> } A promise resolving to ```true``` once the setting was applied, and ```false``` on platforms that don't support it.
+     * @example
+     * await Nutrient.setBridgeMetricsEnabled(true);
+     */
+    setBridgeMetricsEnabled: (enabled: boolean) => Promise<boolean>;
+    /**
+     * Used to get the metrics recorded since ```setBridgeMetricsEnabled``` was enabled. Only has an effect on Android.
+     * @method getBridgeMetrics
+     * @memberof Nutrient
+     * @returns { Promise<BridgeMetrics> } A promise containing the metrics per method.
+     * @example
+     * const { methods } = await Nutrient.getBridgeMetrics();
+     * console.log(methods.getAnnotations?.execution.p99);
+     */
+    getBridgeMetrics: () => Promise<BridgeMetrics>;
+    /**
+     * Used to write the recorded bridge metrics, including the histogram buckets, to a JSON file, for example to compare nightly performance runs. Only has an effect on Android.
+     * @method dumpBridgeMetrics
+     * @memberof Nutrient
+     * @param { string } [filePath] The file to write to. Defaults to a new file in the app's external files directory.
+     * @returns { Promise<string | null> } A promise resolving to the path of the written file, and ```null``` on platforms that don't support it.
+     * @example
+     * const path = await Nutrient.dumpBridgeMetrics();
+     */
+    dumpBridgeMetrics: (filePath?: string) => Promise<string | null>;
     /**
      * Used to set your Nutrient license key for the active platform only, either iOS or Android.
      * Nutrient is commercial software.
@@ -122,7 +320,7 @@ export class Nutrient {
      * @param { string } sourceDocumentPath The source document to use as input.
      * @param { string } processedDocumentPath The path where the output document should be written to.
      * @param { string | null } password The password to unlock the source document. Use ```null``` if not required.
-     * @returns { Promise<boolean> } A promise returning ```true``` if the document annotations were successfully flattened, and ```false``` if not.
+     * @returns { Promise<boolean> } A promise returning ```true``` if the document annotations were successfully flattened, and ```false``` if not. On Android, processing reports ```RNProcessorProgress``` events whose ```outputPath``` is ```processedDocumentPath```, and can be cancelled with ```Processor.cancelProcessing(processedDocumentPath)```, since the job ID is the output path.
      * @example
      * const result = await Nutrient.processAnnotations(
      *                      'flatten',
@@ -205,6 +403,8 @@ export class Nutrient {
  * @property { number } width The width of the new document.
  * @property { number } height The height of the new document.
  * @property { boolean } override If ```true```, will override existing document with the same name.
+ * @property { string } [jobId] Android only: The ID of the processing job, used by its ```RNProcessorProgress``` events and by ```cancelProcessing```. A unique ID is generated if not set.
+ * @property { number } [priority] Android only: The priority of the processing job. Queued jobs with a higher priority start first, jobs with the same priority in the order they were submitted. Defaults to ```0```.
  */
 /**
  * @typedef PDFTemplatePageSize
@@ -232,6 +432,8 @@ export class Nutrient {
  * @property { string } [filePath] The directory where the new document should be stored.
  * @property { Array<PDFTemplate> } templates An array of the templates that should be used to construct the new document.
  * @property { boolean } override If ```true```, will override existing document with the same name.
+ * @property { string } [jobId] Android only: The ID of the processing job, used by its ```RNProcessorProgress``` events and by ```cancelProcessing```. A unique ID is generated if not set.
+ * @property { number } [priority] Android only: The priority of the processing job. Queued jobs with a higher priority start first, jobs with the same priority in the order they were submitted. Defaults to ```0```.
  */
 /**
  * @typedef PDFImage
@@ -247,6 +449,8 @@ export class Nutrient {
  * @property { string } [filePath] The directory where the new document should be stored.
  * @property { Array<PDFImage> } images An array of the images that should be used to construct the new document.
  * @property { boolean } override If ```true```, will override existing document with the same name.
+ * @property { string } [jobId] Android only: The ID of the processing job, used by its ```RNProcessorProgress``` events and by ```cancelProcessing```. A unique ID is generated if not set.
+ * @property { number } [priority] Android only: The priority of the processing job. Queued jobs with a higher priority start first, jobs with the same priority in the order they were submitted. Defaults to ```0```.
  */
 /**
  * @typedef PDFDocumentConfiguration
@@ -259,6 +463,9 @@ export class Nutrient {
  * @property { string } [filePath] The directory where the new document should be stored.
  * @property { Array<PDFDocumentConfiguration> } documents An array of the documents that should be used to construct the new document.
  * @property { boolean } override If ```true```, will override existing document with the same name.
+ * @property { string } [jobId] Android only: The ID of the processing job, used by its ```RNProcessorProgress``` events and by ```cancelProcessing```. A unique ID is generated if not set.
+ * @property { number } [priority] Android only: The priority of the processing job. Queued jobs with a higher priority start first, jobs with the same priority in the order they were submitted. Defaults to ```0```.
+ * @property { number } [chunkSize] Android only: Merges the documents in chunks of at most this many pages. Each chunk is written to its own file before the next one is started, and the documents it took pages from are released, so only the documents of one chunk are open at a time. The chunk files are joined into the output at the end, which still takes memory that grows with the total number of pages. Recommended for merging many large documents into outputs with thousands of pages. If not set, all pages are merged at once.
  */
 /**
  * @typedef GeneratePDFConfiguration
@@ -269,6 +476,30 @@ export class Nutrient {
 /**
  * @typedef GeneratePDFResult
  * @property { string } fileURL The path on the filesystem where the new document is stored.
+ * @property { string } [jobId] Android only: The ID of the processing job that generated the document.
+ */
+/**
+ * @typedef ProcessingProgress
+ * @property { string } jobId The ID of the processing job.
+ * @property { string } outputPath The path of the document being written.
+ * @property { number } processedPages The number of pages processed so far.
+ * @property { number } totalPages The number of pages of the resulting document.
+ */
+/**
+ * @typedef ProcessingJobState
+ * @property { string } jobId The ID of the processing job.
+ * @property { string } outputPath The path of the document the job writes.
+ * @property { number } priority The priority of the job.
+ * @property { number } processedPages The number of pages processed so far.
+ * @property { number } totalPages The number of pages of the resulting document, ```0``` until the job reported progress.
+ * @property { string } [outcome] How a finished job ended: ```completed```, ```failed``` or ```cancelled```.
+ */
+/**
+ * @typedef ProcessingQueueState
+ * @property { number } maxConcurrentJobs The number of jobs that may run at the same time.
+ * @property { Array<ProcessingJobState> } queued The jobs waiting to run, in the order they will start.
+ * @property { Array<ProcessingJobState> } running The jobs currently running.
+ * @property { Array<ProcessingJobState> } finished The most recently finished jobs, newest first.
  */
 /**
  * Processor is a React Native {@link https://reactnative.dev/docs/native-modules-intro|Native Module} implementation used to call iOS and Android methods directly.
@@ -434,6 +665,39 @@ export class Processor {
      * const { fileURL } = await Processor.getTemporaryDirectory();
      */
     getTemporaryDirectory: () => Promise<any>;
+    /**
+     * Used to cancel a running processing job. Jobs write a temporary file that only replaces the output once they complete; the temporary file of a cancelled job is deleted and a file already at the output path is left untouched. The promise of the cancelled job is rejected. While processing, jobs report their progress as ```RNProcessorProgress``` events of type {@link ProcessingProgress}, emitted at most every 100 ms through ```DeviceEventEmitter```. Only has an effect on Android.
+     * @method cancelProcessing
+     * @memberof Processor
+     * @param { string } jobId The ID of the job, as passed in the ```jobId``` configuration option, the ```processedDocumentPath``` of ```processAnnotations```, or reported by its progress events.
+     * @returns { Promise<boolean> } A promise returning ```true``` if the job was cancelled, and ```false``` if no such job was running.
+     * @example
+     * const subscription = DeviceEventEmitter.addListener('RNProcessorProgress', ({ jobId, processedPages, totalPages }) => {
+     *   console.log(`${jobId}: ${processedPages}/${totalPages}`);
+     * });
+     * const merge = Processor.generatePDFFromDocuments({ ...configuration, jobId: 'merge' });
+     * await Processor.cancelProcessing('merge');
+     */
+    cancelProcessing: (jobId: string) => Promise<boolean>;
+    /**
+     * Used to get the state of the processing queue. Processing jobs wait in a queue and only a limited number of them run at the same time, so that large batches don't exhaust memory. A full queue rejects new jobs with ```E_PROCESSING_QUEUE_FULL```. Only has an effect on Android.
+     * @method getProcessingQueueState
+     * @memberof Processor
+     * @returns { Promise<ProcessingQueueState> } A promise containing the queued, running and recently finished jobs.
+     * @example
+     * const { queued, running } = await Processor.getProcessingQueueState();
+     */
+    getProcessingQueueState: () => Promise<ProcessingQueueState>;
+    /**
+     * Used to set how many processing jobs may run at the same time. Defaults to the number of processor cores minus one. Only has an effect on Android.
+     * @method setMaxConcurrentProcessingJobs
+     * @memberof Processor
+     * @param { number } count The number of jobs that may run at the same time, at least ```1```.
+     * @returns { Promise<boolean> } A promise returning ```true``` once the limit was set, and ```false``` on platforms without a processing queue.
+     * @example
+     * await Processor.setMaxConcurrentProcessingJobs(2);
+     */
+    setMaxConcurrentProcessingJobs: (count: number) => Promise<boolean>;
 }
 export type Props = {
     /**
@@ -638,6 +902,265 @@ export type PDFDocumentProperties = {
      * Indicates if the PDF document is encrypted (password protected).
      */
     isEncrypted: boolean;
+    /**
+     * The title of the document. Android only.
+     */
+    title?: string | null;
+    /**
+     * The size of every page in PDF points. Android only.
+     */
+    pageSizes?: Array<{ width: number; height: number }>;
+    /**
+     * Why the document couldn't be read. Only set on entries of ```getDocumentPropertiesBatch``` whose document failed to open, which have no ```documentId```. Android only.
+     */
+    error?: string;
+};
+export type DocumentPropertiesSweepResult = {
+    /**
+     * The number of documents whose persisted properties were checked.
+     */
+    checked: number;
+    /**
+     * The number of documents whose properties were dropped because they were deleted or became unreadable.
+     */
+    removed: number;
+    /**
+     * The number of documents whose properties were read again because they changed.
+     */
+    refreshed: number;
+};
+export type PrefetchDocumentOptions = {
+    /**
+     * The password of the document, if it is encrypted.
+     */
+    password?: string;
+    /**
+     * The number of leading pages to render in advance. Defaults to ```1```.
+     */
+    pageCount?: number;
+    /**
+     * The width of the view the document will be shown in. Defaults to the screen width.
+     */
+    width?: number;
+    /**
+     * The height of the view the document will be shown in. Defaults to the screen height.
+     */
+    height?: number;
+};
+export type PrefetchStatistics = {
+    /**
+     * The number of documents opened by a view that were prefetched.
+     */
+    hits: number;
+    /**
+     * The number of documents opened by a view that weren't prefetched.
+     */
+    misses: number;
+    /**
+     * The share of documents opened by a view that were prefetched, between ```0``` and ```1```.
+     */
+    hitRate: number;
+    /**
+     * The number of documents that were prefetched.
+     */
+    prefetched: number;
+    /**
+     * The number of prefetched documents that were dropped before a view opened them.
+     */
+    evicted: number;
+    /**
+     * The number of prefetched documents currently kept.
+     */
+    size: number;
+};
+export type LayoutStatistics = {
+    /**
+     * The number of forced layouts of the native views during the last full second. Stays close to ```0``` while the views are idle.
+     */
+    forcedLayoutsPerSecond: number;
+    /**
+     * The number of forced layouts since the app was started.
+     */
+    forcedLayouts: number;
+    /**
+     * Whether the views are laid out on every frame, see ```setContinuousLayoutEnabled```.
+     */
+    continuousLayoutEnabled: boolean;
+};
+export type PerformanceMonitoringOptions = {
+    /**
+     * How often the ```performanceReport``` notification is emitted, in milliseconds. Defaults to ```1000```.
+     */
+    reportInterval?: number;
+};
+export type PerformanceMetric = {
+    /**
+     * The number of samples.
+     */
+    count: number;
+    /**
+     * The mean of the samples.
+     */
+    mean: number;
+    /**
+     * The median of the samples.
+     */
+    p50: number;
+    /**
+     * The 95th percentile of the samples.
+     */
+    p95: number;
+    /**
+     * The 99th percentile of the samples.
+     */
+    p99: number;
+    /**
+     * The largest sample.
+     */
+    max: number;
+};
+export type PerformanceSnapshot = {
+    /**
+     * The intervals between frames, in milliseconds.
+     */
+    frames: PerformanceMetric & {
+        /**
+         * The number of frames that took longer than 1.5 times the expected frame time.
+         */
+        jankyFrames: number;
+        /**
+         * The number of frames the display skipped during janky frames.
+         */
+        droppedFrames: number;
+        /**
+         * The frame time of the display, in milliseconds.
+         */
+        expectedFrameTime: number;
+    };
+    /**
+     * The number of events sent to JS per frame.
+     */
+    bridgeEventsPerFrame: PerformanceMetric;
+    /**
+     * The time spent emitting viewport changes, in milliseconds.
+     */
+    viewportChanged: PerformanceMetric;
+    /**
+     * The time spent updating the view state, in milliseconds.
+     */
+    updateState: PerformanceMetric;
+    /**
+     * The time spent building and sending notifications, in milliseconds.
+     */
+    eventSerialization: PerformanceMetric;
+    /**
+     * Whether metrics are currently collected for the view.
+     */
+    isCollecting: boolean;
+};
+export type DocumentLoadTimings = {
+    /**
+     * The document that was loaded. Only included in the history.
+     */
+    documentPath?: string;
+    /**
+     * The time spent downloading a remote document, in milliseconds.
+     */
+    download: number | null;
+    /**
+     * The time spent opening the document, in milliseconds.
+     */
+    open: number | null;
+    /**
+     * The time spent registering the document and building the fragment that shows it, in milliseconds.
+     */
+    fragmentBuild: number | null;
+    /**
+     * The time from attaching the fragment until it loaded the document, in milliseconds.
+     */
+    attach: number | null;
+    /**
+     * The time from then until the first frame showing the document was drawn, in milliseconds.
+     */
+    firstPageRendered: number | null;
+    /**
+     * The time since the document was set, until the first frame was drawn once the load is complete, in milliseconds.
+     */
+    total: number;
+    /**
+     * Whether the first frame showing the document was drawn.
+     */
+    isComplete: boolean;
+    /**
+     * Whether the load failed or was replaced by another load.
+     */
+    failed: boolean;
+};
+export type BridgeMetricHistogram = {
+    /**
+     * The number of recorded values.
+     */
+    count: number;
+    /**
+     * The mean of the values.
+     */
+    mean: number;
+    /**
+     * The median of the values.
+     */
+    p50: number;
+    /**
+     * The 90th percentile of the values.
+     */
+    p90: number;
+    /**
+     * The 99th percentile of the values.
+     */
+    p99: number;
+    /**
+     * The 99.9th percentile of the values.
+     */
+    p999: number;
+    /**
+     * The largest value.
+     */
+    max: number;
+};
+export type BridgeMethodMetrics = {
+    /**
+     * The number of calls.
+     */
+    calls: number;
+    /**
+     * The number of calls that were rejected.
+     */
+    errors: number;
+    /**
+     * The time from the call until its work started, in milliseconds.
+     */
+    queueWait: BridgeMetricHistogram;
+    /**
+     * The time from then until the call settled, in milliseconds.
+     */
+    execution: BridgeMetricHistogram;
+    /**
+     * The approximate size of the call's payload, in bytes.
+     */
+    requestSize: BridgeMetricHistogram;
+    /**
+     * The approximate size of the result, in bytes.
+     */
+    responseSize: BridgeMetricHistogram;
+};
+export type BridgeMetrics = {
+    /**
+     * Whether metrics are being recorded.
+     */
+    enabled: boolean;
+    /**
+     * The metrics per method name.
+     */
+    methods: Record<string, BridgeMethodMetrics>;
 };
 export type BlankPDFConfiguration = {
     /**
@@ -660,6 +1183,14 @@ export type BlankPDFConfiguration = {
      * If ```true```, will override existing document with the same name.
      */
     override: boolean;
+    /**
+     * Android only: The ID of the processing job, used by its ```RNProcessorProgress``` events and by ```cancelProcessing```. A unique ID is generated if not set.
+     */
+    jobId?: string;
+    /**
+     * Android only: The priority of the processing job. Queued jobs with a higher priority start first, jobs with the same priority in the order they were submitted. Defaults to ```0```.
+     */
+    priority?: number;
 };
 export type PDFTemplatePageSize = {
     /**
@@ -728,6 +1259,14 @@ export type TemplatePDFConfiguration = {
      * If ```true```, will override existing document with the same name.
      */
     override: boolean;
+    /**
+     * Android only: The ID of the processing job, used by its ```RNProcessorProgress``` events and by ```cancelProcessing```. A unique ID is generated if not set.
+     */
+    jobId?: string;
+    /**
+     * Android only: The priority of the processing job. Queued jobs with a higher priority start first, jobs with the same priority in the order they were submitted. Defaults to ```0```.
+     */
+    priority?: number;
 };
 export type PDFImage = {
     /**
@@ -768,6 +1307,14 @@ export type ImagePDFConfiguration = {
      * If ```true```, will override existing document with the same name.
      */
     override: boolean;
+    /**
+     * Android only: The ID of the processing job, used by its ```RNProcessorProgress``` events and by ```cancelProcessing```. A unique ID is generated if not set.
+     */
+    jobId?: string;
+    /**
+     * Android only: The priority of the processing job. Queued jobs with a higher priority start first, jobs with the same priority in the order they were submitted. Defaults to ```0```.
+     */
+    priority?: number;
 };
 export type PDFDocumentConfiguration = {
     /**
@@ -796,6 +1343,18 @@ export type DocumentPDFConfiguration = {
      * If ```true```, will override existing document with the same name.
      */
     override: boolean;
+    /**
+     * Android only: The ID of the processing job, used by its ```RNProcessorProgress``` events and by ```cancelProcessing```. A unique ID is generated if not set.
+     */
+    jobId?: string;
+    /**
+     * Android only: The priority of the processing job. Queued jobs with a higher priority start first, jobs with the same priority in the order they were submitted. Defaults to ```0```.
+     */
+    priority?: number;
+    /**
+     * Android only: Merges the documents in chunks of at most this many pages. Each chunk is written to its own file before the next one is started, and the documents it took pages from are released, so only the documents of one chunk are open at a time. The chunk files are joined into the output at the end, which still takes memory that grows with the total number of pages. Recommended for merging many large documents into outputs with thousands of pages. If not set, all pages are merged at once.
+     */
+    chunkSize?: number;
 };
 export type GeneratePDFConfiguration = {
     /**
@@ -816,6 +1375,72 @@ export type GeneratePDFResult = {
      * The path on the filesystem where the new document is stored.
      */
     fileURL: string;
+    /**
+     * Android only: The ID of the processing job that generated the document.
+     */
+    jobId?: string;
+};
+export type ProcessingProgress = {
+    /**
+     * The ID of the processing job.
+     */
+    jobId: string;
+    /**
+     * The path of the document being written.
+     */
+    outputPath: string;
+    /**
+     * The number of pages processed so far.
+     */
+    processedPages: number;
+    /**
+     * The number of pages of the resulting document.
+     */
+    totalPages: number;
+};
+export type ProcessingJobState = {
+    /**
+     * The ID of the processing job.
+     */
+    jobId: string;
+    /**
+     * The path of the document the job writes.
+     */
+    outputPath: string;
+    /**
+     * The priority of the job.
+     */
+    priority: number;
+    /**
+     * The number of pages processed so far.
+     */
+    processedPages: number;
+    /**
+     * The number of pages of the resulting document, ```0``` until the job reported progress.
+     */
+    totalPages: number;
+    /**
+     * How a finished job ended.
+     */
+    outcome?: 'completed' | 'failed' | 'cancelled';
+};
+export type ProcessingQueueState = {
+    /**
+     * The number of jobs that may run at the same time.
+     */
+    maxConcurrentJobs: number;
+    /**
+     * The jobs waiting to run, in the order they will start.
+     */
+    queued: Array<ProcessingJobState>;
+    /**
+     * The jobs currently running.
+     */
+    running: Array<ProcessingJobState>;
+    /**
+     * The most recently finished jobs, newest first.
+     */
+    finished: Array<ProcessingJobState>;
 };
 /**
  * NutrientView is a React Native component used to view PDF documents on iOS and Android.
@@ -1517,6 +2142,30 @@ declare class NutrientView extends React.Component<Props, any, any> {
             height: number;
         };
     }>;
+    /**
+     * Returns the frame metrics collected for this view: frame durations, bridge events per frame and the time
+     * spent in viewport, state and event handling. Metrics are only collected while ```Nutrient.setPerformanceMonitoringEnabled```
+     * is enabled or the ```performanceReport``` notification is subscribed. Only has an effect on Android.
+     *
+     * @method getPerformanceSnapshot
+     * @memberof NutrientView
+     * @returns { Promise<PerformanceSnapshot> } A promise resolving to the metrics of the most recent frames.
+     * @example
+     * const { frames } = await this.pdfRef.current?.getPerformanceSnapshot();
+     */
+    getPerformanceSnapshot: () => Promise<PerformanceSnapshot>;
+    /**
+     * Returns how long each stage of the most recent document loads of this view took: downloading, opening, building
+     * and attaching the fragment, and drawing the first frame of the document. The same timings of the current load are
+     * included in the ```documentLoaded``` notification. Only has an effect on Android.
+     *
+     * @method getDocumentLoadHistory
+     * @memberof NutrientView
+     * @returns { Promise<DocumentLoadTimings[]> } A promise resolving to the timings of up to 10 loads, oldest first.
+     * @example
+     * const loads = await this.pdfRef.current?.getDocumentLoadHistory();
+     */
+    getDocumentLoadHistory: () => Promise<DocumentLoadTimings[]>;
     /**
      * Prevents the specified annotations from being interacted with.
      *
@@ -1712,6 +2361,12 @@ export import Bookmark = bookmark.Bookmark;
 //@ts-ignore
 import textRect = require('../src/document/TextRect');
 export import TextRect = textRect.TextRect;
+export import PageTextRects = textRect.PageTextRects;
+export import TextRectsForPagesOptions = textRect.TextRectsForPagesOptions;
+
+//@ts-ignore
+import unsavedAnnotationsExport = require('../src/document/UnsavedAnnotationsExport');
+export import UnsavedAnnotationsExport = unsavedAnnotationsExport.UnsavedAnnotationsExport;
 
 //@ts-ignore
 import formFieldConfiguration = require('../src/forms/FormFieldConfiguration');